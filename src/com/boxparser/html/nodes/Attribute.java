@@ -1,5 +1,7 @@
 package com.boxparser.html.nodes;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Map;
 
@@ -9,7 +11,7 @@ import com.boxparser.parse.HtmlParser.OutputSettings;
 public class Attribute implements Map.Entry<String, String>, Cloneable, Serializable {
     private static final long serialVersionUID = 1L;
     private String key;
-	private String value;
+	private CharSequence value; // a String once read; until then maybe a view of the parser's input
 	private char beforeChar;
 
     public Attribute(String key, String value) {
@@ -17,6 +19,13 @@ public class Attribute implements Map.Entry<String, String>, Cloneable, Serializ
     }
 
 	public Attribute(String key, String value, char beforeChar) {
+		this(key, (CharSequence) value, beforeChar);
+	}
+
+	/**
+	 * Create an attribute whose value is only turned into a String when it is first read.
+	 */
+	public Attribute(String key, CharSequence value, char beforeChar) {
 		Validate.notEmpty(key);
 		Validate.notNull(value);
 		this.key = key.trim();
@@ -35,13 +44,13 @@ public class Attribute implements Map.Entry<String, String>, Cloneable, Serializ
 	}
 
 	public String getValue() {
-		// TODO Auto-generated method stub
-		return value;
+		if (!(value instanceof String)) value = value.toString();
+		return (String) value;
 	}
 
 	public String setValue(String value) {
 		Validate.notNull(value);
-		String old = this.value;
+		String old = getValue();
 		this.value = value;
 		return old;
 	}
@@ -61,10 +70,15 @@ public class Attribute implements Map.Entry<String, String>, Cloneable, Serializ
         boolean appendChar = beforeChar != 0;
         accum.append(key).append("=");
         if (appendChar) accum.append(beforeChar);
-        accum.append(value);
+        accum.append(getValue());
         if (appendChar) accum.append(beforeChar);
         
 //		accum.append(key).append("=\"").append(value)
 //				.append("\"");
 	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		getValue(); // never serialise a view of the input
+		out.defaultWriteObject();
+	}
 }
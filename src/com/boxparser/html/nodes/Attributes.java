@@ -15,8 +15,33 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
     private static final long serialVersionUID = 1L; 
 	private LinkedHashMap<String, Attribute> attributes = null;
 
+	/**
+	 * Hook for subclasses that fill themselves in on first use, such as the parser's lazily parsed attributes. Called
+	 * before every read or write.
+	 */
+	protected void materialise() {
+	}
+
+	/**
+	 * For subclasses filling themselves in: takes the given attributes as these, without a call to
+	 * {@link #materialise()}.
+	 */
+	protected void adopt(Attributes parsed) {
+		attributes = parsed.attributes;
+	}
+
+	/**
+	 * Hook for subclasses that can write themselves out as they were read, without being materialised.
+	 * 
+	 * @return true if the attributes were appended
+	 */
+	protected boolean verbatimHtml(StringBuilder accum) {
+		return false;
+	}
+
 	public String get(String key) {
 		Validate.notEmpty(key);
+		materialise();
 
 		if (attributes == null)
 			return "";
@@ -32,6 +57,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 
 	public void put(Attribute attribute) {
 		Validate.notNull(attribute);
+		materialise();
 		if (attributes == null)
 			attributes = new LinkedHashMap<String, Attribute>(2);
 		attributes.put(attribute.getKey(), attribute);
@@ -40,6 +66,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 	public void addAll(Attributes incoming) {
 		if (incoming.size() == 0)
 			return;
+		materialise();
 		if (attributes == null)
 			attributes = new LinkedHashMap<String, Attribute>(incoming.size());
 		attributes.putAll(incoming.attributes);
@@ -50,6 +77,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 	}
 
 	public List<Attribute> asList() {
+		materialise();
 		if (attributes == null)
 			return Collections.emptyList();
 
@@ -62,16 +90,19 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 
 	public void remove(String key) {
 		Validate.notEmpty(key);
+		materialise();
 		if (attributes == null)
 			return;
 		attributes.remove(key.toLowerCase());
 	}
 
 	public boolean hasKey(String key) {
+		materialise();
 		return attributes != null && attributes.containsKey(key.toLowerCase());
 	}
 
 	public int size() {
+		materialise();
 		if (attributes == null)
 			return 0;
 		return attributes.size();
@@ -79,6 +110,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 
 	@Override
 	public Attributes clone() {
+		materialise();
 		if (attributes == null)
 			return new Attributes();
 
@@ -99,6 +131,9 @@ public class Attributes implements Iterable<Attribute>, Cloneable, Serializable
 	 * to html
 	 */
 	void html(StringBuilder accum, OutputSettings out) {
+		if (verbatimHtml(accum))
+			return;
+		materialise();
 		if (attributes == null)
 			return;
 
@@ -0,0 +1,78 @@
+package com.boxparser.html.nodes;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Which chars a charset can encode, as a bitmap filled in a page of 256 chars at a time, the first time a char in the
+ * page is asked about. One is shared per charset, so escaping asks {@link CharsetEncoder#canEncode(char)} at most once
+ * per char for the life of the program, and not from many threads on one encoder, which is not safe.
+ */
+final class CharsetEncodability {
+
+    private static final Map<Charset, CharsetEncodability> byCharset = new HashMap<Charset, CharsetEncodability>();
+    private static volatile CharsetEncodability            last;      // most documents are written in one charset
+
+    private final Charset charset;
+    private final Page[]  pages = new Page[256]; // by high byte; null until asked about
+    private final boolean supplementary;
+
+    private CharsetEncodability(Charset charset){
+        this.charset = charset;
+        String astral = new String(Character.toChars(Character.MIN_SUPPLEMENTARY_CODE_POINT));
+        this.supplementary = charset.newEncoder().canEncode(astral);
+    }
+
+    static CharsetEncodability of(Charset charset) {
+        CharsetEncodability encodability = last;
+        if (encodability != null && encodability.charset.equals(charset)) return encodability;
+        synchronized (byCharset) {
+            encodability = byCharset.get(charset);
+            if (encodability == null) {
+                encodability = new CharsetEncodability(charset);
+                byCharset.put(charset, encodability);
+            }
+        }
+        last = encodability;
+        return encodability;
+    }
+
+    boolean canEncode(char c) {
+        Page page = pages[c >>> 8];
+        if (page == null) page = fill(c >>> 8);
+        return (page.bits[(c & 0xFF) >>> 6] & (1L << c)) != 0;
+    }
+
+    /**
+     * @return if the charset can encode chars past U+FFFF; those that encode any, the Unicode ones, encode them all
+     */
+    boolean canEncodeSupplementary() {
+        return supplementary;
+    }
+
+    private synchronized Page fill(int high) {
+        if (pages[high] != null) return pages[high];
+        CharsetEncoder encoder = charset.newEncoder();
+        long[] bits = new long[4];
+        for (int low = 0; low < 256; low++) {
+            if (encoder.canEncode((char) (high << 8 | low))) bits[low >>> 6] |= 1L << low;
+        }
+        Page page = new Page(bits);
+        pages[high] = page;
+        return page;
+    }
+
+    /**
+     * A filled page; the final field makes its bits visible to threads that see the page unsynchronized.
+     */
+    private static final class Page {
+
+        final long[] bits;
+
+        Page(long[] bits){
+            this.bits = bits;
+        }
+    }
+}
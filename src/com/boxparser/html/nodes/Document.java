@@ -1,5 +1,6 @@
 package com.boxparser.html.nodes;
 
+import com.boxparser.parse.LineIndex;
 import com.boxparser.parse.Tag;
 import com.boxparser.parse.HtmlParser.OutputSettings;
 
@@ -7,6 +8,7 @@ public class Document extends Element {
 
     private static final long serialVersionUID = 1L;
     private transient OutputSettings outputSettings = null;
+    private transient LineIndex      sourceLines;
     
     public Document(){
         super();
@@ -28,6 +30,18 @@ public class Document extends Element {
         return html;
     }
     
+    /**
+     * @return the lines of the input, to resolve node source positions to lines and columns; null unless the parse
+     *         tracked positions or errors
+     */
+    public LineIndex sourceLines() {
+        return sourceLines;
+    }
+
+    public void sourceLines(LineIndex sourceLines) {
+        this.sourceLines = sourceLines;
+    }
+
     public OutputSettings outputSettings() {
         if (outputSettings == null) {
             outputSettings = new OutputSettings();
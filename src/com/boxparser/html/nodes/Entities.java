@@ -1,10 +1,8 @@
 package com.boxparser.html.nodes;
 
-import java.nio.charset.CharsetEncoder;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.boxparser.parse.HtmlParser.OutputSettings;
 
@@ -18,31 +16,67 @@ public class Entities {
 		 * Restricted entities suitable for XHTML output: lt, gt, amp, apos, and
 		 * quot only.
 		 */
-		xhtml(xhtmlByVal),
+		xhtml(xhtmlData),
 		/** Default HTML output entities. */
-		base(baseByVal),
+		base(baseData),
 		/** Complete HTML entities. */
-		extended(fullByVal);
+		extended(null);
 
-		private Map<Character, String> map;
+		private final String packed; // the mode's entities; null for all
+		private volatile Map<Character, String> map; // unpacked on first use
+		private String[][] pages; // "&name;" by char, in pages by high byte;
+		// null pages have no names. Set before map
 
-		EscapeMode(Map<Character, String> map) {
-			this.map = map;
+		EscapeMode(String packed) {
+			this.packed = packed;
 		}
 
 		public Map<Character, String> getMap() {
+			if (map == null)
+				unpack();
 			return map;
 		}
-	}
 
-	private static final Map<String, Character> full;
-	private static final Map<Character, String> xhtmlByVal;
-	private static final Map<Character, String> baseByVal;
-	private static final Map<Character, String> fullByVal;
-	private static final Pattern unescapePattern = Pattern
-			.compile("&(#(x|X)?([0-9a-fA-F]+)|[a-zA-Z]+\\d*);?");
-	private static final Pattern strictUnescapePattern = Pattern
-			.compile("&(#(x|X)?([0-9a-fA-F]+)|[a-zA-Z]+\\d*);");
+		/**
+		 * @return the mode's entities by char, for {@link #named}
+		 */
+		String[][] pages() {
+			if (map == null)
+				unpack();
+			return pages;
+		}
+
+		private synchronized void unpack() {
+			if (map != null)
+				return;
+			EntityTable table = packed != null ? new EntityTable(packed)
+					: fullTable();
+			Map<Character, String> byVal = new HashMap<Character, String>(
+					table.size() * 2);
+			for (int i = 0; i < table.size(); i++)
+				if (table.codePoint(i) <= Character.MAX_VALUE) // astral ones are written numbered
+					byVal.put((char) table.codePoint(i), table.name(i));
+			String[][] byPage = new String[256][];
+			for (Map.Entry<Character, String> entry : byVal.entrySet()) {
+				char c = entry.getKey();
+				String[] page = byPage[c >>> 8];
+				if (page == null)
+					page = byPage[c >>> 8] = new String[256];
+				page[c & 0xFF] = "&" + entry.getValue() + ";";
+			}
+			pages = byPage;
+			map = byVal;
+		}
+
+		/**
+		 * @return the char as a named entity, such as {@code &amp;amp;}, or
+		 *         null if it has no name in the mode of the pages
+		 */
+		static String named(String[][] pages, char c) {
+			String[] page = pages[c >>> 8];
+			return page == null ? null : page[c & 0xFF];
+		}
+	}
 
 	private Entities() {
 	}
@@ -55,7 +89,7 @@ public class Entities {
 	 * @return true if a known named entity
 	 */
 	public static boolean isNamedEntity(String name) {
-		return full.containsKey(name);
+		return ByName.full.containsKey(name);
 	}
 
 /**
@@ -64,33 +98,107 @@ public class Entities {
      * @return the Character value of the named entity (e.g. '<' or '&')
      */
 	public static Character getCharacterByName(String name) {
-		return full.get(name);
+		return ByName.full.get(name);
+	}
+
+	/**
+	 * The named entities as a trie, to match the longest name in one pass
+	 * over the input. Built on first use.
+	 * 
+	 * @return the trie of all named entities
+	 */
+	public static EntityTrie trie() {
+		return TrieHolder.trie;
+	}
+
+	private static final class TrieHolder {
+		static final EntityTrie trie = new EntityTrie(fullTable());
+	}
+
+	private static final class ByName {
+		static final Map<String, Character> full;
+
+		static {
+			EntityTable table = fullTable();
+			full = new HashMap<String, Character>(table.size() * 2);
+			for (int i = 0; i < table.size(); i++)
+				full.put(table.name(i), (char) table.codePoint(i));
+		}
+	}
+
+	/**
+	 * All the named entities, unpacked the first time the trie, the lookup by
+	 * name or the extended escape mode needs them.
+	 */
+	static EntityTable fullTable() {
+		return FullTable.table;
+	}
+
+	private static final class FullTable {
+		static final EntityTable table = new EntityTable(fullData);
 	}
 
 	public static String escape(String string){
 	    return escape(string, OutputSettings.defaultOutputSettings());
 	}
 	
-	static String escape(String string, CharsetEncoder encoder,
-			EscapeMode escapeMode) {
-		StringBuilder accum = new StringBuilder(string.length() * 2);
-		Map<Character, String> map = escapeMode.getMap();
+	/**
+	 * Escapes chars with a name in the mode as named entities, and chars the
+	 * charset can't encode as numbered ones. A surrogate pair is taken as the
+	 * one char it encodes.
+	 * 
+	 * @return the escaped string; the input itself if no char needed escaping
+	 */
+	static String escape(String string, Charset charset, EscapeMode escapeMode) {
+		CharsetEncodability encodable = CharsetEncodability.of(charset);
+		String[][] pages = escapeMode.pages();
+		int len = string.length();
+		int pos = 0;
+		while (pos < len) {
+			char c = string.charAt(pos);
+			if (isPair(string, pos)) {
+				if (!encodable.canEncodeSupplementary())
+					break;
+				pos += 2;
+				continue;
+			}
+			if (EscapeMode.named(pages, c) != null || !encodable.canEncode(c))
+				break;
+			pos++;
+		}
+		if (pos == len)
+			return string;
 
-		for (int pos = 0; pos < string.length(); pos++) {
-			Character c = string.charAt(pos);
-			if (map.containsKey(c))
-				accum.append('&').append(map.get(c)).append(';');
-			else if (encoder.canEncode(c))
-				accum.append(c.charValue());
+		StringBuilder accum = new StringBuilder(len + 16);
+		accum.append(string, 0, pos);
+		for (; pos < len; pos++) {
+			char c = string.charAt(pos);
+			if (isPair(string, pos)) {
+				if (encodable.canEncodeSupplementary())
+					accum.append(c).append(string.charAt(pos + 1));
+				else
+					accum.append("&#").append(string.codePointAt(pos)).append(';');
+				pos++;
+				continue;
+			}
+			String named = EscapeMode.named(pages, c);
+			if (named != null)
+				accum.append(named);
+			else if (encodable.canEncode(c))
+				accum.append(c);
 			else
 				accum.append("&#").append((int) c).append(';');
 		}
-
 		return accum.toString();
 	}
 
+	private static boolean isPair(String string, int pos) {
+		return Character.isHighSurrogate(string.charAt(pos)) && pos + 1 < string.length()
+				&& Character.isLowSurrogate(string.charAt(pos + 1));
+	}
+
 	static String escape(String string, OutputSettings out) {
-		return escape(string, out.encoder(), out.escapeMode());
+		return escape(string, out.charset(), out.escapeMode());
 	}
 
 	public static String unescape(String string) {
@@ -98,946 +206,391 @@ public class Entities {
 	}
 
 	/**
-	 * Unescape the input string.
+	 * Unescape the input string: decode {@code &name;}, {@code &#nn;} and
+	 * {@code &#xhh;} references. A reference that does not resolve is left as
+	 * written.
 	 * 
 	 * @param string
 	 * @param strict
 	 *            if "strict" (that is, requires trailing ';' char, otherwise
 	 *            that's optional)
-	 * @return
+	 * @return the unescaped string; the input itself if there was nothing to
+	 *         decode
 	 */
 	public static String unescape(String string, boolean strict) {
-		// todo: change this method to use Tokeniser.consumeCharacterReference
-		if (!string.contains("&"))
+		int pos = string.indexOf('&');
+		if (pos == -1)
 			return string;
 
-		Matcher m = strict ? strictUnescapePattern.matcher(string)
-				: unescapePattern.matcher(string); // &(#(x|X)?([0-9a-fA-F]+)|[a-zA-Z]\\d*);?
-		StringBuffer accum = new StringBuffer(string.length()); // pity matcher
-																// can't use
-																// stringbuilder,
-																// avoid syncs
-		// todo: replace m.appendReplacement with own impl, so StringBuilder and
-		// quoteReplacement not required
-
-		while (m.find()) {
-			int charval = -1;
-			String num = m.group(3);
-			if (num != null) {
-				try {
-					int base = m.group(2) != null ? 16 : 10; // 2 is hex
-																// indicator
-					charval = Integer.valueOf(num, base);
-				} catch (NumberFormatException e) {
-				} // skip
-			} else {
-				String name = m.group(1);
-				if (full.containsKey(name))
-					charval = full.get(name);
+		EntityTrie trie = trie();
+		int len = string.length();
+		StringBuilder accum = null; // made at the first reference decoded
+		int copied = 0; // input before this is in accum
+		for (; pos != -1; pos = string.indexOf('&', pos)) {
+			int start = pos;
+			int i = pos + 1;
+			int codePoint;
+			if (i < len && string.charAt(i) == '#') { // &#nn; or &#xhh;
+				i++;
+				int base = 10;
+				if (i + 1 < len && (string.charAt(i) == 'x' || string.charAt(i) == 'X')
+						&& isHexDigit(string.charAt(i + 1))) {
+					base = 16;
+					i++;
+				}
+				int digits = i;
+				long value = 0;
+				for (; i < len && isHexDigit(string.charAt(i)); i++) {
+					int digit = Character.digit(string.charAt(i), base);
+					if (digit == -1 || value > Character.MAX_CODE_POINT)
+						value = -1; // hex digits in a decimal reference
+					else if (value != -1)
+						value = value * base + digit;
+				}
+				if (i == digits) { // no numerals: not a reference
+					pos = i;
+					continue;
+				}
+				codePoint = value > Character.MAX_CODE_POINT ? -1 : (int) value;
+			} else { // &name; the name's letters, then any digits
+				int node = EntityTrie.root;
+				for (; i < len && isAsciiLetter(string.charAt(i)); i++)
+					if (node != -1)
+						node = trie.next(node, string.charAt(i));
+				if (i == pos + 1) {
+					pos = i;
+					continue;
+				}
+				for (; i < len && string.charAt(i) >= '0' && string.charAt(i) <= '9'; i++)
+					if (node != -1)
+						node = trie.next(node, string.charAt(i));
+				codePoint = node != -1 ? trie.codePoint(node) : -1;
 			}
 
-			if (charval != -1 || charval > 0xFFFF) { // out of range
-				String c = Character.toString((char) charval);
-				m.appendReplacement(accum, Matcher.quoteReplacement(c));
-			} else {
-				m
-						.appendReplacement(accum, Matcher.quoteReplacement(m
-								.group(0))); // replace with original string
+			boolean semicolon = i < len && string.charAt(i) == ';';
+			if (strict && !semicolon) {
+				pos = start + 1;
+				continue;
 			}
+			pos = semicolon ? i + 1 : i;
+			if (codePoint == -1) // unknown name, or out of range: as written
+				continue;
+
+			if (accum == null)
+				accum = new StringBuilder(len);
+			accum.append(string, copied, start).appendCodePoint(codePoint);
+			copied = pos;
 		}
-		m.appendTail(accum);
-		return accum.toString();
+		if (accum == null)
+			return string;
+		return accum.append(string, copied, len).toString();
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isHexDigit(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')
+				|| (c >= 'A' && c <= 'F');
 	}
 
 	// xhtml has restricted entities
-	private static final Object[][] xhtmlArray = { { "quot", 0x00022 },
-			{ "amp", 0x00026 }, { "apos", 0x00027 }, { "lt", 0x0003C },
-			{ "gt", 0x0003E } };
+	private static final String xhtmlData = "amp=26;apos=27;gt=3e;lt=3c;quot=22;";
 
 	// most common, base entities can be unescaped without trailing ;
 	// e.g. &amp
-	private static final Object[][] baseArray = { { "AElig", 0x000C6 },
-			{ "AMP", 0x00026 }, { "Aacute", 0x000C1 }, { "Acirc", 0x000C2 },
-			{ "Agrave", 0x000C0 }, { "Aring", 0x000C5 }, { "Atilde", 0x000C3 },
-			{ "Auml", 0x000C4 }, { "COPY", 0x000A9 }, { "Ccedil", 0x000C7 },
-			{ "ETH", 0x000D0 }, { "Eacute", 0x000C9 }, { "Ecirc", 0x000CA },
-			{ "Egrave", 0x000C8 }, { "Euml", 0x000CB }, { "GT", 0x0003E },
-			{ "Iacute", 0x000CD }, { "Icirc", 0x000CE }, { "Igrave", 0x000CC },
-			{ "Iuml", 0x000CF }, { "LT", 0x0003C }, { "Ntilde", 0x000D1 },
-			{ "Oacute", 0x000D3 }, { "Ocirc", 0x000D4 }, { "Ograve", 0x000D2 },
-			{ "Oslash", 0x000D8 }, { "Otilde", 0x000D5 }, { "Ouml", 0x000D6 },
-			{ "QUOT", 0x00022 }, { "REG", 0x000AE }, { "THORN", 0x000DE },
-			{ "Uacute", 0x000DA }, { "Ucirc", 0x000DB }, { "Ugrave", 0x000D9 },
-			{ "Uuml", 0x000DC }, { "Yacute", 0x000DD }, { "aacute", 0x000E1 },
-			{ "acirc", 0x000E2 }, { "acute", 0x000B4 }, { "aelig", 0x000E6 },
-			{ "agrave", 0x000E0 }, { "amp", 0x00026 }, { "aring", 0x000E5 },
-			{ "atilde", 0x000E3 }, { "auml", 0x000E4 }, { "brvbar", 0x000A6 },
-			{ "ccedil", 0x000E7 }, { "cedil", 0x000B8 }, { "cent", 0x000A2 },
-			{ "copy", 0x000A9 }, { "curren", 0x000A4 }, { "deg", 0x000B0 },
-			{ "divide", 0x000F7 }, { "eacute", 0x000E9 }, { "ecirc", 0x000EA },
-			{ "egrave", 0x000E8 }, { "eth", 0x000F0 }, { "euml", 0x000EB },
-			{ "frac12", 0x000BD }, { "frac14", 0x000BC },
-			{ "frac34", 0x000BE }, { "gt", 0x0003E }, { "iacute", 0x000ED },
-			{ "icirc", 0x000EE }, { "iexcl", 0x000A1 }, { "igrave", 0x000EC },
-			{ "iquest", 0x000BF }, { "iuml", 0x000EF }, { "laquo", 0x000AB },
-			{ "lt", 0x0003C }, { "macr", 0x000AF }, { "micro", 0x000B5 },
-			{ "middot", 0x000B7 }, { "nbsp", 0x000A0 }, { "not", 0x000AC },
-			{ "ntilde", 0x000F1 }, { "oacute", 0x000F3 }, { "ocirc", 0x000F4 },
-			{ "ograve", 0x000F2 }, { "ordf", 0x000AA }, { "ordm", 0x000BA },
-			{ "oslash", 0x000F8 }, { "otilde", 0x000F5 }, { "ouml", 0x000F6 },
-			{ "para", 0x000B6 }, { "plusmn", 0x000B1 }, { "pound", 0x000A3 },
-			{ "quot", 0x00022 }, { "raquo", 0x000BB }, { "reg", 0x000AE },
-			{ "sect", 0x000A7 }, { "shy", 0x000AD }, { "sup1", 0x000B9 },
-			{ "sup2", 0x000B2 }, { "sup3", 0x000B3 }, { "szlig", 0x000DF },
-			{ "thorn", 0x000FE }, { "times", 0x000D7 }, { "uacute", 0x000FA },
-			{ "ucirc", 0x000FB }, { "ugrave", 0x000F9 }, { "uml", 0x000A8 },
-			{ "uuml", 0x000FC }, { "yacute", 0x000FD }, { "yen", 0x000A5 },
-			{ "yuml", 0x000FF } };
+	private static final String baseData = "AElig=c6;AMP=26;Aacute=c1;Acirc=c2;Agrave=c0;Aring=c5;Atilde=c3;Auml=c4;COPY=a9;Ccedil=c7;"
+			+ "ETH=d0;Eacute=c9;Ecirc=ca;Egrave=c8;Euml=cb;GT=3e;Iacute=cd;Icirc=ce;Igrave=cc;Iuml=cf;LT=3c;"
+			+ "Ntilde=d1;Oacute=d3;Ocirc=d4;Ograve=d2;Oslash=d8;Otilde=d5;Ouml=d6;QUOT=22;REG=ae;THORN=de;"
+			+ "Uacute=da;Ucirc=db;Ugrave=d9;Uuml=dc;Yacute=dd;aacute=e1;acirc=e2;acute=b4;aelig=e6;agrave=e0;"
+			+ "amp=26;aring=e5;atilde=e3;auml=e4;brvbar=a6;ccedil=e7;cedil=b8;cent=a2;copy=a9;curren=a4;deg=b0;"
+			+ "divide=f7;eacute=e9;ecirc=ea;egrave=e8;eth=f0;euml=eb;frac12=bd;frac14=bc;frac34=be;gt=3e;"
+			+ "iacute=ed;icirc=ee;iexcl=a1;igrave=ec;iquest=bf;iuml=ef;laquo=ab;lt=3c;macr=af;micro=b5;"
+			+ "middot=b7;nbsp=a0;not=ac;ntilde=f1;oacute=f3;ocirc=f4;ograve=f2;ordf=aa;ordm=ba;oslash=f8;"
+			+ "otilde=f5;ouml=f6;para=b6;plusmn=b1;pound=a3;quot=22;raquo=bb;reg=ae;sect=a7;shy=ad;sup1=b9;"
+			+ "sup2=b2;sup3=b3;szlig=df;thorn=fe;times=d7;uacute=fa;ucirc=fb;ugrave=f9;uml=a8;uuml=fc;"
+			+ "yacute=fd;yen=a5;yuml=ff;";
 
-	// in most situations, will be better to use UTF8 and use the character
-	// directly, or use the numerical escape.
-	// are people really likely to remember "&CounterClockwiseContourIntegral;"?
-	// good grief.
-	private static final Object[][] fullArray = { { "AElig", 0x000C6 },
-			{ "AMP", 0x00026 }, { "Aacute", 0x000C1 }, { "Abreve", 0x00102 },
-			{ "Acirc", 0x000C2 }, { "Acy", 0x00410 }, { "Afr", 0x1D504 },
-			{ "Agrave", 0x000C0 }, { "Alpha", 0x00391 }, { "Amacr", 0x00100 },
-			{ "And", 0x02A53 }, { "Aogon", 0x00104 }, { "Aopf", 0x1D538 },
-			{ "ApplyFunction", 0x02061 }, { "Aring", 0x000C5 },
-			{ "Ascr", 0x1D49C }, { "Assign", 0x02254 }, { "Atilde", 0x000C3 },
-			{ "Auml", 0x000C4 }, { "Backslash", 0x02216 }, { "Barv", 0x02AE7 },
-			{ "Barwed", 0x02306 }, { "Bcy", 0x00411 }, { "Because", 0x02235 },
-			{ "Bernoullis", 0x0212C }, { "Beta", 0x00392 }, { "Bfr", 0x1D505 },
-			{ "Bopf", 0x1D539 }, { "Breve", 0x002D8 }, { "Bscr", 0x0212C },
-			{ "Bumpeq", 0x0224E }, { "CHcy", 0x00427 }, { "COPY", 0x000A9 },
-			{ "Cacute", 0x00106 }, { "Cap", 0x022D2 },
-			{ "CapitalDifferentialD", 0x02145 }, { "Cayleys", 0x0212D },
-			{ "Ccaron", 0x0010C }, { "Ccedil", 0x000C7 }, { "Ccirc", 0x00108 },
-			{ "Cconint", 0x02230 }, { "Cdot", 0x0010A },
-			{ "Cedilla", 0x000B8 }, { "CenterDot", 0x000B7 },
-			{ "Cfr", 0x0212D }, { "Chi", 0x003A7 }, { "CircleDot", 0x02299 },
-			{ "CircleMinus", 0x02296 }, { "CirclePlus", 0x02295 },
-			{ "CircleTimes", 0x02297 },
-			{ "ClockwiseContourIntegral", 0x02232 },
-			{ "CloseCurlyDoubleQuote", 0x0201D },
-			{ "CloseCurlyQuote", 0x02019 }, { "Colon", 0x02237 },
-			{ "Colone", 0x02A74 }, { "Congruent", 0x02261 },
-			{ "Conint", 0x0222F }, { "ContourIntegral", 0x0222E },
-			{ "Copf", 0x02102 }, { "Coproduct", 0x02210 },
-			{ "CounterClockwiseContourIntegral", 0x02233 },
-			{ "Cross", 0x02A2F }, { "Cscr", 0x1D49E }, { "Cup", 0x022D3 },
-			{ "CupCap", 0x0224D }, { "DD", 0x02145 }, { "DDotrahd", 0x02911 },
-			{ "DJcy", 0x00402 }, { "DScy", 0x00405 }, { "DZcy", 0x0040F },
-			{ "Dagger", 0x02021 }, { "Darr", 0x021A1 }, { "Dashv", 0x02AE4 },
-			{ "Dcaron", 0x0010E }, { "Dcy", 0x00414 }, { "Del", 0x02207 },
-			{ "Delta", 0x00394 }, { "Dfr", 0x1D507 },
-			{ "DiacriticalAcute", 0x000B4 }, { "DiacriticalDot", 0x002D9 },
-			{ "DiacriticalDoubleAcute", 0x002DD },
-			{ "DiacriticalGrave", 0x00060 }, { "DiacriticalTilde", 0x002DC },
-			{ "Diamond", 0x022C4 }, { "DifferentialD", 0x02146 },
-			{ "Dopf", 0x1D53B }, { "Dot", 0x000A8 }, { "DotDot", 0x020DC },
-			{ "DotEqual", 0x02250 }, { "DoubleContourIntegral", 0x0222F },
-			{ "DoubleDot", 0x000A8 }, { "DoubleDownArrow", 0x021D3 },
-			{ "DoubleLeftArrow", 0x021D0 },
-			{ "DoubleLeftRightArrow", 0x021D4 }, { "DoubleLeftTee", 0x02AE4 },
-			{ "DoubleLongLeftArrow", 0x027F8 },
-			{ "DoubleLongLeftRightArrow", 0x027FA },
-			{ "DoubleLongRightArrow", 0x027F9 },
-			{ "DoubleRightArrow", 0x021D2 }, { "DoubleRightTee", 0x022A8 },
-			{ "DoubleUpArrow", 0x021D1 }, { "DoubleUpDownArrow", 0x021D5 },
-			{ "DoubleVerticalBar", 0x02225 }, { "DownArrow", 0x02193 },
-			{ "DownArrowBar", 0x02913 }, { "DownArrowUpArrow", 0x021F5 },
-			{ "DownBreve", 0x00311 }, { "DownLeftRightVector", 0x02950 },
-			{ "DownLeftTeeVector", 0x0295E }, { "DownLeftVector", 0x021BD },
-			{ "DownLeftVectorBar", 0x02956 },
-			{ "DownRightTeeVector", 0x0295F }, { "DownRightVector", 0x021C1 },
-			{ "DownRightVectorBar", 0x02957 }, { "DownTee", 0x022A4 },
-			{ "DownTeeArrow", 0x021A7 }, { "Downarrow", 0x021D3 },
-			{ "Dscr", 0x1D49F }, { "Dstrok", 0x00110 }, { "ENG", 0x0014A },
-			{ "ETH", 0x000D0 }, { "Eacute", 0x000C9 }, { "Ecaron", 0x0011A },
-			{ "Ecirc", 0x000CA }, { "Ecy", 0x0042D }, { "Edot", 0x00116 },
-			{ "Efr", 0x1D508 }, { "Egrave", 0x000C8 }, { "Element", 0x02208 },
-			{ "Emacr", 0x00112 }, { "EmptySmallSquare", 0x025FB },
-			{ "EmptyVerySmallSquare", 0x025AB }, { "Eogon", 0x00118 },
-			{ "Eopf", 0x1D53C }, { "Epsilon", 0x00395 }, { "Equal", 0x02A75 },
-			{ "EqualTilde", 0x02242 }, { "Equilibrium", 0x021CC },
-			{ "Escr", 0x02130 }, { "Esim", 0x02A73 }, { "Eta", 0x00397 },
-			{ "Euml", 0x000CB }, { "Exists", 0x02203 },
-			{ "ExponentialE", 0x02147 }, { "Fcy", 0x00424 },
-			{ "Ffr", 0x1D509 }, { "FilledSmallSquare", 0x025FC },
-			{ "FilledVerySmallSquare", 0x025AA }, { "Fopf", 0x1D53D },
-			{ "ForAll", 0x02200 }, { "Fouriertrf", 0x02131 },
-			{ "Fscr", 0x02131 }, { "GJcy", 0x00403 }, { "GT", 0x0003E },
-			{ "Gamma", 0x00393 }, { "Gammad", 0x003DC }, { "Gbreve", 0x0011E },
-			{ "Gcedil", 0x00122 }, { "Gcirc", 0x0011C }, { "Gcy", 0x00413 },
-			{ "Gdot", 0x00120 }, { "Gfr", 0x1D50A }, { "Gg", 0x022D9 },
-			{ "Gopf", 0x1D53E }, { "GreaterEqual", 0x02265 },
-			{ "GreaterEqualLess", 0x022DB }, { "GreaterFullEqual", 0x02267 },
-			{ "GreaterGreater", 0x02AA2 }, { "GreaterLess", 0x02277 },
-			{ "GreaterSlantEqual", 0x02A7E }, { "GreaterTilde", 0x02273 },
-			{ "Gscr", 0x1D4A2 }, { "Gt", 0x0226B }, { "HARDcy", 0x0042A },
-			{ "Hacek", 0x002C7 }, { "Hat", 0x0005E }, { "Hcirc", 0x00124 },
-			{ "Hfr", 0x0210C }, { "HilbertSpace", 0x0210B },
-			{ "Hopf", 0x0210D }, { "HorizontalLine", 0x02500 },
-			{ "Hscr", 0x0210B }, { "Hstrok", 0x00126 },
-			{ "HumpDownHump", 0x0224E }, { "HumpEqual", 0x0224F },
-			{ "IEcy", 0x00415 }, { "IJlig", 0x00132 }, { "IOcy", 0x00401 },
-			{ "Iacute", 0x000CD }, { "Icirc", 0x000CE }, { "Icy", 0x00418 },
-			{ "Idot", 0x00130 }, { "Ifr", 0x02111 }, { "Igrave", 0x000CC },
-			{ "Im", 0x02111 }, { "Imacr", 0x0012A }, { "ImaginaryI", 0x02148 },
-			{ "Implies", 0x021D2 }, { "Int", 0x0222C },
-			{ "Integral", 0x0222B }, { "Intersection", 0x022C2 },
-			{ "InvisibleComma", 0x02063 }, { "InvisibleTimes", 0x02062 },
-			{ "Iogon", 0x0012E }, { "Iopf", 0x1D540 }, { "Iota", 0x00399 },
-			{ "Iscr", 0x02110 }, { "Itilde", 0x00128 }, { "Iukcy", 0x00406 },
-			{ "Iuml", 0x000CF }, { "Jcirc", 0x00134 }, { "Jcy", 0x00419 },
-			{ "Jfr", 0x1D50D }, { "Jopf", 0x1D541 }, { "Jscr", 0x1D4A5 },
-			{ "Jsercy", 0x00408 }, { "Jukcy", 0x00404 }, { "KHcy", 0x00425 },
-			{ "KJcy", 0x0040C }, { "Kappa", 0x0039A }, { "Kcedil", 0x00136 },
-			{ "Kcy", 0x0041A }, { "Kfr", 0x1D50E }, { "Kopf", 0x1D542 },
-			{ "Kscr", 0x1D4A6 }, { "LJcy", 0x00409 }, { "LT", 0x0003C },
-			{ "Lacute", 0x00139 }, { "Lambda", 0x0039B }, { "Lang", 0x027EA },
-			{ "Laplacetrf", 0x02112 }, { "Larr", 0x0219E },
-			{ "Lcaron", 0x0013D }, { "Lcedil", 0x0013B }, { "Lcy", 0x0041B },
-			{ "LeftAngleBracket", 0x027E8 }, { "LeftArrow", 0x02190 },
-			{ "LeftArrowBar", 0x021E4 }, { "LeftArrowRightArrow", 0x021C6 },
-			{ "LeftCeiling", 0x02308 }, { "LeftDoubleBracket", 0x027E6 },
-			{ "LeftDownTeeVector", 0x02961 }, { "LeftDownVector", 0x021C3 },
-			{ "LeftDownVectorBar", 0x02959 }, { "LeftFloor", 0x0230A },
-			{ "LeftRightArrow", 0x02194 }, { "LeftRightVector", 0x0294E },
-			{ "LeftTee", 0x022A3 }, { "LeftTeeArrow", 0x021A4 },
-			{ "LeftTeeVector", 0x0295A }, { "LeftTriangle", 0x022B2 },
-			{ "LeftTriangleBar", 0x029CF }, { "LeftTriangleEqual", 0x022B4 },
-			{ "LeftUpDownVector", 0x02951 }, { "LeftUpTeeVector", 0x02960 },
-			{ "LeftUpVector", 0x021BF }, { "LeftUpVectorBar", 0x02958 },
-			{ "LeftVector", 0x021BC }, { "LeftVectorBar", 0x02952 },
-			{ "Leftarrow", 0x021D0 }, { "Leftrightarrow", 0x021D4 },
-			{ "LessEqualGreater", 0x022DA }, { "LessFullEqual", 0x02266 },
-			{ "LessGreater", 0x02276 }, { "LessLess", 0x02AA1 },
-			{ "LessSlantEqual", 0x02A7D }, { "LessTilde", 0x02272 },
-			{ "Lfr", 0x1D50F }, { "Ll", 0x022D8 }, { "Lleftarrow", 0x021DA },
-			{ "Lmidot", 0x0013F }, { "LongLeftArrow", 0x027F5 },
-			{ "LongLeftRightArrow", 0x027F7 }, { "LongRightArrow", 0x027F6 },
-			{ "Longleftarrow", 0x027F8 }, { "Longleftrightarrow", 0x027FA },
-			{ "Longrightarrow", 0x027F9 }, { "Lopf", 0x1D543 },
-			{ "LowerLeftArrow", 0x02199 }, { "LowerRightArrow", 0x02198 },
-			{ "Lscr", 0x02112 }, { "Lsh", 0x021B0 }, { "Lstrok", 0x00141 },
-			{ "Lt", 0x0226A }, { "Map", 0x02905 }, { "Mcy", 0x0041C },
-			{ "MediumSpace", 0x0205F }, { "Mellintrf", 0x02133 },
-			{ "Mfr", 0x1D510 }, { "MinusPlus", 0x02213 }, { "Mopf", 0x1D544 },
-			{ "Mscr", 0x02133 }, { "Mu", 0x0039C }, { "NJcy", 0x0040A },
-			{ "Nacute", 0x00143 }, { "Ncaron", 0x00147 },
-			{ "Ncedil", 0x00145 }, { "Ncy", 0x0041D },
-			{ "NegativeMediumSpace", 0x0200B },
-			{ "NegativeThickSpace", 0x0200B },
-			{ "NegativeThinSpace", 0x0200B },
-			{ "NegativeVeryThinSpace", 0x0200B },
-			{ "NestedGreaterGreater", 0x0226B }, { "NestedLessLess", 0x0226A },
-			{ "NewLine", 0x0000A }, { "Nfr", 0x1D511 }, { "NoBreak", 0x02060 },
-			{ "NonBreakingSpace", 0x000A0 }, { "Nopf", 0x02115 },
-			{ "Not", 0x02AEC }, { "NotCongruent", 0x02262 },
-			{ "NotCupCap", 0x0226D }, { "NotDoubleVerticalBar", 0x02226 },
-			{ "NotElement", 0x02209 }, { "NotEqual", 0x02260 },
-			{ "NotExists", 0x02204 }, { "NotGreater", 0x0226F },
-			{ "NotGreaterEqual", 0x02271 }, { "NotGreaterLess", 0x02279 },
-			{ "NotGreaterTilde", 0x02275 }, { "NotLeftTriangle", 0x022EA },
-			{ "NotLeftTriangleEqual", 0x022EC }, { "NotLess", 0x0226E },
-			{ "NotLessEqual", 0x02270 }, { "NotLessGreater", 0x02278 },
-			{ "NotLessTilde", 0x02274 }, { "NotPrecedes", 0x02280 },
-			{ "NotPrecedesSlantEqual", 0x022E0 },
-			{ "NotReverseElement", 0x0220C }, { "NotRightTriangle", 0x022EB },
-			{ "NotRightTriangleEqual", 0x022ED },
-			{ "NotSquareSubsetEqual", 0x022E2 },
-			{ "NotSquareSupersetEqual", 0x022E3 },
-			{ "NotSubsetEqual", 0x02288 }, { "NotSucceeds", 0x02281 },
-			{ "NotSucceedsSlantEqual", 0x022E1 },
-			{ "NotSupersetEqual", 0x02289 }, { "NotTilde", 0x02241 },
-			{ "NotTildeEqual", 0x02244 }, { "NotTildeFullEqual", 0x02247 },
-			{ "NotTildeTilde", 0x02249 }, { "NotVerticalBar", 0x02224 },
-			{ "Nscr", 0x1D4A9 }, { "Ntilde", 0x000D1 }, { "Nu", 0x0039D },
-			{ "OElig", 0x00152 }, { "Oacute", 0x000D3 }, { "Ocirc", 0x000D4 },
-			{ "Ocy", 0x0041E }, { "Odblac", 0x00150 }, { "Ofr", 0x1D512 },
-			{ "Ograve", 0x000D2 }, { "Omacr", 0x0014C }, { "Omega", 0x003A9 },
-			{ "Omicron", 0x0039F }, { "Oopf", 0x1D546 },
-			{ "OpenCurlyDoubleQuote", 0x0201C }, { "OpenCurlyQuote", 0x02018 },
-			{ "Or", 0x02A54 }, { "Oscr", 0x1D4AA }, { "Oslash", 0x000D8 },
-			{ "Otilde", 0x000D5 }, { "Otimes", 0x02A37 }, { "Ouml", 0x000D6 },
-			{ "OverBar", 0x0203E }, { "OverBrace", 0x023DE },
-			{ "OverBracket", 0x023B4 }, { "OverParenthesis", 0x023DC },
-			{ "PartialD", 0x02202 }, { "Pcy", 0x0041F }, { "Pfr", 0x1D513 },
-			{ "Phi", 0x003A6 }, { "Pi", 0x003A0 }, { "PlusMinus", 0x000B1 },
-			{ "Poincareplane", 0x0210C }, { "Popf", 0x02119 },
-			{ "Pr", 0x02ABB }, { "Precedes", 0x0227A },
-			{ "PrecedesEqual", 0x02AAF }, { "PrecedesSlantEqual", 0x0227C },
-			{ "PrecedesTilde", 0x0227E }, { "Prime", 0x02033 },
-			{ "Product", 0x0220F }, { "Proportion", 0x02237 },
-			{ "Proportional", 0x0221D }, { "Pscr", 0x1D4AB },
-			{ "Psi", 0x003A8 }, { "QUOT", 0x00022 }, { "Qfr", 0x1D514 },
-			{ "Qopf", 0x0211A }, { "Qscr", 0x1D4AC }, { "RBarr", 0x02910 },
-			{ "REG", 0x000AE }, { "Racute", 0x00154 }, { "Rang", 0x027EB },
-			{ "Rarr", 0x021A0 }, { "Rarrtl", 0x02916 }, { "Rcaron", 0x00158 },
-			{ "Rcedil", 0x00156 }, { "Rcy", 0x00420 }, { "Re", 0x0211C },
-			{ "ReverseElement", 0x0220B }, { "ReverseEquilibrium", 0x021CB },
-			{ "ReverseUpEquilibrium", 0x0296F }, { "Rfr", 0x0211C },
-			{ "Rho", 0x003A1 }, { "RightAngleBracket", 0x027E9 },
-			{ "RightArrow", 0x02192 }, { "RightArrowBar", 0x021E5 },
-			{ "RightArrowLeftArrow", 0x021C4 }, { "RightCeiling", 0x02309 },
-			{ "RightDoubleBracket", 0x027E7 },
-			{ "RightDownTeeVector", 0x0295D }, { "RightDownVector", 0x021C2 },
-			{ "RightDownVectorBar", 0x02955 }, { "RightFloor", 0x0230B },
-			{ "RightTee", 0x022A2 }, { "RightTeeArrow", 0x021A6 },
-			{ "RightTeeVector", 0x0295B }, { "RightTriangle", 0x022B3 },
-			{ "RightTriangleBar", 0x029D0 }, { "RightTriangleEqual", 0x022B5 },
-			{ "RightUpDownVector", 0x0294F }, { "RightUpTeeVector", 0x0295C },
-			{ "RightUpVector", 0x021BE }, { "RightUpVectorBar", 0x02954 },
-			{ "RightVector", 0x021C0 }, { "RightVectorBar", 0x02953 },
-			{ "Rightarrow", 0x021D2 }, { "Ropf", 0x0211D },
-			{ "RoundImplies", 0x02970 }, { "Rrightarrow", 0x021DB },
-			{ "Rscr", 0x0211B }, { "Rsh", 0x021B1 },
-			{ "RuleDelayed", 0x029F4 }, { "SHCHcy", 0x00429 },
-			{ "SHcy", 0x00428 }, { "SOFTcy", 0x0042C }, { "Sacute", 0x0015A },
-			{ "Sc", 0x02ABC }, { "Scaron", 0x00160 }, { "Scedil", 0x0015E },
-			{ "Scirc", 0x0015C }, { "Scy", 0x00421 }, { "Sfr", 0x1D516 },
-			{ "ShortDownArrow", 0x02193 }, { "ShortLeftArrow", 0x02190 },
-			{ "ShortRightArrow", 0x02192 }, { "ShortUpArrow", 0x02191 },
-			{ "Sigma", 0x003A3 }, { "SmallCircle", 0x02218 },
-			{ "Sopf", 0x1D54A }, { "Sqrt", 0x0221A }, { "Square", 0x025A1 },
-			{ "SquareIntersection", 0x02293 }, { "SquareSubset", 0x0228F },
-			{ "SquareSubsetEqual", 0x02291 }, { "SquareSuperset", 0x02290 },
-			{ "SquareSupersetEqual", 0x02292 }, { "SquareUnion", 0x02294 },
-			{ "Sscr", 0x1D4AE }, { "Star", 0x022C6 }, { "Sub", 0x022D0 },
-			{ "Subset", 0x022D0 }, { "SubsetEqual", 0x02286 },
-			{ "Succeeds", 0x0227B }, { "SucceedsEqual", 0x02AB0 },
-			{ "SucceedsSlantEqual", 0x0227D }, { "SucceedsTilde", 0x0227F },
-			{ "SuchThat", 0x0220B }, { "Sum", 0x02211 }, { "Sup", 0x022D1 },
-			{ "Superset", 0x02283 }, { "SupersetEqual", 0x02287 },
-			{ "Supset", 0x022D1 }, { "THORN", 0x000DE }, { "TRADE", 0x02122 },
-			{ "TSHcy", 0x0040B }, { "TScy", 0x00426 }, { "Tab", 0x00009 },
-			{ "Tau", 0x003A4 }, { "Tcaron", 0x00164 }, { "Tcedil", 0x00162 },
-			{ "Tcy", 0x00422 }, { "Tfr", 0x1D517 }, { "Therefore", 0x02234 },
-			{ "Theta", 0x00398 }, { "ThinSpace", 0x02009 },
-			{ "Tilde", 0x0223C }, { "TildeEqual", 0x02243 },
-			{ "TildeFullEqual", 0x02245 }, { "TildeTilde", 0x02248 },
-			{ "Topf", 0x1D54B }, { "TripleDot", 0x020DB }, { "Tscr", 0x1D4AF },
-			{ "Tstrok", 0x00166 }, { "Uacute", 0x000DA }, { "Uarr", 0x0219F },
-			{ "Uarrocir", 0x02949 }, { "Ubrcy", 0x0040E },
-			{ "Ubreve", 0x0016C }, { "Ucirc", 0x000DB }, { "Ucy", 0x00423 },
-			{ "Udblac", 0x00170 }, { "Ufr", 0x1D518 }, { "Ugrave", 0x000D9 },
-			{ "Umacr", 0x0016A }, { "UnderBar", 0x0005F },
-			{ "UnderBrace", 0x023DF }, { "UnderBracket", 0x023B5 },
-			{ "UnderParenthesis", 0x023DD }, { "Union", 0x022C3 },
-			{ "UnionPlus", 0x0228E }, { "Uogon", 0x00172 },
-			{ "Uopf", 0x1D54C }, { "UpArrow", 0x02191 },
-			{ "UpArrowBar", 0x02912 }, { "UpArrowDownArrow", 0x021C5 },
-			{ "UpDownArrow", 0x02195 }, { "UpEquilibrium", 0x0296E },
-			{ "UpTee", 0x022A5 }, { "UpTeeArrow", 0x021A5 },
-			{ "Uparrow", 0x021D1 }, { "Updownarrow", 0x021D5 },
-			{ "UpperLeftArrow", 0x02196 }, { "UpperRightArrow", 0x02197 },
-			{ "Upsi", 0x003D2 }, { "Upsilon", 0x003A5 }, { "Uring", 0x0016E },
-			{ "Uscr", 0x1D4B0 }, { "Utilde", 0x00168 }, { "Uuml", 0x000DC },
-			{ "VDash", 0x022AB }, { "Vbar", 0x02AEB }, { "Vcy", 0x00412 },
-			{ "Vdash", 0x022A9 }, { "Vdashl", 0x02AE6 }, { "Vee", 0x022C1 },
-			{ "Verbar", 0x02016 }, { "Vert", 0x02016 },
-			{ "VerticalBar", 0x02223 }, { "VerticalLine", 0x0007C },
-			{ "VerticalSeparator", 0x02758 }, { "VerticalTilde", 0x02240 },
-			{ "VeryThinSpace", 0x0200A }, { "Vfr", 0x1D519 },
-			{ "Vopf", 0x1D54D }, { "Vscr", 0x1D4B1 }, { "Vvdash", 0x022AA },
-			{ "Wcirc", 0x00174 }, { "Wedge", 0x022C0 }, { "Wfr", 0x1D51A },
-			{ "Wopf", 0x1D54E }, { "Wscr", 0x1D4B2 }, { "Xfr", 0x1D51B },
-			{ "Xi", 0x0039E }, { "Xopf", 0x1D54F }, { "Xscr", 0x1D4B3 },
-			{ "YAcy", 0x0042F }, { "YIcy", 0x00407 }, { "YUcy", 0x0042E },
-			{ "Yacute", 0x000DD }, { "Ycirc", 0x00176 }, { "Ycy", 0x0042B },
-			{ "Yfr", 0x1D51C }, { "Yopf", 0x1D550 }, { "Yscr", 0x1D4B4 },
-			{ "Yuml", 0x00178 }, { "ZHcy", 0x00416 }, { "Zacute", 0x00179 },
-			{ "Zcaron", 0x0017D }, { "Zcy", 0x00417 }, { "Zdot", 0x0017B },
-			{ "ZeroWidthSpace", 0x0200B }, { "Zeta", 0x00396 },
-			{ "Zfr", 0x02128 }, { "Zopf", 0x02124 }, { "Zscr", 0x1D4B5 },
-			{ "aacute", 0x000E1 }, { "abreve", 0x00103 }, { "ac", 0x0223E },
-			{ "acd", 0x0223F }, { "acirc", 0x000E2 }, { "acute", 0x000B4 },
-			{ "acy", 0x00430 }, { "aelig", 0x000E6 }, { "af", 0x02061 },
-			{ "afr", 0x1D51E }, { "agrave", 0x000E0 }, { "alefsym", 0x02135 },
-			{ "aleph", 0x02135 }, { "alpha", 0x003B1 }, { "amacr", 0x00101 },
-			{ "amalg", 0x02A3F }, { "amp", 0x00026 }, { "and", 0x02227 },
-			{ "andand", 0x02A55 }, { "andd", 0x02A5C },
-			{ "andslope", 0x02A58 }, { "andv", 0x02A5A }, { "ang", 0x02220 },
-			{ "ange", 0x029A4 }, { "angle", 0x02220 }, { "angmsd", 0x02221 },
-			{ "angmsdaa", 0x029A8 }, { "angmsdab", 0x029A9 },
-			{ "angmsdac", 0x029AA }, { "angmsdad", 0x029AB },
-			{ "angmsdae", 0x029AC }, { "angmsdaf", 0x029AD },
-			{ "angmsdag", 0x029AE }, { "angmsdah", 0x029AF },
-			{ "angrt", 0x0221F }, { "angrtvb", 0x022BE },
-			{ "angrtvbd", 0x0299D }, { "angsph", 0x02222 },
-			{ "angst", 0x000C5 }, { "angzarr", 0x0237C }, { "aogon", 0x00105 },
-			{ "aopf", 0x1D552 }, { "ap", 0x02248 }, { "apE", 0x02A70 },
-			{ "apacir", 0x02A6F }, { "ape", 0x0224A }, { "apid", 0x0224B },
-			{ "apos", 0x00027 }, { "approx", 0x02248 },
-			{ "approxeq", 0x0224A }, { "aring", 0x000E5 }, { "ascr", 0x1D4B6 },
-			{ "ast", 0x0002A }, { "asymp", 0x02248 }, { "asympeq", 0x0224D },
-			{ "atilde", 0x000E3 }, { "auml", 0x000E4 },
-			{ "awconint", 0x02233 }, { "awint", 0x02A11 }, { "bNot", 0x02AED },
-			{ "backcong", 0x0224C }, { "backepsilon", 0x003F6 },
-			{ "backprime", 0x02035 }, { "backsim", 0x0223D },
-			{ "backsimeq", 0x022CD }, { "barvee", 0x022BD },
-			{ "barwed", 0x02305 }, { "barwedge", 0x02305 },
-			{ "bbrk", 0x023B5 }, { "bbrktbrk", 0x023B6 }, { "bcong", 0x0224C },
-			{ "bcy", 0x00431 }, { "bdquo", 0x0201E }, { "becaus", 0x02235 },
-			{ "because", 0x02235 }, { "bemptyv", 0x029B0 },
-			{ "bepsi", 0x003F6 }, { "bernou", 0x0212C }, { "beta", 0x003B2 },
-			{ "beth", 0x02136 }, { "between", 0x0226C }, { "bfr", 0x1D51F },
-			{ "bigcap", 0x022C2 }, { "bigcirc", 0x025EF },
-			{ "bigcup", 0x022C3 }, { "bigodot", 0x02A00 },
-			{ "bigoplus", 0x02A01 }, { "bigotimes", 0x02A02 },
-			{ "bigsqcup", 0x02A06 }, { "bigstar", 0x02605 },
-			{ "bigtriangledown", 0x025BD }, { "bigtriangleup", 0x025B3 },
-			{ "biguplus", 0x02A04 }, { "bigvee", 0x022C1 },
-			{ "bigwedge", 0x022C0 }, { "bkarow", 0x0290D },
-			{ "blacklozenge", 0x029EB }, { "blacksquare", 0x025AA },
-			{ "blacktriangle", 0x025B4 }, { "blacktriangledown", 0x025BE },
-			{ "blacktriangleleft", 0x025C2 },
-			{ "blacktriangleright", 0x025B8 }, { "blank", 0x02423 },
-			{ "blk12", 0x02592 }, { "blk14", 0x02591 }, { "blk34", 0x02593 },
-			{ "block", 0x02588 }, { "bnot", 0x02310 }, { "bopf", 0x1D553 },
-			{ "bot", 0x022A5 }, { "bottom", 0x022A5 }, { "bowtie", 0x022C8 },
-			{ "boxDL", 0x02557 }, { "boxDR", 0x02554 }, { "boxDl", 0x02556 },
-			{ "boxDr", 0x02553 }, { "boxH", 0x02550 }, { "boxHD", 0x02566 },
-			{ "boxHU", 0x02569 }, { "boxHd", 0x02564 }, { "boxHu", 0x02567 },
-			{ "boxUL", 0x0255D }, { "boxUR", 0x0255A }, { "boxUl", 0x0255C },
-			{ "boxUr", 0x02559 }, { "boxV", 0x02551 }, { "boxVH", 0x0256C },
-			{ "boxVL", 0x02563 }, { "boxVR", 0x02560 }, { "boxVh", 0x0256B },
-			{ "boxVl", 0x02562 }, { "boxVr", 0x0255F }, { "boxbox", 0x029C9 },
-			{ "boxdL", 0x02555 }, { "boxdR", 0x02552 }, { "boxdl", 0x02510 },
-			{ "boxdr", 0x0250C }, { "boxh", 0x02500 }, { "boxhD", 0x02565 },
-			{ "boxhU", 0x02568 }, { "boxhd", 0x0252C }, { "boxhu", 0x02534 },
-			{ "boxminus", 0x0229F }, { "boxplus", 0x0229E },
-			{ "boxtimes", 0x022A0 }, { "boxuL", 0x0255B },
-			{ "boxuR", 0x02558 }, { "boxul", 0x02518 }, { "boxur", 0x02514 },
-			{ "boxv", 0x02502 }, { "boxvH", 0x0256A }, { "boxvL", 0x02561 },
-			{ "boxvR", 0x0255E }, { "boxvh", 0x0253C }, { "boxvl", 0x02524 },
-			{ "boxvr", 0x0251C }, { "bprime", 0x02035 }, { "breve", 0x002D8 },
-			{ "brvbar", 0x000A6 }, { "bscr", 0x1D4B7 }, { "bsemi", 0x0204F },
-			{ "bsim", 0x0223D }, { "bsime", 0x022CD }, { "bsol", 0x0005C },
-			{ "bsolb", 0x029C5 }, { "bsolhsub", 0x027C8 }, { "bull", 0x02022 },
-			{ "bullet", 0x02022 }, { "bump", 0x0224E }, { "bumpE", 0x02AAE },
-			{ "bumpe", 0x0224F }, { "bumpeq", 0x0224F }, { "cacute", 0x00107 },
-			{ "cap", 0x02229 }, { "capand", 0x02A44 }, { "capbrcup", 0x02A49 },
-			{ "capcap", 0x02A4B }, { "capcup", 0x02A47 },
-			{ "capdot", 0x02A40 }, { "caret", 0x02041 }, { "caron", 0x002C7 },
-			{ "ccaps", 0x02A4D }, { "ccaron", 0x0010D }, { "ccedil", 0x000E7 },
-			{ "ccirc", 0x00109 }, { "ccups", 0x02A4C }, { "ccupssm", 0x02A50 },
-			{ "cdot", 0x0010B }, { "cedil", 0x000B8 }, { "cemptyv", 0x029B2 },
-			{ "cent", 0x000A2 }, { "centerdot", 0x000B7 }, { "cfr", 0x1D520 },
-			{ "chcy", 0x00447 }, { "check", 0x02713 },
-			{ "checkmark", 0x02713 }, { "chi", 0x003C7 }, { "cir", 0x025CB },
-			{ "cirE", 0x029C3 }, { "circ", 0x002C6 }, { "circeq", 0x02257 },
-			{ "circlearrowleft", 0x021BA }, { "circlearrowright", 0x021BB },
-			{ "circledR", 0x000AE }, { "circledS", 0x024C8 },
-			{ "circledast", 0x0229B }, { "circledcirc", 0x0229A },
-			{ "circleddash", 0x0229D }, { "cire", 0x02257 },
-			{ "cirfnint", 0x02A10 }, { "cirmid", 0x02AEF },
-			{ "cirscir", 0x029C2 }, { "clubs", 0x02663 },
-			{ "clubsuit", 0x02663 }, { "colon", 0x0003A },
-			{ "colone", 0x02254 }, { "coloneq", 0x02254 },
-			{ "comma", 0x0002C }, { "commat", 0x00040 }, { "comp", 0x02201 },
-			{ "compfn", 0x02218 }, { "complement", 0x02201 },
-			{ "complexes", 0x02102 }, { "cong", 0x02245 },
-			{ "congdot", 0x02A6D }, { "conint", 0x0222E }, { "copf", 0x1D554 },
-			{ "coprod", 0x02210 }, { "copy", 0x000A9 }, { "copysr", 0x02117 },
-			{ "crarr", 0x021B5 }, { "cross", 0x02717 }, { "cscr", 0x1D4B8 },
-			{ "csub", 0x02ACF }, { "csube", 0x02AD1 }, { "csup", 0x02AD0 },
-			{ "csupe", 0x02AD2 }, { "ctdot", 0x022EF }, { "cudarrl", 0x02938 },
-			{ "cudarrr", 0x02935 }, { "cuepr", 0x022DE }, { "cuesc", 0x022DF },
-			{ "cularr", 0x021B6 }, { "cularrp", 0x0293D }, { "cup", 0x0222A },
-			{ "cupbrcap", 0x02A48 }, { "cupcap", 0x02A46 },
-			{ "cupcup", 0x02A4A }, { "cupdot", 0x0228D }, { "cupor", 0x02A45 },
-			{ "curarr", 0x021B7 }, { "curarrm", 0x0293C },
-			{ "curlyeqprec", 0x022DE }, { "curlyeqsucc", 0x022DF },
-			{ "curlyvee", 0x022CE }, { "curlywedge", 0x022CF },
-			{ "curren", 0x000A4 }, { "curvearrowleft", 0x021B6 },
-			{ "curvearrowright", 0x021B7 }, { "cuvee", 0x022CE },
-			{ "cuwed", 0x022CF }, { "cwconint", 0x02232 },
-			{ "cwint", 0x02231 }, { "cylcty", 0x0232D }, { "dArr", 0x021D3 },
-			{ "dHar", 0x02965 }, { "dagger", 0x02020 }, { "daleth", 0x02138 },
-			{ "darr", 0x02193 }, { "dash", 0x02010 }, { "dashv", 0x022A3 },
-			{ "dbkarow", 0x0290F }, { "dblac", 0x002DD },
-			{ "dcaron", 0x0010F }, { "dcy", 0x00434 }, { "dd", 0x02146 },
-			{ "ddagger", 0x02021 }, { "ddarr", 0x021CA },
-			{ "ddotseq", 0x02A77 }, { "deg", 0x000B0 }, { "delta", 0x003B4 },
-			{ "demptyv", 0x029B1 }, { "dfisht", 0x0297F }, { "dfr", 0x1D521 },
-			{ "dharl", 0x021C3 }, { "dharr", 0x021C2 }, { "diam", 0x022C4 },
-			{ "diamond", 0x022C4 }, { "diamondsuit", 0x02666 },
-			{ "diams", 0x02666 }, { "die", 0x000A8 }, { "digamma", 0x003DD },
-			{ "disin", 0x022F2 }, { "div", 0x000F7 }, { "divide", 0x000F7 },
-			{ "divideontimes", 0x022C7 }, { "divonx", 0x022C7 },
-			{ "djcy", 0x00452 }, { "dlcorn", 0x0231E }, { "dlcrop", 0x0230D },
-			{ "dollar", 0x00024 }, { "dopf", 0x1D555 }, { "dot", 0x002D9 },
-			{ "doteq", 0x02250 }, { "doteqdot", 0x02251 },
-			{ "dotminus", 0x02238 }, { "dotplus", 0x02214 },
-			{ "dotsquare", 0x022A1 }, { "doublebarwedge", 0x02306 },
-			{ "downarrow", 0x02193 }, { "downdownarrows", 0x021CA },
-			{ "downharpoonleft", 0x021C3 }, { "downharpoonright", 0x021C2 },
-			{ "drbkarow", 0x02910 }, { "drcorn", 0x0231F },
-			{ "drcrop", 0x0230C }, { "dscr", 0x1D4B9 }, { "dscy", 0x00455 },
-			{ "dsol", 0x029F6 }, { "dstrok", 0x00111 }, { "dtdot", 0x022F1 },
-			{ "dtri", 0x025BF }, { "dtrif", 0x025BE }, { "duarr", 0x021F5 },
-			{ "duhar", 0x0296F }, { "dwangle", 0x029A6 }, { "dzcy", 0x0045F },
-			{ "dzigrarr", 0x027FF }, { "eDDot", 0x02A77 }, { "eDot", 0x02251 },
-			{ "eacute", 0x000E9 }, { "easter", 0x02A6E },
-			{ "ecaron", 0x0011B }, { "ecir", 0x02256 }, { "ecirc", 0x000EA },
-			{ "ecolon", 0x02255 }, { "ecy", 0x0044D }, { "edot", 0x00117 },
-			{ "ee", 0x02147 }, { "efDot", 0x02252 }, { "efr", 0x1D522 },
-			{ "eg", 0x02A9A }, { "egrave", 0x000E8 }, { "egs", 0x02A96 },
-			{ "egsdot", 0x02A98 }, { "el", 0x02A99 }, { "elinters", 0x023E7 },
-			{ "ell", 0x02113 }, { "els", 0x02A95 }, { "elsdot", 0x02A97 },
-			{ "emacr", 0x00113 }, { "empty", 0x02205 },
-			{ "emptyset", 0x02205 }, { "emptyv", 0x02205 },
-			{ "emsp13", 0x02004 }, { "emsp14", 0x02005 }, { "emsp", 0x02003 },
-			{ "eng", 0x0014B }, { "ensp", 0x02002 }, { "eogon", 0x00119 },
-			{ "eopf", 0x1D556 }, { "epar", 0x022D5 }, { "eparsl", 0x029E3 },
-			{ "eplus", 0x02A71 }, { "epsi", 0x003B5 }, { "epsilon", 0x003B5 },
-			{ "epsiv", 0x003F5 }, { "eqcirc", 0x02256 },
-			{ "eqcolon", 0x02255 }, { "eqsim", 0x02242 },
-			{ "eqslantgtr", 0x02A96 }, { "eqslantless", 0x02A95 },
-			{ "equals", 0x0003D }, { "equest", 0x0225F }, { "equiv", 0x02261 },
-			{ "equivDD", 0x02A78 }, { "eqvparsl", 0x029E5 },
-			{ "erDot", 0x02253 }, { "erarr", 0x02971 }, { "escr", 0x0212F },
-			{ "esdot", 0x02250 }, { "esim", 0x02242 }, { "eta", 0x003B7 },
-			{ "eth", 0x000F0 }, { "euml", 0x000EB }, { "euro", 0x020AC },
-			{ "excl", 0x00021 }, { "exist", 0x02203 },
-			{ "expectation", 0x02130 }, { "exponentiale", 0x02147 },
-			{ "fallingdotseq", 0x02252 }, { "fcy", 0x00444 },
-			{ "female", 0x02640 }, { "ffilig", 0x0FB03 }, { "fflig", 0x0FB00 },
-			{ "ffllig", 0x0FB04 }, { "ffr", 0x1D523 }, { "filig", 0x0FB01 },
-			{ "flat", 0x0266D }, { "fllig", 0x0FB02 }, { "fltns", 0x025B1 },
-			{ "fnof", 0x00192 }, { "fopf", 0x1D557 }, { "forall", 0x02200 },
-			{ "fork", 0x022D4 }, { "forkv", 0x02AD9 }, { "fpartint", 0x02A0D },
-			{ "frac12", 0x000BD }, { "frac13", 0x02153 },
-			{ "frac14", 0x000BC }, { "frac15", 0x02155 },
-			{ "frac16", 0x02159 }, { "frac18", 0x0215B },
-			{ "frac23", 0x02154 }, { "frac25", 0x02156 },
-			{ "frac34", 0x000BE }, { "frac35", 0x02157 },
-			{ "frac38", 0x0215C }, { "frac45", 0x02158 },
-			{ "frac56", 0x0215A }, { "frac58", 0x0215D },
-			{ "frac78", 0x0215E }, { "frasl", 0x02044 }, { "frown", 0x02322 },
-			{ "fscr", 0x1D4BB }, { "gE", 0x02267 }, { "gEl", 0x02A8C },
-			{ "gacute", 0x001F5 }, { "gamma", 0x003B3 }, { "gammad", 0x003DD },
-			{ "gap", 0x02A86 }, { "gbreve", 0x0011F }, { "gcirc", 0x0011D },
-			{ "gcy", 0x00433 }, { "gdot", 0x00121 }, { "ge", 0x02265 },
-			{ "gel", 0x022DB }, { "geq", 0x02265 }, { "geqq", 0x02267 },
-			{ "geqslant", 0x02A7E }, { "ges", 0x02A7E }, { "gescc", 0x02AA9 },
-			{ "gesdot", 0x02A80 }, { "gesdoto", 0x02A82 },
-			{ "gesdotol", 0x02A84 }, { "gesles", 0x02A94 }, { "gfr", 0x1D524 },
-			{ "gg", 0x0226B }, { "ggg", 0x022D9 }, { "gimel", 0x02137 },
-			{ "gjcy", 0x00453 }, { "gl", 0x02277 }, { "glE", 0x02A92 },
-			{ "gla", 0x02AA5 }, { "glj", 0x02AA4 }, { "gnE", 0x02269 },
-			{ "gnap", 0x02A8A }, { "gnapprox", 0x02A8A }, { "gne", 0x02A88 },
-			{ "gneq", 0x02A88 }, { "gneqq", 0x02269 }, { "gnsim", 0x022E7 },
-			{ "gopf", 0x1D558 }, { "grave", 0x00060 }, { "gscr", 0x0210A },
-			{ "gsim", 0x02273 }, { "gsime", 0x02A8E }, { "gsiml", 0x02A90 },
-			{ "gt", 0x0003E }, { "gtcc", 0x02AA7 }, { "gtcir", 0x02A7A },
-			{ "gtdot", 0x022D7 }, { "gtlPar", 0x02995 },
-			{ "gtquest", 0x02A7C }, { "gtrapprox", 0x02A86 },
-			{ "gtrarr", 0x02978 }, { "gtrdot", 0x022D7 },
-			{ "gtreqless", 0x022DB }, { "gtreqqless", 0x02A8C },
-			{ "gtrless", 0x02277 }, { "gtrsim", 0x02273 }, { "hArr", 0x021D4 },
-			{ "hairsp", 0x0200A }, { "half", 0x000BD }, { "hamilt", 0x0210B },
-			{ "hardcy", 0x0044A }, { "harr", 0x02194 }, { "harrcir", 0x02948 },
-			{ "harrw", 0x021AD }, { "hbar", 0x0210F }, { "hcirc", 0x00125 },
-			{ "hearts", 0x02665 }, { "heartsuit", 0x02665 },
-			{ "hellip", 0x02026 }, { "hercon", 0x022B9 }, { "hfr", 0x1D525 },
-			{ "hksearow", 0x02925 }, { "hkswarow", 0x02926 },
-			{ "hoarr", 0x021FF }, { "homtht", 0x0223B },
-			{ "hookleftarrow", 0x021A9 }, { "hookrightarrow", 0x021AA },
-			{ "hopf", 0x1D559 }, { "horbar", 0x02015 }, { "hscr", 0x1D4BD },
-			{ "hslash", 0x0210F }, { "hstrok", 0x00127 },
-			{ "hybull", 0x02043 }, { "hyphen", 0x02010 },
-			{ "iacute", 0x000ED }, { "ic", 0x02063 }, { "icirc", 0x000EE },
-			{ "icy", 0x00438 }, { "iecy", 0x00435 }, { "iexcl", 0x000A1 },
-			{ "iff", 0x021D4 }, { "ifr", 0x1D526 }, { "igrave", 0x000EC },
-			{ "ii", 0x02148 }, { "iiiint", 0x02A0C }, { "iiint", 0x0222D },
-			{ "iinfin", 0x029DC }, { "iiota", 0x02129 }, { "ijlig", 0x00133 },
-			{ "imacr", 0x0012B }, { "image", 0x02111 },
-			{ "imagline", 0x02110 }, { "imagpart", 0x02111 },
-			{ "imath", 0x00131 }, { "imof", 0x022B7 }, { "imped", 0x001B5 },
-			{ "in", 0x02208 }, { "incare", 0x02105 }, { "infin", 0x0221E },
-			{ "infintie", 0x029DD }, { "inodot", 0x00131 }, { "int", 0x0222B },
-			{ "intcal", 0x022BA }, { "integers", 0x02124 },
-			{ "intercal", 0x022BA }, { "intlarhk", 0x02A17 },
-			{ "intprod", 0x02A3C }, { "iocy", 0x00451 }, { "iogon", 0x0012F },
-			{ "iopf", 0x1D55A }, { "iota", 0x003B9 }, { "iprod", 0x02A3C },
-			{ "iquest", 0x000BF }, { "iscr", 0x1D4BE }, { "isin", 0x02208 },
-			{ "isinE", 0x022F9 }, { "isindot", 0x022F5 }, { "isins", 0x022F4 },
-			{ "isinsv", 0x022F3 }, { "isinv", 0x02208 }, { "it", 0x02062 },
-			{ "itilde", 0x00129 }, { "iukcy", 0x00456 }, { "iuml", 0x000EF },
-			{ "jcirc", 0x00135 }, { "jcy", 0x00439 }, { "jfr", 0x1D527 },
-			{ "jmath", 0x00237 }, { "jopf", 0x1D55B }, { "jscr", 0x1D4BF },
-			{ "jsercy", 0x00458 }, { "jukcy", 0x00454 }, { "kappa", 0x003BA },
-			{ "kappav", 0x003F0 }, { "kcedil", 0x00137 }, { "kcy", 0x0043A },
-			{ "kfr", 0x1D528 }, { "kgreen", 0x00138 }, { "khcy", 0x00445 },
-			{ "kjcy", 0x0045C }, { "kopf", 0x1D55C }, { "kscr", 0x1D4C0 },
-			{ "lAarr", 0x021DA }, { "lArr", 0x021D0 }, { "lAtail", 0x0291B },
-			{ "lBarr", 0x0290E }, { "lE", 0x02266 }, { "lEg", 0x02A8B },
-			{ "lHar", 0x02962 }, { "lacute", 0x0013A },
-			{ "laemptyv", 0x029B4 }, { "lagran", 0x02112 },
-			{ "lambda", 0x003BB }, { "lang", 0x027E8 }, { "langd", 0x02991 },
-			{ "langle", 0x027E8 }, { "lap", 0x02A85 }, { "laquo", 0x000AB },
-			{ "larr", 0x02190 }, { "larrb", 0x021E4 }, { "larrbfs", 0x0291F },
-			{ "larrfs", 0x0291D }, { "larrhk", 0x021A9 },
-			{ "larrlp", 0x021AB }, { "larrpl", 0x02939 },
-			{ "larrsim", 0x02973 }, { "larrtl", 0x021A2 }, { "lat", 0x02AAB },
-			{ "latail", 0x02919 }, { "late", 0x02AAD }, { "lbarr", 0x0290C },
-			{ "lbbrk", 0x02772 }, { "lbrace", 0x0007B }, { "lbrack", 0x0005B },
-			{ "lbrke", 0x0298B }, { "lbrksld", 0x0298F },
-			{ "lbrkslu", 0x0298D }, { "lcaron", 0x0013E },
-			{ "lcedil", 0x0013C }, { "lceil", 0x02308 }, { "lcub", 0x0007B },
-			{ "lcy", 0x0043B }, { "ldca", 0x02936 }, { "ldquo", 0x0201C },
-			{ "ldquor", 0x0201E }, { "ldrdhar", 0x02967 },
-			{ "ldrushar", 0x0294B }, { "ldsh", 0x021B2 }, { "le", 0x02264 },
-			{ "leftarrow", 0x02190 }, { "leftarrowtail", 0x021A2 },
-			{ "leftharpoondown", 0x021BD }, { "leftharpoonup", 0x021BC },
-			{ "leftleftarrows", 0x021C7 }, { "leftrightarrow", 0x02194 },
-			{ "leftrightarrows", 0x021C6 }, { "leftrightharpoons", 0x021CB },
-			{ "leftrightsquigarrow", 0x021AD }, { "leftthreetimes", 0x022CB },
-			{ "leg", 0x022DA }, { "leq", 0x02264 }, { "leqq", 0x02266 },
-			{ "leqslant", 0x02A7D }, { "les", 0x02A7D }, { "lescc", 0x02AA8 },
-			{ "lesdot", 0x02A7F }, { "lesdoto", 0x02A81 },
-			{ "lesdotor", 0x02A83 }, { "lesges", 0x02A93 },
-			{ "lessapprox", 0x02A85 }, { "lessdot", 0x022D6 },
-			{ "lesseqgtr", 0x022DA }, { "lesseqqgtr", 0x02A8B },
-			{ "lessgtr", 0x02276 }, { "lesssim", 0x02272 },
-			{ "lfisht", 0x0297C }, { "lfloor", 0x0230A }, { "lfr", 0x1D529 },
-			{ "lg", 0x02276 }, { "lgE", 0x02A91 }, { "lhard", 0x021BD },
-			{ "lharu", 0x021BC }, { "lharul", 0x0296A }, { "lhblk", 0x02584 },
-			{ "ljcy", 0x00459 }, { "ll", 0x0226A }, { "llarr", 0x021C7 },
-			{ "llcorner", 0x0231E }, { "llhard", 0x0296B },
-			{ "lltri", 0x025FA }, { "lmidot", 0x00140 }, { "lmoust", 0x023B0 },
-			{ "lmoustache", 0x023B0 }, { "lnE", 0x02268 }, { "lnap", 0x02A89 },
-			{ "lnapprox", 0x02A89 }, { "lne", 0x02A87 }, { "lneq", 0x02A87 },
-			{ "lneqq", 0x02268 }, { "lnsim", 0x022E6 }, { "loang", 0x027EC },
-			{ "loarr", 0x021FD }, { "lobrk", 0x027E6 },
-			{ "longleftarrow", 0x027F5 }, { "longleftrightarrow", 0x027F7 },
-			{ "longmapsto", 0x027FC }, { "longrightarrow", 0x027F6 },
-			{ "looparrowleft", 0x021AB }, { "looparrowright", 0x021AC },
-			{ "lopar", 0x02985 }, { "lopf", 0x1D55D }, { "loplus", 0x02A2D },
-			{ "lotimes", 0x02A34 }, { "lowast", 0x02217 },
-			{ "lowbar", 0x0005F }, { "loz", 0x025CA }, { "lozenge", 0x025CA },
-			{ "lozf", 0x029EB }, { "lpar", 0x00028 }, { "lparlt", 0x02993 },
-			{ "lrarr", 0x021C6 }, { "lrcorner", 0x0231F },
-			{ "lrhar", 0x021CB }, { "lrhard", 0x0296D }, { "lrm", 0x0200E },
-			{ "lrtri", 0x022BF }, { "lsaquo", 0x02039 }, { "lscr", 0x1D4C1 },
-			{ "lsh", 0x021B0 }, { "lsim", 0x02272 }, { "lsime", 0x02A8D },
-			{ "lsimg", 0x02A8F }, { "lsqb", 0x0005B }, { "lsquo", 0x02018 },
-			{ "lsquor", 0x0201A }, { "lstrok", 0x00142 }, { "lt", 0x0003C },
-			{ "ltcc", 0x02AA6 }, { "ltcir", 0x02A79 }, { "ltdot", 0x022D6 },
-			{ "lthree", 0x022CB }, { "ltimes", 0x022C9 },
-			{ "ltlarr", 0x02976 }, { "ltquest", 0x02A7B },
-			{ "ltrPar", 0x02996 }, { "ltri", 0x025C3 }, { "ltrie", 0x022B4 },
-			{ "ltrif", 0x025C2 }, { "lurdshar", 0x0294A },
-			{ "luruhar", 0x02966 }, { "mDDot", 0x0223A }, { "macr", 0x000AF },
-			{ "male", 0x02642 }, { "malt", 0x02720 }, { "maltese", 0x02720 },
-			{ "map", 0x021A6 }, { "mapsto", 0x021A6 },
-			{ "mapstodown", 0x021A7 }, { "mapstoleft", 0x021A4 },
-			{ "mapstoup", 0x021A5 }, { "marker", 0x025AE },
-			{ "mcomma", 0x02A29 }, { "mcy", 0x0043C }, { "mdash", 0x02014 },
-			{ "measuredangle", 0x02221 }, { "mfr", 0x1D52A },
-			{ "mho", 0x02127 }, { "micro", 0x000B5 }, { "mid", 0x02223 },
-			{ "midast", 0x0002A }, { "midcir", 0x02AF0 },
-			{ "middot", 0x000B7 }, { "minus", 0x02212 }, { "minusb", 0x0229F },
-			{ "minusd", 0x02238 }, { "minusdu", 0x02A2A }, { "mlcp", 0x02ADB },
-			{ "mldr", 0x02026 }, { "mnplus", 0x02213 }, { "models", 0x022A7 },
-			{ "mopf", 0x1D55E }, { "mp", 0x02213 }, { "mscr", 0x1D4C2 },
-			{ "mstpos", 0x0223E }, { "mu", 0x003BC }, { "multimap", 0x022B8 },
-			{ "mumap", 0x022B8 }, { "nLeftarrow", 0x021CD },
-			{ "nLeftrightarrow", 0x021CE }, { "nRightarrow", 0x021CF },
-			{ "nVDash", 0x022AF }, { "nVdash", 0x022AE }, { "nabla", 0x02207 },
-			{ "nacute", 0x00144 }, { "nap", 0x02249 }, { "napos", 0x00149 },
-			{ "napprox", 0x02249 }, { "natur", 0x0266E },
-			{ "natural", 0x0266E }, { "naturals", 0x02115 },
-			{ "nbsp", 0x000A0 }, { "ncap", 0x02A43 }, { "ncaron", 0x00148 },
-			{ "ncedil", 0x00146 }, { "ncong", 0x02247 }, { "ncup", 0x02A42 },
-			{ "ncy", 0x0043D }, { "ndash", 0x02013 }, { "ne", 0x02260 },
-			{ "neArr", 0x021D7 }, { "nearhk", 0x02924 }, { "nearr", 0x02197 },
-			{ "nearrow", 0x02197 }, { "nequiv", 0x02262 },
-			{ "nesear", 0x02928 }, { "nexist", 0x02204 },
-			{ "nexists", 0x02204 }, { "nfr", 0x1D52B }, { "nge", 0x02271 },
-			{ "ngeq", 0x02271 }, { "ngsim", 0x02275 }, { "ngt", 0x0226F },
-			{ "ngtr", 0x0226F }, { "nhArr", 0x021CE }, { "nharr", 0x021AE },
-			{ "nhpar", 0x02AF2 }, { "ni", 0x0220B }, { "nis", 0x022FC },
-			{ "nisd", 0x022FA }, { "niv", 0x0220B }, { "njcy", 0x0045A },
-			{ "nlArr", 0x021CD }, { "nlarr", 0x0219A }, { "nldr", 0x02025 },
-			{ "nle", 0x02270 }, { "nleftarrow", 0x0219A },
-			{ "nleftrightarrow", 0x021AE }, { "nleq", 0x02270 },
-			{ "nless", 0x0226E }, { "nlsim", 0x02274 }, { "nlt", 0x0226E },
-			{ "nltri", 0x022EA }, { "nltrie", 0x022EC }, { "nmid", 0x02224 },
-			{ "nopf", 0x1D55F }, { "not", 0x000AC }, { "notin", 0x02209 },
-			{ "notinva", 0x02209 }, { "notinvb", 0x022F7 },
-			{ "notinvc", 0x022F6 }, { "notni", 0x0220C },
-			{ "notniva", 0x0220C }, { "notnivb", 0x022FE },
-			{ "notnivc", 0x022FD }, { "npar", 0x02226 },
-			{ "nparallel", 0x02226 }, { "npolint", 0x02A14 },
-			{ "npr", 0x02280 }, { "nprcue", 0x022E0 }, { "nprec", 0x02280 },
-			{ "nrArr", 0x021CF }, { "nrarr", 0x0219B },
-			{ "nrightarrow", 0x0219B }, { "nrtri", 0x022EB },
-			{ "nrtrie", 0x022ED }, { "nsc", 0x02281 }, { "nsccue", 0x022E1 },
-			{ "nscr", 0x1D4C3 }, { "nshortmid", 0x02224 },
-			{ "nshortparallel", 0x02226 }, { "nsim", 0x02241 },
-			{ "nsime", 0x02244 }, { "nsimeq", 0x02244 }, { "nsmid", 0x02224 },
-			{ "nspar", 0x02226 }, { "nsqsube", 0x022E2 },
-			{ "nsqsupe", 0x022E3 }, { "nsub", 0x02284 }, { "nsube", 0x02288 },
-			{ "nsubseteq", 0x02288 }, { "nsucc", 0x02281 },
-			{ "nsup", 0x02285 }, { "nsupe", 0x02289 },
-			{ "nsupseteq", 0x02289 }, { "ntgl", 0x02279 },
-			{ "ntilde", 0x000F1 }, { "ntlg", 0x02278 },
-			{ "ntriangleleft", 0x022EA }, { "ntrianglelefteq", 0x022EC },
-			{ "ntriangleright", 0x022EB }, { "ntrianglerighteq", 0x022ED },
-			{ "nu", 0x003BD }, { "num", 0x00023 }, { "numero", 0x02116 },
-			{ "numsp", 0x02007 }, { "nvDash", 0x022AD }, { "nvHarr", 0x02904 },
-			{ "nvdash", 0x022AC }, { "nvinfin", 0x029DE },
-			{ "nvlArr", 0x02902 }, { "nvrArr", 0x02903 }, { "nwArr", 0x021D6 },
-			{ "nwarhk", 0x02923 }, { "nwarr", 0x02196 },
-			{ "nwarrow", 0x02196 }, { "nwnear", 0x02927 }, { "oS", 0x024C8 },
-			{ "oacute", 0x000F3 }, { "oast", 0x0229B }, { "ocir", 0x0229A },
-			{ "ocirc", 0x000F4 }, { "ocy", 0x0043E }, { "odash", 0x0229D },
-			{ "odblac", 0x00151 }, { "odiv", 0x02A38 }, { "odot", 0x02299 },
-			{ "odsold", 0x029BC }, { "oelig", 0x00153 }, { "ofcir", 0x029BF },
-			{ "ofr", 0x1D52C }, { "ogon", 0x002DB }, { "ograve", 0x000F2 },
-			{ "ogt", 0x029C1 }, { "ohbar", 0x029B5 }, { "ohm", 0x003A9 },
-			{ "oint", 0x0222E }, { "olarr", 0x021BA }, { "olcir", 0x029BE },
-			{ "olcross", 0x029BB }, { "oline", 0x0203E }, { "olt", 0x029C0 },
-			{ "omacr", 0x0014D }, { "omega", 0x003C9 }, { "omicron", 0x003BF },
-			{ "omid", 0x029B6 }, { "ominus", 0x02296 }, { "oopf", 0x1D560 },
-			{ "opar", 0x029B7 }, { "operp", 0x029B9 }, { "oplus", 0x02295 },
-			{ "or", 0x02228 }, { "orarr", 0x021BB }, { "ord", 0x02A5D },
-			{ "order", 0x02134 }, { "orderof", 0x02134 }, { "ordf", 0x000AA },
-			{ "ordm", 0x000BA }, { "origof", 0x022B6 }, { "oror", 0x02A56 },
-			{ "orslope", 0x02A57 }, { "orv", 0x02A5B }, { "oscr", 0x02134 },
-			{ "oslash", 0x000F8 }, { "osol", 0x02298 }, { "otilde", 0x000F5 },
-			{ "otimes", 0x02297 }, { "otimesas", 0x02A36 },
-			{ "ouml", 0x000F6 }, { "ovbar", 0x0233D }, { "par", 0x02225 },
-			{ "para", 0x000B6 }, { "parallel", 0x02225 },
-			{ "parsim", 0x02AF3 }, { "parsl", 0x02AFD }, { "part", 0x02202 },
-			{ "pcy", 0x0043F }, { "percnt", 0x00025 }, { "period", 0x0002E },
-			{ "permil", 0x02030 }, { "perp", 0x022A5 }, { "pertenk", 0x02031 },
-			{ "pfr", 0x1D52D }, { "phi", 0x003C6 }, { "phiv", 0x003D5 },
-			{ "phmmat", 0x02133 }, { "phone", 0x0260E }, { "pi", 0x003C0 },
-			{ "pitchfork", 0x022D4 }, { "piv", 0x003D6 },
-			{ "planck", 0x0210F }, { "planckh", 0x0210E },
-			{ "plankv", 0x0210F }, { "plus", 0x0002B },
-			{ "plusacir", 0x02A23 }, { "plusb", 0x0229E },
-			{ "pluscir", 0x02A22 }, { "plusdo", 0x02214 },
-			{ "plusdu", 0x02A25 }, { "pluse", 0x02A72 }, { "plusmn", 0x000B1 },
-			{ "plussim", 0x02A26 }, { "plustwo", 0x02A27 }, { "pm", 0x000B1 },
-			{ "pointint", 0x02A15 }, { "popf", 0x1D561 }, { "pound", 0x000A3 },
-			{ "pr", 0x0227A }, { "prE", 0x02AB3 }, { "prap", 0x02AB7 },
-			{ "prcue", 0x0227C }, { "pre", 0x02AAF }, { "prec", 0x0227A },
-			{ "precapprox", 0x02AB7 }, { "preccurlyeq", 0x0227C },
-			{ "preceq", 0x02AAF }, { "precnapprox", 0x02AB9 },
-			{ "precneqq", 0x02AB5 }, { "precnsim", 0x022E8 },
-			{ "precsim", 0x0227E }, { "prime", 0x02032 },
-			{ "primes", 0x02119 }, { "prnE", 0x02AB5 }, { "prnap", 0x02AB9 },
-			{ "prnsim", 0x022E8 }, { "prod", 0x0220F },
-			{ "profalar", 0x0232E }, { "profline", 0x02312 },
-			{ "profsurf", 0x02313 }, { "prop", 0x0221D },
-			{ "propto", 0x0221D }, { "prsim", 0x0227E }, { "prurel", 0x022B0 },
-			{ "pscr", 0x1D4C5 }, { "psi", 0x003C8 }, { "puncsp", 0x02008 },
-			{ "qfr", 0x1D52E }, { "qint", 0x02A0C }, { "qopf", 0x1D562 },
-			{ "qprime", 0x02057 }, { "qscr", 0x1D4C6 },
-			{ "quaternions", 0x0210D }, { "quatint", 0x02A16 },
-			{ "quest", 0x0003F }, { "questeq", 0x0225F }, { "quot", 0x00022 },
-			{ "rAarr", 0x021DB }, { "rArr", 0x021D2 }, { "rAtail", 0x0291C },
-			{ "rBarr", 0x0290F }, { "rHar", 0x02964 }, { "racute", 0x00155 },
-			{ "radic", 0x0221A }, { "raemptyv", 0x029B3 }, { "rang", 0x027E9 },
-			{ "rangd", 0x02992 }, { "range", 0x029A5 }, { "rangle", 0x027E9 },
-			{ "raquo", 0x000BB }, { "rarr", 0x02192 }, { "rarrap", 0x02975 },
-			{ "rarrb", 0x021E5 }, { "rarrbfs", 0x02920 }, { "rarrc", 0x02933 },
-			{ "rarrfs", 0x0291E }, { "rarrhk", 0x021AA },
-			{ "rarrlp", 0x021AC }, { "rarrpl", 0x02945 },
-			{ "rarrsim", 0x02974 }, { "rarrtl", 0x021A3 },
-			{ "rarrw", 0x0219D }, { "ratail", 0x0291A }, { "ratio", 0x02236 },
-			{ "rationals", 0x0211A }, { "rbarr", 0x0290D },
-			{ "rbbrk", 0x02773 }, { "rbrace", 0x0007D }, { "rbrack", 0x0005D },
-			{ "rbrke", 0x0298C }, { "rbrksld", 0x0298E },
-			{ "rbrkslu", 0x02990 }, { "rcaron", 0x00159 },
-			{ "rcedil", 0x00157 }, { "rceil", 0x02309 }, { "rcub", 0x0007D },
-			{ "rcy", 0x00440 }, { "rdca", 0x02937 }, { "rdldhar", 0x02969 },
-			{ "rdquo", 0x0201D }, { "rdquor", 0x0201D }, { "rdsh", 0x021B3 },
-			{ "real", 0x0211C }, { "realine", 0x0211B },
-			{ "realpart", 0x0211C }, { "reals", 0x0211D }, { "rect", 0x025AD },
-			{ "reg", 0x000AE }, { "rfisht", 0x0297D }, { "rfloor", 0x0230B },
-			{ "rfr", 0x1D52F }, { "rhard", 0x021C1 }, { "rharu", 0x021C0 },
-			{ "rharul", 0x0296C }, { "rho", 0x003C1 }, { "rhov", 0x003F1 },
-			{ "rightarrow", 0x02192 }, { "rightarrowtail", 0x021A3 },
-			{ "rightharpoondown", 0x021C1 }, { "rightharpoonup", 0x021C0 },
-			{ "rightleftarrows", 0x021C4 }, { "rightleftharpoons", 0x021CC },
-			{ "rightrightarrows", 0x021C9 }, { "rightsquigarrow", 0x0219D },
-			{ "rightthreetimes", 0x022CC }, { "ring", 0x002DA },
-			{ "risingdotseq", 0x02253 }, { "rlarr", 0x021C4 },
-			{ "rlhar", 0x021CC }, { "rlm", 0x0200F }, { "rmoust", 0x023B1 },
-			{ "rmoustache", 0x023B1 }, { "rnmid", 0x02AEE },
-			{ "roang", 0x027ED }, { "roarr", 0x021FE }, { "robrk", 0x027E7 },
-			{ "ropar", 0x02986 }, { "ropf", 0x1D563 }, { "roplus", 0x02A2E },
-			{ "rotimes", 0x02A35 }, { "rpar", 0x00029 }, { "rpargt", 0x02994 },
-			{ "rppolint", 0x02A12 }, { "rrarr", 0x021C9 },
-			{ "rsaquo", 0x0203A }, { "rscr", 0x1D4C7 }, { "rsh", 0x021B1 },
-			{ "rsqb", 0x0005D }, { "rsquo", 0x02019 }, { "rsquor", 0x02019 },
-			{ "rthree", 0x022CC }, { "rtimes", 0x022CA }, { "rtri", 0x025B9 },
-			{ "rtrie", 0x022B5 }, { "rtrif", 0x025B8 },
-			{ "rtriltri", 0x029CE }, { "ruluhar", 0x02968 }, { "rx", 0x0211E },
-			{ "sacute", 0x0015B }, { "sbquo", 0x0201A }, { "sc", 0x0227B },
-			{ "scE", 0x02AB4 }, { "scap", 0x02AB8 }, { "scaron", 0x00161 },
-			{ "sccue", 0x0227D }, { "sce", 0x02AB0 }, { "scedil", 0x0015F },
-			{ "scirc", 0x0015D }, { "scnE", 0x02AB6 }, { "scnap", 0x02ABA },
-			{ "scnsim", 0x022E9 }, { "scpolint", 0x02A13 },
-			{ "scsim", 0x0227F }, { "scy", 0x00441 }, { "sdot", 0x022C5 },
-			{ "sdotb", 0x022A1 }, { "sdote", 0x02A66 }, { "seArr", 0x021D8 },
-			{ "searhk", 0x02925 }, { "searr", 0x02198 },
-			{ "searrow", 0x02198 }, { "sect", 0x000A7 }, { "semi", 0x0003B },
-			{ "seswar", 0x02929 }, { "setminus", 0x02216 },
-			{ "setmn", 0x02216 }, { "sext", 0x02736 }, { "sfr", 0x1D530 },
-			{ "sfrown", 0x02322 }, { "sharp", 0x0266F }, { "shchcy", 0x00449 },
-			{ "shcy", 0x00448 }, { "shortmid", 0x02223 },
-			{ "shortparallel", 0x02225 }, { "shy", 0x000AD },
-			{ "sigma", 0x003C3 }, { "sigmaf", 0x003C2 }, { "sigmav", 0x003C2 },
-			{ "sim", 0x0223C }, { "simdot", 0x02A6A }, { "sime", 0x02243 },
-			{ "simeq", 0x02243 }, { "simg", 0x02A9E }, { "simgE", 0x02AA0 },
-			{ "siml", 0x02A9D }, { "simlE", 0x02A9F }, { "simne", 0x02246 },
-			{ "simplus", 0x02A24 }, { "simrarr", 0x02972 },
-			{ "slarr", 0x02190 }, { "smallsetminus", 0x02216 },
-			{ "smashp", 0x02A33 }, { "smeparsl", 0x029E4 },
-			{ "smid", 0x02223 }, { "smile", 0x02323 }, { "smt", 0x02AAA },
-			{ "smte", 0x02AAC }, { "softcy", 0x0044C }, { "sol", 0x0002F },
-			{ "solb", 0x029C4 }, { "solbar", 0x0233F }, { "sopf", 0x1D564 },
-			{ "spades", 0x02660 }, { "spadesuit", 0x02660 },
-			{ "spar", 0x02225 }, { "sqcap", 0x02293 }, { "sqcup", 0x02294 },
-			{ "sqsub", 0x0228F }, { "sqsube", 0x02291 },
-			{ "sqsubset", 0x0228F }, { "sqsubseteq", 0x02291 },
-			{ "sqsup", 0x02290 }, { "sqsupe", 0x02292 },
-			{ "sqsupset", 0x02290 }, { "sqsupseteq", 0x02292 },
-			{ "squ", 0x025A1 }, { "square", 0x025A1 }, { "squarf", 0x025AA },
-			{ "squf", 0x025AA }, { "srarr", 0x02192 }, { "sscr", 0x1D4C8 },
-			{ "ssetmn", 0x02216 }, { "ssmile", 0x02323 },
-			{ "sstarf", 0x022C6 }, { "star", 0x02606 }, { "starf", 0x02605 },
-			{ "straightepsilon", 0x003F5 }, { "straightphi", 0x003D5 },
-			{ "strns", 0x000AF }, { "sub", 0x02282 }, { "subE", 0x02AC5 },
-			{ "subdot", 0x02ABD }, { "sube", 0x02286 }, { "subedot", 0x02AC3 },
-			{ "submult", 0x02AC1 }, { "subnE", 0x02ACB }, { "subne", 0x0228A },
-			{ "subplus", 0x02ABF }, { "subrarr", 0x02979 },
-			{ "subset", 0x02282 }, { "subseteq", 0x02286 },
-			{ "subseteqq", 0x02AC5 }, { "subsetneq", 0x0228A },
-			{ "subsetneqq", 0x02ACB }, { "subsim", 0x02AC7 },
-			{ "subsub", 0x02AD5 }, { "subsup", 0x02AD3 }, { "succ", 0x0227B },
-			{ "succapprox", 0x02AB8 }, { "succcurlyeq", 0x0227D },
-			{ "succeq", 0x02AB0 }, { "succnapprox", 0x02ABA },
-			{ "succneqq", 0x02AB6 }, { "succnsim", 0x022E9 },
-			{ "succsim", 0x0227F }, { "sum", 0x02211 }, { "sung", 0x0266A },
-			{ "sup1", 0x000B9 }, { "sup2", 0x000B2 }, { "sup3", 0x000B3 },
-			{ "sup", 0x02283 }, { "supE", 0x02AC6 }, { "supdot", 0x02ABE },
-			{ "supdsub", 0x02AD8 }, { "supe", 0x02287 },
-			{ "supedot", 0x02AC4 }, { "suphsol", 0x027C9 },
-			{ "suphsub", 0x02AD7 }, { "suplarr", 0x0297B },
-			{ "supmult", 0x02AC2 }, { "supnE", 0x02ACC }, { "supne", 0x0228B },
-			{ "supplus", 0x02AC0 }, { "supset", 0x02283 },
-			{ "supseteq", 0x02287 }, { "supseteqq", 0x02AC6 },
-			{ "supsetneq", 0x0228B }, { "supsetneqq", 0x02ACC },
-			{ "supsim", 0x02AC8 }, { "supsub", 0x02AD4 },
-			{ "supsup", 0x02AD6 }, { "swArr", 0x021D9 }, { "swarhk", 0x02926 },
-			{ "swarr", 0x02199 }, { "swarrow", 0x02199 },
-			{ "swnwar", 0x0292A }, { "szlig", 0x000DF }, { "target", 0x02316 },
-			{ "tau", 0x003C4 }, { "tbrk", 0x023B4 }, { "tcaron", 0x00165 },
-			{ "tcedil", 0x00163 }, { "tcy", 0x00442 }, { "tdot", 0x020DB },
-			{ "telrec", 0x02315 }, { "tfr", 0x1D531 }, { "there4", 0x02234 },
-			{ "therefore", 0x02234 }, { "theta", 0x003B8 },
-			{ "thetasym", 0x003D1 }, { "thetav", 0x003D1 },
-			{ "thickapprox", 0x02248 }, { "thicksim", 0x0223C },
-			{ "thinsp", 0x02009 }, { "thkap", 0x02248 }, { "thksim", 0x0223C },
-			{ "thorn", 0x000FE }, { "tilde", 0x002DC }, { "times", 0x000D7 },
-			{ "timesb", 0x022A0 }, { "timesbar", 0x02A31 },
-			{ "timesd", 0x02A30 }, { "tint", 0x0222D }, { "toea", 0x02928 },
-			{ "top", 0x022A4 }, { "topbot", 0x02336 }, { "topcir", 0x02AF1 },
-			{ "topf", 0x1D565 }, { "topfork", 0x02ADA }, { "tosa", 0x02929 },
-			{ "tprime", 0x02034 }, { "trade", 0x02122 },
-			{ "triangle", 0x025B5 }, { "triangledown", 0x025BF },
-			{ "triangleleft", 0x025C3 }, { "trianglelefteq", 0x022B4 },
-			{ "triangleq", 0x0225C }, { "triangleright", 0x025B9 },
-			{ "trianglerighteq", 0x022B5 }, { "tridot", 0x025EC },
-			{ "trie", 0x0225C }, { "triminus", 0x02A3A },
-			{ "triplus", 0x02A39 }, { "trisb", 0x029CD },
-			{ "tritime", 0x02A3B }, { "trpezium", 0x023E2 },
-			{ "tscr", 0x1D4C9 }, { "tscy", 0x00446 }, { "tshcy", 0x0045B },
-			{ "tstrok", 0x00167 }, { "twixt", 0x0226C },
-			{ "twoheadleftarrow", 0x0219E }, { "twoheadrightarrow", 0x021A0 },
-			{ "uArr", 0x021D1 }, { "uHar", 0x02963 }, { "uacute", 0x000FA },
-			{ "uarr", 0x02191 }, { "ubrcy", 0x0045E }, { "ubreve", 0x0016D },
-			{ "ucirc", 0x000FB }, { "ucy", 0x00443 }, { "udarr", 0x021C5 },
-			{ "udblac", 0x00171 }, { "udhar", 0x0296E }, { "ufisht", 0x0297E },
-			{ "ufr", 0x1D532 }, { "ugrave", 0x000F9 }, { "uharl", 0x021BF },
-			{ "uharr", 0x021BE }, { "uhblk", 0x02580 }, { "ulcorn", 0x0231C },
-			{ "ulcorner", 0x0231C }, { "ulcrop", 0x0230F },
-			{ "ultri", 0x025F8 }, { "umacr", 0x0016B }, { "uml", 0x000A8 },
-			{ "uogon", 0x00173 }, { "uopf", 0x1D566 }, { "uparrow", 0x02191 },
-			{ "updownarrow", 0x02195 }, { "upharpoonleft", 0x021BF },
-			{ "upharpoonright", 0x021BE }, { "uplus", 0x0228E },
-			{ "upsi", 0x003C5 }, { "upsih", 0x003D2 }, { "upsilon", 0x003C5 },
-			{ "upuparrows", 0x021C8 }, { "urcorn", 0x0231D },
-			{ "urcorner", 0x0231D }, { "urcrop", 0x0230E },
-			{ "uring", 0x0016F }, { "urtri", 0x025F9 }, { "uscr", 0x1D4CA },
-			{ "utdot", 0x022F0 }, { "utilde", 0x00169 }, { "utri", 0x025B5 },
-			{ "utrif", 0x025B4 }, { "uuarr", 0x021C8 }, { "uuml", 0x000FC },
-			{ "uwangle", 0x029A7 }, { "vArr", 0x021D5 }, { "vBar", 0x02AE8 },
-			{ "vBarv", 0x02AE9 }, { "vDash", 0x022A8 }, { "vangrt", 0x0299C },
-			{ "varepsilon", 0x003F5 }, { "varkappa", 0x003F0 },
-			{ "varnothing", 0x02205 }, { "varphi", 0x003D5 },
-			{ "varpi", 0x003D6 }, { "varpropto", 0x0221D },
-			{ "varr", 0x02195 }, { "varrho", 0x003F1 },
-			{ "varsigma", 0x003C2 }, { "vartheta", 0x003D1 },
-			{ "vartriangleleft", 0x022B2 }, { "vartriangleright", 0x022B3 },
-			{ "vcy", 0x00432 }, { "vdash", 0x022A2 }, { "vee", 0x02228 },
-			{ "veebar", 0x022BB }, { "veeeq", 0x0225A }, { "vellip", 0x022EE },
-			{ "verbar", 0x0007C }, { "vert", 0x0007C }, { "vfr", 0x1D533 },
-			{ "vltri", 0x022B2 }, { "vopf", 0x1D567 }, { "vprop", 0x0221D },
-			{ "vrtri", 0x022B3 }, { "vscr", 0x1D4CB }, { "vzigzag", 0x0299A },
-			{ "wcirc", 0x00175 }, { "wedbar", 0x02A5F }, { "wedge", 0x02227 },
-			{ "wedgeq", 0x02259 }, { "weierp", 0x02118 }, { "wfr", 0x1D534 },
-			{ "wopf", 0x1D568 }, { "wp", 0x02118 }, { "wr", 0x02240 },
-			{ "wreath", 0x02240 }, { "wscr", 0x1D4CC }, { "xcap", 0x022C2 },
-			{ "xcirc", 0x025EF }, { "xcup", 0x022C3 }, { "xdtri", 0x025BD },
-			{ "xfr", 0x1D535 }, { "xhArr", 0x027FA }, { "xharr", 0x027F7 },
-			{ "xi", 0x003BE }, { "xlArr", 0x027F8 }, { "xlarr", 0x027F5 },
-			{ "xmap", 0x027FC }, { "xnis", 0x022FB }, { "xodot", 0x02A00 },
-			{ "xopf", 0x1D569 }, { "xoplus", 0x02A01 }, { "xotime", 0x02A02 },
-			{ "xrArr", 0x027F9 }, { "xrarr", 0x027F6 }, { "xscr", 0x1D4CD },
-			{ "xsqcup", 0x02A06 }, { "xuplus", 0x02A04 }, { "xutri", 0x025B3 },
-			{ "xvee", 0x022C1 }, { "xwedge", 0x022C0 }, { "yacute", 0x000FD },
-			{ "yacy", 0x0044F }, { "ycirc", 0x00177 }, { "ycy", 0x0044B },
-			{ "yen", 0x000A5 }, { "yfr", 0x1D536 }, { "yicy", 0x00457 },
-			{ "yopf", 0x1D56A }, { "yscr", 0x1D4CE }, { "yucy", 0x0044E },
-			{ "yuml", 0x000FF }, { "zacute", 0x0017A }, { "zcaron", 0x0017E },
-			{ "zcy", 0x00437 }, { "zdot", 0x0017C }, { "zeetrf", 0x02128 },
-			{ "zeta", 0x003B6 }, { "zfr", 0x1D537 }, { "zhcy", 0x00436 },
-			{ "zigrarr", 0x021DD }, { "zopf", 0x1D56B }, { "zscr", 0x1D4CF },
-			{ "zwj", 0x0200D }, { "zwnj", 0x0200C } };
-
-	static {
-		full = new HashMap<String, Character>(fullArray.length);
-		xhtmlByVal = new HashMap<Character, String>(xhtmlArray.length);
-		baseByVal = new HashMap<Character, String>(baseArray.length);
-		fullByVal = new HashMap<Character, String>(fullArray.length);
-
-		for (Object[] entity : xhtmlArray) {
-			Character c = Character.valueOf((char) ((Integer) entity[1])
-					.intValue());
-			xhtmlByVal.put(c, ((String) entity[0]));
-		}
-		for (Object[] entity : baseArray) {
-			Character c = Character.valueOf((char) ((Integer) entity[1])
-					.intValue());
-			baseByVal.put(c, ((String) entity[0]));
-		}
-		for (Object[] entity : fullArray) {
-			Character c = Character.valueOf((char) ((Integer) entity[1])
-					.intValue());
-			full.put((String) entity[0], c);
-			fullByVal.put(c, ((String) entity[0]));
-		}
-	}
+	// all named entities
+	private static final String fullData = "AElig=c6;AMP=26;Aacute=c1;Abreve=102;Acirc=c2;Acy=410;Afr=1d504;Agrave=c0;Alpha=391;Amacr=100;"
+			+ "And=2a53;Aogon=104;Aopf=1d538;ApplyFunction=2061;Aring=c5;Ascr=1d49c;Assign=2254;Atilde=c3;"
+			+ "Auml=c4;Backslash=2216;Barv=2ae7;Barwed=2306;Bcy=411;Because=2235;Bernoullis=212c;Beta=392;"
+			+ "Bfr=1d505;Bopf=1d539;Breve=2d8;Bscr=212c;Bumpeq=224e;CHcy=427;COPY=a9;Cacute=106;Cap=22d2;"
+			+ "CapitalDifferentialD=2145;Cayleys=212d;Ccaron=10c;Ccedil=c7;Ccirc=108;Cconint=2230;Cdot=10a;"
+			+ "Cedilla=b8;CenterDot=b7;Cfr=212d;Chi=3a7;CircleDot=2299;CircleMinus=2296;CirclePlus=2295;"
+			+ "CircleTimes=2297;ClockwiseContourIntegral=2232;CloseCurlyDoubleQuote=201d;CloseCurlyQuote=2019;"
+			+ "Colon=2237;Colone=2a74;Congruent=2261;Conint=222f;ContourIntegral=222e;Copf=2102;Coproduct=2210;"
+			+ "CounterClockwiseContourIntegral=2233;Cross=2a2f;Cscr=1d49e;Cup=22d3;CupCap=224d;DD=2145;"
+			+ "DDotrahd=2911;DJcy=402;DScy=405;DZcy=40f;Dagger=2021;Darr=21a1;Dashv=2ae4;Dcaron=10e;Dcy=414;"
+			+ "Del=2207;Delta=394;Dfr=1d507;DiacriticalAcute=b4;DiacriticalDot=2d9;DiacriticalDoubleAcute=2dd;"
+			+ "DiacriticalGrave=60;DiacriticalTilde=2dc;Diamond=22c4;DifferentialD=2146;Dopf=1d53b;Dot=a8;"
+			+ "DotDot=20dc;DotEqual=2250;DoubleContourIntegral=222f;DoubleDot=a8;DoubleDownArrow=21d3;"
+			+ "DoubleLeftArrow=21d0;DoubleLeftRightArrow=21d4;DoubleLeftTee=2ae4;DoubleLongLeftArrow=27f8;"
+			+ "DoubleLongLeftRightArrow=27fa;DoubleLongRightArrow=27f9;DoubleRightArrow=21d2;"
+			+ "DoubleRightTee=22a8;DoubleUpArrow=21d1;DoubleUpDownArrow=21d5;DoubleVerticalBar=2225;"
+			+ "DownArrow=2193;DownArrowBar=2913;DownArrowUpArrow=21f5;DownBreve=311;DownLeftRightVector=2950;"
+			+ "DownLeftTeeVector=295e;DownLeftVector=21bd;DownLeftVectorBar=2956;DownRightTeeVector=295f;"
+			+ "DownRightVector=21c1;DownRightVectorBar=2957;DownTee=22a4;DownTeeArrow=21a7;Downarrow=21d3;"
+			+ "Dscr=1d49f;Dstrok=110;ENG=14a;ETH=d0;Eacute=c9;Ecaron=11a;Ecirc=ca;Ecy=42d;Edot=116;Efr=1d508;"
+			+ "Egrave=c8;Element=2208;Emacr=112;EmptySmallSquare=25fb;EmptyVerySmallSquare=25ab;Eogon=118;"
+			+ "Eopf=1d53c;Epsilon=395;Equal=2a75;EqualTilde=2242;Equilibrium=21cc;Escr=2130;Esim=2a73;Eta=397;"
+			+ "Euml=cb;Exists=2203;ExponentialE=2147;Fcy=424;Ffr=1d509;FilledSmallSquare=25fc;"
+			+ "FilledVerySmallSquare=25aa;Fopf=1d53d;ForAll=2200;Fouriertrf=2131;Fscr=2131;GJcy=403;GT=3e;"
+			+ "Gamma=393;Gammad=3dc;Gbreve=11e;Gcedil=122;Gcirc=11c;Gcy=413;Gdot=120;Gfr=1d50a;Gg=22d9;"
+			+ "Gopf=1d53e;GreaterEqual=2265;GreaterEqualLess=22db;GreaterFullEqual=2267;GreaterGreater=2aa2;"
+			+ "GreaterLess=2277;GreaterSlantEqual=2a7e;GreaterTilde=2273;Gscr=1d4a2;Gt=226b;HARDcy=42a;"
+			+ "Hacek=2c7;Hat=5e;Hcirc=124;Hfr=210c;HilbertSpace=210b;Hopf=210d;HorizontalLine=2500;Hscr=210b;"
+			+ "Hstrok=126;HumpDownHump=224e;HumpEqual=224f;IEcy=415;IJlig=132;IOcy=401;Iacute=cd;Icirc=ce;"
+			+ "Icy=418;Idot=130;Ifr=2111;Igrave=cc;Im=2111;Imacr=12a;ImaginaryI=2148;Implies=21d2;Int=222c;"
+			+ "Integral=222b;Intersection=22c2;InvisibleComma=2063;InvisibleTimes=2062;Iogon=12e;Iopf=1d540;"
+			+ "Iota=399;Iscr=2110;Itilde=128;Iukcy=406;Iuml=cf;Jcirc=134;Jcy=419;Jfr=1d50d;Jopf=1d541;"
+			+ "Jscr=1d4a5;Jsercy=408;Jukcy=404;KHcy=425;KJcy=40c;Kappa=39a;Kcedil=136;Kcy=41a;Kfr=1d50e;"
+			+ "Kopf=1d542;Kscr=1d4a6;LJcy=409;LT=3c;Lacute=139;Lambda=39b;Lang=27ea;Laplacetrf=2112;Larr=219e;"
+			+ "Lcaron=13d;Lcedil=13b;Lcy=41b;LeftAngleBracket=27e8;LeftArrow=2190;LeftArrowBar=21e4;"
+			+ "LeftArrowRightArrow=21c6;LeftCeiling=2308;LeftDoubleBracket=27e6;LeftDownTeeVector=2961;"
+			+ "LeftDownVector=21c3;LeftDownVectorBar=2959;LeftFloor=230a;LeftRightArrow=2194;"
+			+ "LeftRightVector=294e;LeftTee=22a3;LeftTeeArrow=21a4;LeftTeeVector=295a;LeftTriangle=22b2;"
+			+ "LeftTriangleBar=29cf;LeftTriangleEqual=22b4;LeftUpDownVector=2951;LeftUpTeeVector=2960;"
+			+ "LeftUpVector=21bf;LeftUpVectorBar=2958;LeftVector=21bc;LeftVectorBar=2952;Leftarrow=21d0;"
+			+ "Leftrightarrow=21d4;LessEqualGreater=22da;LessFullEqual=2266;LessGreater=2276;LessLess=2aa1;"
+			+ "LessSlantEqual=2a7d;LessTilde=2272;Lfr=1d50f;Ll=22d8;Lleftarrow=21da;Lmidot=13f;"
+			+ "LongLeftArrow=27f5;LongLeftRightArrow=27f7;LongRightArrow=27f6;Longleftarrow=27f8;"
+			+ "Longleftrightarrow=27fa;Longrightarrow=27f9;Lopf=1d543;LowerLeftArrow=2199;LowerRightArrow=2198;"
+			+ "Lscr=2112;Lsh=21b0;Lstrok=141;Lt=226a;Map=2905;Mcy=41c;MediumSpace=205f;Mellintrf=2133;"
+			+ "Mfr=1d510;MinusPlus=2213;Mopf=1d544;Mscr=2133;Mu=39c;NJcy=40a;Nacute=143;Ncaron=147;Ncedil=145;"
+			+ "Ncy=41d;NegativeMediumSpace=200b;NegativeThickSpace=200b;NegativeThinSpace=200b;"
+			+ "NegativeVeryThinSpace=200b;NestedGreaterGreater=226b;NestedLessLess=226a;NewLine=a;Nfr=1d511;"
+			+ "NoBreak=2060;NonBreakingSpace=a0;Nopf=2115;Not=2aec;NotCongruent=2262;NotCupCap=226d;"
+			+ "NotDoubleVerticalBar=2226;NotElement=2209;NotEqual=2260;NotExists=2204;NotGreater=226f;"
+			+ "NotGreaterEqual=2271;NotGreaterLess=2279;NotGreaterTilde=2275;NotLeftTriangle=22ea;"
+			+ "NotLeftTriangleEqual=22ec;NotLess=226e;NotLessEqual=2270;NotLessGreater=2278;NotLessTilde=2274;"
+			+ "NotPrecedes=2280;NotPrecedesSlantEqual=22e0;NotReverseElement=220c;NotRightTriangle=22eb;"
+			+ "NotRightTriangleEqual=22ed;NotSquareSubsetEqual=22e2;NotSquareSupersetEqual=22e3;"
+			+ "NotSubsetEqual=2288;NotSucceeds=2281;NotSucceedsSlantEqual=22e1;NotSupersetEqual=2289;"
+			+ "NotTilde=2241;NotTildeEqual=2244;NotTildeFullEqual=2247;NotTildeTilde=2249;NotVerticalBar=2224;"
+			+ "Nscr=1d4a9;Ntilde=d1;Nu=39d;OElig=152;Oacute=d3;Ocirc=d4;Ocy=41e;Odblac=150;Ofr=1d512;Ograve=d2;"
+			+ "Omacr=14c;Omega=3a9;Omicron=39f;Oopf=1d546;OpenCurlyDoubleQuote=201c;OpenCurlyQuote=2018;"
+			+ "Or=2a54;Oscr=1d4aa;Oslash=d8;Otilde=d5;Otimes=2a37;Ouml=d6;OverBar=203e;OverBrace=23de;"
+			+ "OverBracket=23b4;OverParenthesis=23dc;PartialD=2202;Pcy=41f;Pfr=1d513;Phi=3a6;Pi=3a0;"
+			+ "PlusMinus=b1;Poincareplane=210c;Popf=2119;Pr=2abb;Precedes=227a;PrecedesEqual=2aaf;"
+			+ "PrecedesSlantEqual=227c;PrecedesTilde=227e;Prime=2033;Product=220f;Proportion=2237;"
+			+ "Proportional=221d;Pscr=1d4ab;Psi=3a8;QUOT=22;Qfr=1d514;Qopf=211a;Qscr=1d4ac;RBarr=2910;REG=ae;"
+			+ "Racute=154;Rang=27eb;Rarr=21a0;Rarrtl=2916;Rcaron=158;Rcedil=156;Rcy=420;Re=211c;"
+			+ "ReverseElement=220b;ReverseEquilibrium=21cb;ReverseUpEquilibrium=296f;Rfr=211c;Rho=3a1;"
+			+ "RightAngleBracket=27e9;RightArrow=2192;RightArrowBar=21e5;RightArrowLeftArrow=21c4;"
+			+ "RightCeiling=2309;RightDoubleBracket=27e7;RightDownTeeVector=295d;RightDownVector=21c2;"
+			+ "RightDownVectorBar=2955;RightFloor=230b;RightTee=22a2;RightTeeArrow=21a6;RightTeeVector=295b;"
+			+ "RightTriangle=22b3;RightTriangleBar=29d0;RightTriangleEqual=22b5;RightUpDownVector=294f;"
+			+ "RightUpTeeVector=295c;RightUpVector=21be;RightUpVectorBar=2954;RightVector=21c0;"
+			+ "RightVectorBar=2953;Rightarrow=21d2;Ropf=211d;RoundImplies=2970;Rrightarrow=21db;Rscr=211b;"
+			+ "Rsh=21b1;RuleDelayed=29f4;SHCHcy=429;SHcy=428;SOFTcy=42c;Sacute=15a;Sc=2abc;Scaron=160;"
+			+ "Scedil=15e;Scirc=15c;Scy=421;Sfr=1d516;ShortDownArrow=2193;ShortLeftArrow=2190;"
+			+ "ShortRightArrow=2192;ShortUpArrow=2191;Sigma=3a3;SmallCircle=2218;Sopf=1d54a;Sqrt=221a;"
+			+ "Square=25a1;SquareIntersection=2293;SquareSubset=228f;SquareSubsetEqual=2291;"
+			+ "SquareSuperset=2290;SquareSupersetEqual=2292;SquareUnion=2294;Sscr=1d4ae;Star=22c6;Sub=22d0;"
+			+ "Subset=22d0;SubsetEqual=2286;Succeeds=227b;SucceedsEqual=2ab0;SucceedsSlantEqual=227d;"
+			+ "SucceedsTilde=227f;SuchThat=220b;Sum=2211;Sup=22d1;Superset=2283;SupersetEqual=2287;Supset=22d1;"
+			+ "THORN=de;TRADE=2122;TSHcy=40b;TScy=426;Tab=9;Tau=3a4;Tcaron=164;Tcedil=162;Tcy=422;Tfr=1d517;"
+			+ "Therefore=2234;Theta=398;ThinSpace=2009;Tilde=223c;TildeEqual=2243;TildeFullEqual=2245;"
+			+ "TildeTilde=2248;Topf=1d54b;TripleDot=20db;Tscr=1d4af;Tstrok=166;Uacute=da;Uarr=219f;"
+			+ "Uarrocir=2949;Ubrcy=40e;Ubreve=16c;Ucirc=db;Ucy=423;Udblac=170;Ufr=1d518;Ugrave=d9;Umacr=16a;"
+			+ "UnderBar=5f;UnderBrace=23df;UnderBracket=23b5;UnderParenthesis=23dd;Union=22c3;UnionPlus=228e;"
+			+ "Uogon=172;Uopf=1d54c;UpArrow=2191;UpArrowBar=2912;UpArrowDownArrow=21c5;UpDownArrow=2195;"
+			+ "UpEquilibrium=296e;UpTee=22a5;UpTeeArrow=21a5;Uparrow=21d1;Updownarrow=21d5;UpperLeftArrow=2196;"
+			+ "UpperRightArrow=2197;Upsi=3d2;Upsilon=3a5;Uring=16e;Uscr=1d4b0;Utilde=168;Uuml=dc;VDash=22ab;"
+			+ "Vbar=2aeb;Vcy=412;Vdash=22a9;Vdashl=2ae6;Vee=22c1;Verbar=2016;Vert=2016;VerticalBar=2223;"
+			+ "VerticalLine=7c;VerticalSeparator=2758;VerticalTilde=2240;VeryThinSpace=200a;Vfr=1d519;"
+			+ "Vopf=1d54d;Vscr=1d4b1;Vvdash=22aa;Wcirc=174;Wedge=22c0;Wfr=1d51a;Wopf=1d54e;Wscr=1d4b2;"
+			+ "Xfr=1d51b;Xi=39e;Xopf=1d54f;Xscr=1d4b3;YAcy=42f;YIcy=407;YUcy=42e;Yacute=dd;Ycirc=176;Ycy=42b;"
+			+ "Yfr=1d51c;Yopf=1d550;Yscr=1d4b4;Yuml=178;ZHcy=416;Zacute=179;Zcaron=17d;Zcy=417;Zdot=17b;"
+			+ "ZeroWidthSpace=200b;Zeta=396;Zfr=2128;Zopf=2124;Zscr=1d4b5;aacute=e1;abreve=103;ac=223e;"
+			+ "acd=223f;acirc=e2;acute=b4;acy=430;aelig=e6;af=2061;afr=1d51e;agrave=e0;alefsym=2135;aleph=2135;"
+			+ "alpha=3b1;amacr=101;amalg=2a3f;amp=26;and=2227;andand=2a55;andd=2a5c;andslope=2a58;andv=2a5a;"
+			+ "ang=2220;ange=29a4;angle=2220;angmsd=2221;angmsdaa=29a8;angmsdab=29a9;angmsdac=29aa;"
+			+ "angmsdad=29ab;angmsdae=29ac;angmsdaf=29ad;angmsdag=29ae;angmsdah=29af;angrt=221f;angrtvb=22be;"
+			+ "angrtvbd=299d;angsph=2222;angst=c5;angzarr=237c;aogon=105;aopf=1d552;ap=2248;apE=2a70;"
+			+ "apacir=2a6f;ape=224a;apid=224b;apos=27;approx=2248;approxeq=224a;aring=e5;ascr=1d4b6;ast=2a;"
+			+ "asymp=2248;asympeq=224d;atilde=e3;auml=e4;awconint=2233;awint=2a11;bNot=2aed;backcong=224c;"
+			+ "backepsilon=3f6;backprime=2035;backsim=223d;backsimeq=22cd;barvee=22bd;barwed=2305;"
+			+ "barwedge=2305;bbrk=23b5;bbrktbrk=23b6;bcong=224c;bcy=431;bdquo=201e;becaus=2235;because=2235;"
+			+ "bemptyv=29b0;bepsi=3f6;bernou=212c;beta=3b2;beth=2136;between=226c;bfr=1d51f;bigcap=22c2;"
+			+ "bigcirc=25ef;bigcup=22c3;bigodot=2a00;bigoplus=2a01;bigotimes=2a02;bigsqcup=2a06;bigstar=2605;"
+			+ "bigtriangledown=25bd;bigtriangleup=25b3;biguplus=2a04;bigvee=22c1;bigwedge=22c0;bkarow=290d;"
+			+ "blacklozenge=29eb;blacksquare=25aa;blacktriangle=25b4;blacktriangledown=25be;"
+			+ "blacktriangleleft=25c2;blacktriangleright=25b8;blank=2423;blk12=2592;blk14=2591;blk34=2593;"
+			+ "block=2588;bnot=2310;bopf=1d553;bot=22a5;bottom=22a5;bowtie=22c8;boxDL=2557;boxDR=2554;"
+			+ "boxDl=2556;boxDr=2553;boxH=2550;boxHD=2566;boxHU=2569;boxHd=2564;boxHu=2567;boxUL=255d;"
+			+ "boxUR=255a;boxUl=255c;boxUr=2559;boxV=2551;boxVH=256c;boxVL=2563;boxVR=2560;boxVh=256b;"
+			+ "boxVl=2562;boxVr=255f;boxbox=29c9;boxdL=2555;boxdR=2552;boxdl=2510;boxdr=250c;boxh=2500;"
+			+ "boxhD=2565;boxhU=2568;boxhd=252c;boxhu=2534;boxminus=229f;boxplus=229e;boxtimes=22a0;boxuL=255b;"
+			+ "boxuR=2558;boxul=2518;boxur=2514;boxv=2502;boxvH=256a;boxvL=2561;boxvR=255e;boxvh=253c;"
+			+ "boxvl=2524;boxvr=251c;bprime=2035;breve=2d8;brvbar=a6;bscr=1d4b7;bsemi=204f;bsim=223d;"
+			+ "bsime=22cd;bsol=5c;bsolb=29c5;bsolhsub=27c8;bull=2022;bullet=2022;bump=224e;bumpE=2aae;"
+			+ "bumpe=224f;bumpeq=224f;cacute=107;cap=2229;capand=2a44;capbrcup=2a49;capcap=2a4b;capcup=2a47;"
+			+ "capdot=2a40;caret=2041;caron=2c7;ccaps=2a4d;ccaron=10d;ccedil=e7;ccirc=109;ccups=2a4c;"
+			+ "ccupssm=2a50;cdot=10b;cedil=b8;cemptyv=29b2;cent=a2;centerdot=b7;cfr=1d520;chcy=447;check=2713;"
+			+ "checkmark=2713;chi=3c7;cir=25cb;cirE=29c3;circ=2c6;circeq=2257;circlearrowleft=21ba;"
+			+ "circlearrowright=21bb;circledR=ae;circledS=24c8;circledast=229b;circledcirc=229a;"
+			+ "circleddash=229d;cire=2257;cirfnint=2a10;cirmid=2aef;cirscir=29c2;clubs=2663;clubsuit=2663;"
+			+ "colon=3a;colone=2254;coloneq=2254;comma=2c;commat=40;comp=2201;compfn=2218;complement=2201;"
+			+ "complexes=2102;cong=2245;congdot=2a6d;conint=222e;copf=1d554;coprod=2210;copy=a9;copysr=2117;"
+			+ "crarr=21b5;cross=2717;cscr=1d4b8;csub=2acf;csube=2ad1;csup=2ad0;csupe=2ad2;ctdot=22ef;"
+			+ "cudarrl=2938;cudarrr=2935;cuepr=22de;cuesc=22df;cularr=21b6;cularrp=293d;cup=222a;cupbrcap=2a48;"
+			+ "cupcap=2a46;cupcup=2a4a;cupdot=228d;cupor=2a45;curarr=21b7;curarrm=293c;curlyeqprec=22de;"
+			+ "curlyeqsucc=22df;curlyvee=22ce;curlywedge=22cf;curren=a4;curvearrowleft=21b6;"
+			+ "curvearrowright=21b7;cuvee=22ce;cuwed=22cf;cwconint=2232;cwint=2231;cylcty=232d;dArr=21d3;"
+			+ "dHar=2965;dagger=2020;daleth=2138;darr=2193;dash=2010;dashv=22a3;dbkarow=290f;dblac=2dd;"
+			+ "dcaron=10f;dcy=434;dd=2146;ddagger=2021;ddarr=21ca;ddotseq=2a77;deg=b0;delta=3b4;demptyv=29b1;"
+			+ "dfisht=297f;dfr=1d521;dharl=21c3;dharr=21c2;diam=22c4;diamond=22c4;diamondsuit=2666;diams=2666;"
+			+ "die=a8;digamma=3dd;disin=22f2;div=f7;divide=f7;divideontimes=22c7;divonx=22c7;djcy=452;"
+			+ "dlcorn=231e;dlcrop=230d;dollar=24;dopf=1d555;dot=2d9;doteq=2250;doteqdot=2251;dotminus=2238;"
+			+ "dotplus=2214;dotsquare=22a1;doublebarwedge=2306;downarrow=2193;downdownarrows=21ca;"
+			+ "downharpoonleft=21c3;downharpoonright=21c2;drbkarow=2910;drcorn=231f;drcrop=230c;dscr=1d4b9;"
+			+ "dscy=455;dsol=29f6;dstrok=111;dtdot=22f1;dtri=25bf;dtrif=25be;duarr=21f5;duhar=296f;"
+			+ "dwangle=29a6;dzcy=45f;dzigrarr=27ff;eDDot=2a77;eDot=2251;eacute=e9;easter=2a6e;ecaron=11b;"
+			+ "ecir=2256;ecirc=ea;ecolon=2255;ecy=44d;edot=117;ee=2147;efDot=2252;efr=1d522;eg=2a9a;egrave=e8;"
+			+ "egs=2a96;egsdot=2a98;el=2a99;elinters=23e7;ell=2113;els=2a95;elsdot=2a97;emacr=113;empty=2205;"
+			+ "emptyset=2205;emptyv=2205;emsp=2003;emsp13=2004;emsp14=2005;eng=14b;ensp=2002;eogon=119;"
+			+ "eopf=1d556;epar=22d5;eparsl=29e3;eplus=2a71;epsi=3b5;epsilon=3b5;epsiv=3f5;eqcirc=2256;"
+			+ "eqcolon=2255;eqsim=2242;eqslantgtr=2a96;eqslantless=2a95;equals=3d;equest=225f;equiv=2261;"
+			+ "equivDD=2a78;eqvparsl=29e5;erDot=2253;erarr=2971;escr=212f;esdot=2250;esim=2242;eta=3b7;eth=f0;"
+			+ "euml=eb;euro=20ac;excl=21;exist=2203;expectation=2130;exponentiale=2147;fallingdotseq=2252;"
+			+ "fcy=444;female=2640;ffilig=fb03;fflig=fb00;ffllig=fb04;ffr=1d523;filig=fb01;flat=266d;"
+			+ "fllig=fb02;fltns=25b1;fnof=192;fopf=1d557;forall=2200;fork=22d4;forkv=2ad9;fpartint=2a0d;"
+			+ "frac12=bd;frac13=2153;frac14=bc;frac15=2155;frac16=2159;frac18=215b;frac23=2154;frac25=2156;"
+			+ "frac34=be;frac35=2157;frac38=215c;frac45=2158;frac56=215a;frac58=215d;frac78=215e;frasl=2044;"
+			+ "frown=2322;fscr=1d4bb;gE=2267;gEl=2a8c;gacute=1f5;gamma=3b3;gammad=3dd;gap=2a86;gbreve=11f;"
+			+ "gcirc=11d;gcy=433;gdot=121;ge=2265;gel=22db;geq=2265;geqq=2267;geqslant=2a7e;ges=2a7e;"
+			+ "gescc=2aa9;gesdot=2a80;gesdoto=2a82;gesdotol=2a84;gesles=2a94;gfr=1d524;gg=226b;ggg=22d9;"
+			+ "gimel=2137;gjcy=453;gl=2277;glE=2a92;gla=2aa5;glj=2aa4;gnE=2269;gnap=2a8a;gnapprox=2a8a;"
+			+ "gne=2a88;gneq=2a88;gneqq=2269;gnsim=22e7;gopf=1d558;grave=60;gscr=210a;gsim=2273;gsime=2a8e;"
+			+ "gsiml=2a90;gt=3e;gtcc=2aa7;gtcir=2a7a;gtdot=22d7;gtlPar=2995;gtquest=2a7c;gtrapprox=2a86;"
+			+ "gtrarr=2978;gtrdot=22d7;gtreqless=22db;gtreqqless=2a8c;gtrless=2277;gtrsim=2273;hArr=21d4;"
+			+ "hairsp=200a;half=bd;hamilt=210b;hardcy=44a;harr=2194;harrcir=2948;harrw=21ad;hbar=210f;"
+			+ "hcirc=125;hearts=2665;heartsuit=2665;hellip=2026;hercon=22b9;hfr=1d525;hksearow=2925;"
+			+ "hkswarow=2926;hoarr=21ff;homtht=223b;hookleftarrow=21a9;hookrightarrow=21aa;hopf=1d559;"
+			+ "horbar=2015;hscr=1d4bd;hslash=210f;hstrok=127;hybull=2043;hyphen=2010;iacute=ed;ic=2063;"
+			+ "icirc=ee;icy=438;iecy=435;iexcl=a1;iff=21d4;ifr=1d526;igrave=ec;ii=2148;iiiint=2a0c;iiint=222d;"
+			+ "iinfin=29dc;iiota=2129;ijlig=133;imacr=12b;image=2111;imagline=2110;imagpart=2111;imath=131;"
+			+ "imof=22b7;imped=1b5;in=2208;incare=2105;infin=221e;infintie=29dd;inodot=131;int=222b;"
+			+ "intcal=22ba;integers=2124;intercal=22ba;intlarhk=2a17;intprod=2a3c;iocy=451;iogon=12f;"
+			+ "iopf=1d55a;iota=3b9;iprod=2a3c;iquest=bf;iscr=1d4be;isin=2208;isinE=22f9;isindot=22f5;"
+			+ "isins=22f4;isinsv=22f3;isinv=2208;it=2062;itilde=129;iukcy=456;iuml=ef;jcirc=135;jcy=439;"
+			+ "jfr=1d527;jmath=237;jopf=1d55b;jscr=1d4bf;jsercy=458;jukcy=454;kappa=3ba;kappav=3f0;kcedil=137;"
+			+ "kcy=43a;kfr=1d528;kgreen=138;khcy=445;kjcy=45c;kopf=1d55c;kscr=1d4c0;lAarr=21da;lArr=21d0;"
+			+ "lAtail=291b;lBarr=290e;lE=2266;lEg=2a8b;lHar=2962;lacute=13a;laemptyv=29b4;lagran=2112;"
+			+ "lambda=3bb;lang=27e8;langd=2991;langle=27e8;lap=2a85;laquo=ab;larr=2190;larrb=21e4;larrbfs=291f;"
+			+ "larrfs=291d;larrhk=21a9;larrlp=21ab;larrpl=2939;larrsim=2973;larrtl=21a2;lat=2aab;latail=2919;"
+			+ "late=2aad;lbarr=290c;lbbrk=2772;lbrace=7b;lbrack=5b;lbrke=298b;lbrksld=298f;lbrkslu=298d;"
+			+ "lcaron=13e;lcedil=13c;lceil=2308;lcub=7b;lcy=43b;ldca=2936;ldquo=201c;ldquor=201e;ldrdhar=2967;"
+			+ "ldrushar=294b;ldsh=21b2;le=2264;leftarrow=2190;leftarrowtail=21a2;leftharpoondown=21bd;"
+			+ "leftharpoonup=21bc;leftleftarrows=21c7;leftrightarrow=2194;leftrightarrows=21c6;"
+			+ "leftrightharpoons=21cb;leftrightsquigarrow=21ad;leftthreetimes=22cb;leg=22da;leq=2264;leqq=2266;"
+			+ "leqslant=2a7d;les=2a7d;lescc=2aa8;lesdot=2a7f;lesdoto=2a81;lesdotor=2a83;lesges=2a93;"
+			+ "lessapprox=2a85;lessdot=22d6;lesseqgtr=22da;lesseqqgtr=2a8b;lessgtr=2276;lesssim=2272;"
+			+ "lfisht=297c;lfloor=230a;lfr=1d529;lg=2276;lgE=2a91;lhard=21bd;lharu=21bc;lharul=296a;lhblk=2584;"
+			+ "ljcy=459;ll=226a;llarr=21c7;llcorner=231e;llhard=296b;lltri=25fa;lmidot=140;lmoust=23b0;"
+			+ "lmoustache=23b0;lnE=2268;lnap=2a89;lnapprox=2a89;lne=2a87;lneq=2a87;lneqq=2268;lnsim=22e6;"
+			+ "loang=27ec;loarr=21fd;lobrk=27e6;longleftarrow=27f5;longleftrightarrow=27f7;longmapsto=27fc;"
+			+ "longrightarrow=27f6;looparrowleft=21ab;looparrowright=21ac;lopar=2985;lopf=1d55d;loplus=2a2d;"
+			+ "lotimes=2a34;lowast=2217;lowbar=5f;loz=25ca;lozenge=25ca;lozf=29eb;lpar=28;lparlt=2993;"
+			+ "lrarr=21c6;lrcorner=231f;lrhar=21cb;lrhard=296d;lrm=200e;lrtri=22bf;lsaquo=2039;lscr=1d4c1;"
+			+ "lsh=21b0;lsim=2272;lsime=2a8d;lsimg=2a8f;lsqb=5b;lsquo=2018;lsquor=201a;lstrok=142;lt=3c;"
+			+ "ltcc=2aa6;ltcir=2a79;ltdot=22d6;lthree=22cb;ltimes=22c9;ltlarr=2976;ltquest=2a7b;ltrPar=2996;"
+			+ "ltri=25c3;ltrie=22b4;ltrif=25c2;lurdshar=294a;luruhar=2966;mDDot=223a;macr=af;male=2642;"
+			+ "malt=2720;maltese=2720;map=21a6;mapsto=21a6;mapstodown=21a7;mapstoleft=21a4;mapstoup=21a5;"
+			+ "marker=25ae;mcomma=2a29;mcy=43c;mdash=2014;measuredangle=2221;mfr=1d52a;mho=2127;micro=b5;"
+			+ "mid=2223;midast=2a;midcir=2af0;middot=b7;minus=2212;minusb=229f;minusd=2238;minusdu=2a2a;"
+			+ "mlcp=2adb;mldr=2026;mnplus=2213;models=22a7;mopf=1d55e;mp=2213;mscr=1d4c2;mstpos=223e;mu=3bc;"
+			+ "multimap=22b8;mumap=22b8;nLeftarrow=21cd;nLeftrightarrow=21ce;nRightarrow=21cf;nVDash=22af;"
+			+ "nVdash=22ae;nabla=2207;nacute=144;nap=2249;napos=149;napprox=2249;natur=266e;natural=266e;"
+			+ "naturals=2115;nbsp=a0;ncap=2a43;ncaron=148;ncedil=146;ncong=2247;ncup=2a42;ncy=43d;ndash=2013;"
+			+ "ne=2260;neArr=21d7;nearhk=2924;nearr=2197;nearrow=2197;nequiv=2262;nesear=2928;nexist=2204;"
+			+ "nexists=2204;nfr=1d52b;nge=2271;ngeq=2271;ngsim=2275;ngt=226f;ngtr=226f;nhArr=21ce;nharr=21ae;"
+			+ "nhpar=2af2;ni=220b;nis=22fc;nisd=22fa;niv=220b;njcy=45a;nlArr=21cd;nlarr=219a;nldr=2025;"
+			+ "nle=2270;nleftarrow=219a;nleftrightarrow=21ae;nleq=2270;nless=226e;nlsim=2274;nlt=226e;"
+			+ "nltri=22ea;nltrie=22ec;nmid=2224;nopf=1d55f;not=ac;notin=2209;notinva=2209;notinvb=22f7;"
+			+ "notinvc=22f6;notni=220c;notniva=220c;notnivb=22fe;notnivc=22fd;npar=2226;nparallel=2226;"
+			+ "npolint=2a14;npr=2280;nprcue=22e0;nprec=2280;nrArr=21cf;nrarr=219b;nrightarrow=219b;nrtri=22eb;"
+			+ "nrtrie=22ed;nsc=2281;nsccue=22e1;nscr=1d4c3;nshortmid=2224;nshortparallel=2226;nsim=2241;"
+			+ "nsime=2244;nsimeq=2244;nsmid=2224;nspar=2226;nsqsube=22e2;nsqsupe=22e3;nsub=2284;nsube=2288;"
+			+ "nsubseteq=2288;nsucc=2281;nsup=2285;nsupe=2289;nsupseteq=2289;ntgl=2279;ntilde=f1;ntlg=2278;"
+			+ "ntriangleleft=22ea;ntrianglelefteq=22ec;ntriangleright=22eb;ntrianglerighteq=22ed;nu=3bd;num=23;"
+			+ "numero=2116;numsp=2007;nvDash=22ad;nvHarr=2904;nvdash=22ac;nvinfin=29de;nvlArr=2902;nvrArr=2903;"
+			+ "nwArr=21d6;nwarhk=2923;nwarr=2196;nwarrow=2196;nwnear=2927;oS=24c8;oacute=f3;oast=229b;"
+			+ "ocir=229a;ocirc=f4;ocy=43e;odash=229d;odblac=151;odiv=2a38;odot=2299;odsold=29bc;oelig=153;"
+			+ "ofcir=29bf;ofr=1d52c;ogon=2db;ograve=f2;ogt=29c1;ohbar=29b5;ohm=3a9;oint=222e;olarr=21ba;"
+			+ "olcir=29be;olcross=29bb;oline=203e;olt=29c0;omacr=14d;omega=3c9;omicron=3bf;omid=29b6;"
+			+ "ominus=2296;oopf=1d560;opar=29b7;operp=29b9;oplus=2295;or=2228;orarr=21bb;ord=2a5d;order=2134;"
+			+ "orderof=2134;ordf=aa;ordm=ba;origof=22b6;oror=2a56;orslope=2a57;orv=2a5b;oscr=2134;oslash=f8;"
+			+ "osol=2298;otilde=f5;otimes=2297;otimesas=2a36;ouml=f6;ovbar=233d;par=2225;para=b6;parallel=2225;"
+			+ "parsim=2af3;parsl=2afd;part=2202;pcy=43f;percnt=25;period=2e;permil=2030;perp=22a5;pertenk=2031;"
+			+ "pfr=1d52d;phi=3c6;phiv=3d5;phmmat=2133;phone=260e;pi=3c0;pitchfork=22d4;piv=3d6;planck=210f;"
+			+ "planckh=210e;plankv=210f;plus=2b;plusacir=2a23;plusb=229e;pluscir=2a22;plusdo=2214;plusdu=2a25;"
+			+ "pluse=2a72;plusmn=b1;plussim=2a26;plustwo=2a27;pm=b1;pointint=2a15;popf=1d561;pound=a3;pr=227a;"
+			+ "prE=2ab3;prap=2ab7;prcue=227c;pre=2aaf;prec=227a;precapprox=2ab7;preccurlyeq=227c;preceq=2aaf;"
+			+ "precnapprox=2ab9;precneqq=2ab5;precnsim=22e8;precsim=227e;prime=2032;primes=2119;prnE=2ab5;"
+			+ "prnap=2ab9;prnsim=22e8;prod=220f;profalar=232e;profline=2312;profsurf=2313;prop=221d;"
+			+ "propto=221d;prsim=227e;prurel=22b0;pscr=1d4c5;psi=3c8;puncsp=2008;qfr=1d52e;qint=2a0c;"
+			+ "qopf=1d562;qprime=2057;qscr=1d4c6;quaternions=210d;quatint=2a16;quest=3f;questeq=225f;quot=22;"
+			+ "rAarr=21db;rArr=21d2;rAtail=291c;rBarr=290f;rHar=2964;racute=155;radic=221a;raemptyv=29b3;"
+			+ "rang=27e9;rangd=2992;range=29a5;rangle=27e9;raquo=bb;rarr=2192;rarrap=2975;rarrb=21e5;"
+			+ "rarrbfs=2920;rarrc=2933;rarrfs=291e;rarrhk=21aa;rarrlp=21ac;rarrpl=2945;rarrsim=2974;"
+			+ "rarrtl=21a3;rarrw=219d;ratail=291a;ratio=2236;rationals=211a;rbarr=290d;rbbrk=2773;rbrace=7d;"
+			+ "rbrack=5d;rbrke=298c;rbrksld=298e;rbrkslu=2990;rcaron=159;rcedil=157;rceil=2309;rcub=7d;rcy=440;"
+			+ "rdca=2937;rdldhar=2969;rdquo=201d;rdquor=201d;rdsh=21b3;real=211c;realine=211b;realpart=211c;"
+			+ "reals=211d;rect=25ad;reg=ae;rfisht=297d;rfloor=230b;rfr=1d52f;rhard=21c1;rharu=21c0;rharul=296c;"
+			+ "rho=3c1;rhov=3f1;rightarrow=2192;rightarrowtail=21a3;rightharpoondown=21c1;rightharpoonup=21c0;"
+			+ "rightleftarrows=21c4;rightleftharpoons=21cc;rightrightarrows=21c9;rightsquigarrow=219d;"
+			+ "rightthreetimes=22cc;ring=2da;risingdotseq=2253;rlarr=21c4;rlhar=21cc;rlm=200f;rmoust=23b1;"
+			+ "rmoustache=23b1;rnmid=2aee;roang=27ed;roarr=21fe;robrk=27e7;ropar=2986;ropf=1d563;roplus=2a2e;"
+			+ "rotimes=2a35;rpar=29;rpargt=2994;rppolint=2a12;rrarr=21c9;rsaquo=203a;rscr=1d4c7;rsh=21b1;"
+			+ "rsqb=5d;rsquo=2019;rsquor=2019;rthree=22cc;rtimes=22ca;rtri=25b9;rtrie=22b5;rtrif=25b8;"
+			+ "rtriltri=29ce;ruluhar=2968;rx=211e;sacute=15b;sbquo=201a;sc=227b;scE=2ab4;scap=2ab8;scaron=161;"
+			+ "sccue=227d;sce=2ab0;scedil=15f;scirc=15d;scnE=2ab6;scnap=2aba;scnsim=22e9;scpolint=2a13;"
+			+ "scsim=227f;scy=441;sdot=22c5;sdotb=22a1;sdote=2a66;seArr=21d8;searhk=2925;searr=2198;"
+			+ "searrow=2198;sect=a7;semi=3b;seswar=2929;setminus=2216;setmn=2216;sext=2736;sfr=1d530;"
+			+ "sfrown=2322;sharp=266f;shchcy=449;shcy=448;shortmid=2223;shortparallel=2225;shy=ad;sigma=3c3;"
+			+ "sigmaf=3c2;sigmav=3c2;sim=223c;simdot=2a6a;sime=2243;simeq=2243;simg=2a9e;simgE=2aa0;siml=2a9d;"
+			+ "simlE=2a9f;simne=2246;simplus=2a24;simrarr=2972;slarr=2190;smallsetminus=2216;smashp=2a33;"
+			+ "smeparsl=29e4;smid=2223;smile=2323;smt=2aaa;smte=2aac;softcy=44c;sol=2f;solb=29c4;solbar=233f;"
+			+ "sopf=1d564;spades=2660;spadesuit=2660;spar=2225;sqcap=2293;sqcup=2294;sqsub=228f;sqsube=2291;"
+			+ "sqsubset=228f;sqsubseteq=2291;sqsup=2290;sqsupe=2292;sqsupset=2290;sqsupseteq=2292;squ=25a1;"
+			+ "square=25a1;squarf=25aa;squf=25aa;srarr=2192;sscr=1d4c8;ssetmn=2216;ssmile=2323;sstarf=22c6;"
+			+ "star=2606;starf=2605;straightepsilon=3f5;straightphi=3d5;strns=af;sub=2282;subE=2ac5;"
+			+ "subdot=2abd;sube=2286;subedot=2ac3;submult=2ac1;subnE=2acb;subne=228a;subplus=2abf;subrarr=2979;"
+			+ "subset=2282;subseteq=2286;subseteqq=2ac5;subsetneq=228a;subsetneqq=2acb;subsim=2ac7;subsub=2ad5;"
+			+ "subsup=2ad3;succ=227b;succapprox=2ab8;succcurlyeq=227d;succeq=2ab0;succnapprox=2aba;"
+			+ "succneqq=2ab6;succnsim=22e9;succsim=227f;sum=2211;sung=266a;sup=2283;sup1=b9;sup2=b2;sup3=b3;"
+			+ "supE=2ac6;supdot=2abe;supdsub=2ad8;supe=2287;supedot=2ac4;suphsol=27c9;suphsub=2ad7;"
+			+ "suplarr=297b;supmult=2ac2;supnE=2acc;supne=228b;supplus=2ac0;supset=2283;supseteq=2287;"
+			+ "supseteqq=2ac6;supsetneq=228b;supsetneqq=2acc;supsim=2ac8;supsub=2ad4;supsup=2ad6;swArr=21d9;"
+			+ "swarhk=2926;swarr=2199;swarrow=2199;swnwar=292a;szlig=df;target=2316;tau=3c4;tbrk=23b4;"
+			+ "tcaron=165;tcedil=163;tcy=442;tdot=20db;telrec=2315;tfr=1d531;there4=2234;therefore=2234;"
+			+ "theta=3b8;thetasym=3d1;thetav=3d1;thickapprox=2248;thicksim=223c;thinsp=2009;thkap=2248;"
+			+ "thksim=223c;thorn=fe;tilde=2dc;times=d7;timesb=22a0;timesbar=2a31;timesd=2a30;tint=222d;"
+			+ "toea=2928;top=22a4;topbot=2336;topcir=2af1;topf=1d565;topfork=2ada;tosa=2929;tprime=2034;"
+			+ "trade=2122;triangle=25b5;triangledown=25bf;triangleleft=25c3;trianglelefteq=22b4;triangleq=225c;"
+			+ "triangleright=25b9;trianglerighteq=22b5;tridot=25ec;trie=225c;triminus=2a3a;triplus=2a39;"
+			+ "trisb=29cd;tritime=2a3b;trpezium=23e2;tscr=1d4c9;tscy=446;tshcy=45b;tstrok=167;twixt=226c;"
+			+ "twoheadleftarrow=219e;twoheadrightarrow=21a0;uArr=21d1;uHar=2963;uacute=fa;uarr=2191;ubrcy=45e;"
+			+ "ubreve=16d;ucirc=fb;ucy=443;udarr=21c5;udblac=171;udhar=296e;ufisht=297e;ufr=1d532;ugrave=f9;"
+			+ "uharl=21bf;uharr=21be;uhblk=2580;ulcorn=231c;ulcorner=231c;ulcrop=230f;ultri=25f8;umacr=16b;"
+			+ "uml=a8;uogon=173;uopf=1d566;uparrow=2191;updownarrow=2195;upharpoonleft=21bf;"
+			+ "upharpoonright=21be;uplus=228e;upsi=3c5;upsih=3d2;upsilon=3c5;upuparrows=21c8;urcorn=231d;"
+			+ "urcorner=231d;urcrop=230e;uring=16f;urtri=25f9;uscr=1d4ca;utdot=22f0;utilde=169;utri=25b5;"
+			+ "utrif=25b4;uuarr=21c8;uuml=fc;uwangle=29a7;vArr=21d5;vBar=2ae8;vBarv=2ae9;vDash=22a8;"
+			+ "vangrt=299c;varepsilon=3f5;varkappa=3f0;varnothing=2205;varphi=3d5;varpi=3d6;varpropto=221d;"
+			+ "varr=2195;varrho=3f1;varsigma=3c2;vartheta=3d1;vartriangleleft=22b2;vartriangleright=22b3;"
+			+ "vcy=432;vdash=22a2;vee=2228;veebar=22bb;veeeq=225a;vellip=22ee;verbar=7c;vert=7c;vfr=1d533;"
+			+ "vltri=22b2;vopf=1d567;vprop=221d;vrtri=22b3;vscr=1d4cb;vzigzag=299a;wcirc=175;wedbar=2a5f;"
+			+ "wedge=2227;wedgeq=2259;weierp=2118;wfr=1d534;wopf=1d568;wp=2118;wr=2240;wreath=2240;wscr=1d4cc;"
+			+ "xcap=22c2;xcirc=25ef;xcup=22c3;xdtri=25bd;xfr=1d535;xhArr=27fa;xharr=27f7;xi=3be;xlArr=27f8;"
+			+ "xlarr=27f5;xmap=27fc;xnis=22fb;xodot=2a00;xopf=1d569;xoplus=2a01;xotime=2a02;xrArr=27f9;"
+			+ "xrarr=27f6;xscr=1d4cd;xsqcup=2a06;xuplus=2a04;xutri=25b3;xvee=22c1;xwedge=22c0;yacute=fd;"
+			+ "yacy=44f;ycirc=177;ycy=44b;yen=a5;yfr=1d536;yicy=457;yopf=1d56a;yscr=1d4ce;yucy=44e;yuml=ff;"
+			+ "zacute=17a;zcaron=17e;zcy=437;zdot=17c;zeetrf=2128;zeta=3b6;zfr=1d537;zhcy=436;zigrarr=21dd;"
+			+ "zopf=1d56b;zscr=1d4cf;zwj=200d;zwnj=200c;";
 
 }
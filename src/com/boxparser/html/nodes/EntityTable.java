@@ -0,0 +1,44 @@
+package com.boxparser.html.nodes;
+
+/**
+ * A table of named entities, unpacked from the string form {@link Entities} keeps them in: {@code name=hex;} for each
+ * entity, in name order. Kept as a string, a table costs one constant until it is used, where boxed pairs cost an
+ * object graph built at class initialisation.
+ */
+final class EntityTable {
+
+    private final String[] names;
+    private final int[]    codePoints;
+
+    EntityTable(String packed){
+        int count = 0;
+        for (int i = 0; i < packed.length(); i++)
+            if (packed.charAt(i) == ';') count++;
+        names = new String[count];
+        codePoints = new int[count];
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int equals = packed.indexOf('=', pos);
+            int end = packed.indexOf(';', equals);
+            names[i] = packed.substring(pos, equals);
+            int codePoint = 0;
+            for (int digit = equals + 1; digit < end; digit++)
+                codePoint = codePoint << 4 | Character.digit(packed.charAt(digit), 16);
+            codePoints[i] = codePoint;
+            pos = end + 1;
+        }
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(int index) {
+        return names[index];
+    }
+
+    int codePoint(int index) {
+        return codePoints[index];
+    }
+}
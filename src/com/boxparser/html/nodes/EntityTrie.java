@@ -0,0 +1,104 @@
+package com.boxparser.html.nodes;
+
+import java.util.Arrays;
+
+/**
+ * The named entities as a char trie, for a longest match in one forward pass: a reader steps along the trie a char at
+ * a time from {@link #root}, noting the last node that ends a name, until {@link #next(int, char)} finds no way on.
+ * <p>
+ * Held as three arrays, nodes numbered breadth first so that each node's children are numbered in a row, in char
+ * order: a child is found by binary search over the chars leading into them, and nothing is allocated per lookup.
+ */
+public final class EntityTrie {
+
+    public static final int root = 0;
+
+    private final int[]     firstChild; // the children of node i are nodes firstChild[i] to firstChild[i + 1] - 1
+    private final char[]    label;      // the char leading into each node
+    private final int[]     codePoint;  // the code point of the name ending at each node, or -1
+
+    /**
+     * @param entities the named entities, in name order
+     */
+    EntityTrie(EntityTable entities){
+        String[] names = new String[entities.size()];
+        int[] values = new int[entities.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = entities.name(i);
+            values[i] = entities.codePoint(i);
+        }
+
+        // each node is the run of sorted names [lo, hi) sharing its prefix of length depth; the queue is the nodes
+        int capacity = 64;
+        int[] lo = new int[capacity], hi = new int[capacity], depth = new int[capacity];
+        int[] first = new int[capacity + 1];
+        char[] labels = new char[capacity];
+        int[] points = new int[capacity];
+        lo[0] = 0;
+        hi[0] = names.length;
+        int count = 1;
+        for (int node = 0; node < count; node++) {
+            int d = depth[node];
+            int i = lo[node];
+            points[node] = -1;
+            for (; i < hi[node] && names[i].length() == d; i++) // sorts before its extensions; first one wins
+                if (points[node] == -1) points[node] = values[i];
+            first[node] = count;
+            while (i < hi[node]) {
+                char c = names[i].charAt(d);
+                int end = i + 1;
+                while (end < hi[node] && names[end].charAt(d) == c)
+                    end++;
+                if (count == capacity) {
+                    capacity *= 2;
+                    lo = Arrays.copyOf(lo, capacity);
+                    hi = Arrays.copyOf(hi, capacity);
+                    depth = Arrays.copyOf(depth, capacity);
+                    first = Arrays.copyOf(first, capacity + 1);
+                    labels = Arrays.copyOf(labels, capacity);
+                    points = Arrays.copyOf(points, capacity);
+                }
+                lo[count] = i;
+                hi[count] = end;
+                depth[count] = d + 1;
+                labels[count] = c;
+                count++;
+                i = end;
+            }
+        }
+        first[count] = count;
+
+        firstChild = Arrays.copyOf(first, count + 1);
+        label = Arrays.copyOf(labels, count);
+        codePoint = Arrays.copyOf(points, count);
+    }
+
+    /**
+     * @return the node reached from the given node by the char, or -1 if no name goes on that way
+     */
+    public int next(int node, char c) {
+        int lo = firstChild[node], hi = firstChild[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = label[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the code point of the name that ends at the node, or -1 if none does
+     */
+    public int codePoint(int node) {
+        return codePoint[node];
+    }
+
+    /**
+     * @return the number of nodes, for sizing
+     */
+    public int size() {
+        return label.length;
+    }
+}
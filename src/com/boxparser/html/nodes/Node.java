@@ -22,6 +22,7 @@ public abstract class Node implements Cloneable, Serializable {
     List<Node> childNodes;
     Attributes attributes;
     int        siblingIndex;
+    int[]      sourceRange; // start and end offsets in the input, if the parse tracked positions
     Map        memory;      // ڴбһЩݣDomûйϵ
 
     protected Node(Attributes attributes){
@@ -144,6 +145,7 @@ public abstract class Node implements Cloneable, Serializable {
         clone.attributes = attributes != null ? attributes.clone() : null;
         clone.childNodes = new ArrayList<Node>(childNodes.size());
         clone.memory = memory != null ? new HashMap(memory) : null;
+        clone.sourceRange = sourceRange != null ? sourceRange.clone() : null;
         for (Node child : childNodes)
             clone.childNodes.add(child.doClone(clone)); // clone() creates orphans, doClone() keeps parent
 
@@ -163,6 +165,28 @@ public abstract class Node implements Cloneable, Serializable {
         this.siblingIndex = siblingIndex;
     }
 
+    /**
+     * @return the offset in the input this node was parsed from, or -1 if positions were not tracked
+     * @see com.boxparser.parse.HtmlParser.ParseSettings#trackPositions(boolean)
+     */
+    public int sourceStart() {
+        return sourceRange != null ? sourceRange[0] : -1;
+    }
+
+    /**
+     * @return the offset in the input just past this node, or -1 if positions were not tracked
+     */
+    public int sourceEnd() {
+        return sourceRange != null ? sourceRange[1] : -1;
+    }
+
+    public Node sourceRange(int start, int end) {
+        if (sourceRange == null) sourceRange = new int[2];
+        sourceRange[0] = start;
+        sourceRange[1] = end;
+        return this;
+    }
+
     public String attr(String attributeKey) {
         Validate.notNull(attributeKey);
 
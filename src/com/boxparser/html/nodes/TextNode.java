@@ -1,12 +1,15 @@
 package com.boxparser.html.nodes;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
 import com.boxparser.html.util.StringUtil;
 import com.boxparser.parse.HtmlParser.OutputSettings;
 
 public class TextNode extends Node {
 
     private static final String TEXT_KEY = "text";
-    String                      text;
+    CharSequence                text;                // a String once read; until then maybe a view of the input
     boolean                     escape   = false;
 
     public TextNode(String text){
@@ -18,6 +21,13 @@ public class TextNode extends Node {
         this.escape = escape;
     }
 
+    /**
+     * Create a text node whose text is only turned into a String when it is first read.
+     */
+    public TextNode(CharSequence text){
+        this.text = text;
+    }
+
     public String nodeName() {
         return "#text";
     }
@@ -33,7 +43,9 @@ public class TextNode extends Node {
     }
 
     public String getWholeText() {
-        return attributes == null ? text : attributes.get(TEXT_KEY);
+        if (attributes != null) return attributes.get(TEXT_KEY);
+        if (!(text instanceof String)) text = text.toString();
+        return (String) text;
     }
 
     static String normaliseWhitespace(String text) {
@@ -62,7 +74,7 @@ public class TextNode extends Node {
         if (attributes != null && attributes.get(TEXT_KEY) != null) {
             attributes.put(TEXT_KEY, attributes.get(TEXT_KEY).trim());
         } else if (text != null) {
-            text = text.trim();
+            text = getWholeText().trim();
         }
     }    
     
@@ -73,4 +85,9 @@ public class TextNode extends Node {
     static String stripLeadingWhitespace(String text) {
         return text.replaceFirst("^\\s+", "");
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        if (text != null && !(text instanceof String)) text = text.toString(); // never serialise a view of the input
+        out.defaultWriteObject();
+    }
 }
@@ -0,0 +1,138 @@
+package com.boxparser.parse;
+
+import com.boxparser.html.util.Validate;
+
+/**
+ * A fixed set of chars, such as the chars that end a run in one of the tokeniser states. Membership of an ASCII char
+ * is a single table lookup, however many chars are in the set, so build these once and share them rather than
+ * passing varargs on every call.
+ * <p>
+ * Long runs are scanned in blocks of 8 chars: the block's table lookups are OR'd together without a branch per char,
+ * and only a block with a hit is rescanned char by char. Blocks cost more than they save on short runs, so a scan
+ * starts char by char and moves to blocks once the run is {@link #blockScanAfter} chars long (see
+ * {@code CharClassBenchmark} for the crossover).
+ */
+public final class CharClass {
+
+    static final int     blockScanAfter = 16;
+
+    private final byte[] ascii          = new byte[128]; // 1 for members
+    private final int    aboveAscii;                     // 1 if every char above ASCII is a member
+    private final char[] chars;
+    private final char[] wide;                           // members above ASCII, when not all of them are
+
+    private CharClass(char[] chars, boolean complement){
+        this.chars = chars;
+        int wideLen = 0;
+        for (char c : chars) {
+            if (c < 128) ascii[c] = 1;
+            else wideLen++;
+        }
+        this.wide = new char[complement ? 0 : wideLen];
+        if (complement) {
+            for (int i = 0; i < ascii.length; i++)
+                ascii[i] ^= 1;
+            aboveAscii = 1;
+        } else {
+            aboveAscii = 0;
+            for (char c : chars) {
+                if (c >= 128) wide[--wideLen] = c;
+            }
+        }
+    }
+
+    public static CharClass of(char... chars) {
+        Validate.isTrue(chars.length > 0, "A char class needs at least one char");
+        return new CharClass(chars.clone(), false);
+    }
+
+    /**
+     * Every char except the given ASCII chars: for scans that consume while the chars are in a set, such as letters.
+     */
+    public static CharClass allExcept(char... chars) {
+        for (char c : chars)
+            Validate.isTrue(c < 128, "Only ASCII chars can be excepted");
+        return new CharClass(new char[0], true).except(chars);
+    }
+
+    private CharClass except(char[] chars) {
+        for (char c : chars)
+            ascii[c] = 0;
+        return this;
+    }
+
+    public boolean contains(char c) {
+        if (c < 128) return ascii[c] != 0;
+        if (aboveAscii != 0) return true;
+        for (char w : wide) {
+            if (w == c) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The index of the first member in {@code buf[from, to)}, or {@code to} if there is none (or {@code from}, if that
+     * is already past {@code to}).
+     */
+    int indexIn(char[] buf, int from, int to) {
+        if (from >= to) return from;
+        int head = to - from > blockScanAfter ? from + blockScanAfter : to;
+        int i = scalarIndexIn(buf, from, head);
+        if (i < head || head == to) return i;
+        return wide.length == 0 ? blockIndexIn(buf, head, to) : scalarIndexIn(buf, head, to);
+    }
+
+    int scalarIndexIn(char[] buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (contains(buf[i])) return i;
+        }
+        return to;
+    }
+
+    /**
+     * Block scan; only valid when there are no {@link #wide} members.
+     */
+    int blockIndexIn(char[] buf, int from, int to) {
+        byte[] t = ascii;
+        int i = from;
+        int last = to - 8;
+        if (aboveAscii == 0) {
+            // a char above ASCII is looked up by its low 7 bits; a false hit only costs a rescan of its block
+            for (; i <= last; i += 8) {
+                if ((t[buf[i] & 127] | t[buf[i + 1] & 127] | t[buf[i + 2] & 127] | t[buf[i + 3] & 127]
+                     | t[buf[i + 4] & 127] | t[buf[i + 5] & 127] | t[buf[i + 6] & 127] | t[buf[i + 7] & 127]) != 0) {
+                    int hit = scalarIndexIn(buf, i, i + 8);
+                    if (hit < i + 8) return hit;
+                }
+            }
+        } else {
+            for (; i <= last; i += 8) {
+                if ((hit(buf[i]) | hit(buf[i + 1]) | hit(buf[i + 2]) | hit(buf[i + 3]) | hit(buf[i + 4])
+                     | hit(buf[i + 5]) | hit(buf[i + 6]) | hit(buf[i + 7])) != 0) break;
+            }
+        }
+        return scalarIndexIn(buf, i, to);
+    }
+
+    /**
+     * 1 for a member, else 0, without branching: {@code ascii} picks up chars below 128, {@code aboveAscii} the rest.
+     */
+    private int hit(char c) {
+        int isAscii = (c - 128) >>> 31;
+        return (ascii[c & 127] & isAscii) | (aboveAscii & ~isAscii);
+    }
+
+    /**
+     * The members, in the order given. Callers must not modify the array.
+     */
+    char[] chars() {
+        return chars;
+    }
+
+    /**
+     * If this class is small enough that searching for each member with {@code String.indexOf} beats a table scan.
+     */
+    boolean indexable() {
+        return aboveAscii == 0 && chars.length <= CharacterReader.maxIndexedStops;
+    }
+}
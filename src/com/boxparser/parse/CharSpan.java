@@ -0,0 +1,58 @@
+package com.boxparser.parse;
+
+/**
+ * A view of a run of the input held by a {@link CharacterReader}, so that text and attribute values are not copied
+ * out of the input until something asks for them as a String. Only made over input that is held whole, and never
+ * moves: a String. Note a span keeps the whole input reachable until it is materialised.
+ */
+final class CharSpan implements CharSequence {
+
+    private final char[] buf;
+    private final int    offset;
+    private final int    length;
+    private String       string; // materialised on first toString
+
+    CharSpan(char[] buf, int offset, int length){
+        this.buf = buf;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length) throw new IndexOutOfBoundsException(String.valueOf(index));
+        return buf[offset + index];
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new CharSpan(buf, offset + start, end - start);
+    }
+
+    /**
+     * Appends the span's chars in one copy, where {@link StringBuilder#append(CharSequence)} would go char by char.
+     */
+    void appendTo(StringBuilder accum) {
+        if (string != null) accum.append(string);
+        else accum.append(buf, offset, length);
+    }
+
+    /**
+     * Appends a sequence to a builder, in one copy if it is a span.
+     */
+    static void append(StringBuilder accum, CharSequence seq) {
+        if (seq instanceof CharSpan) ((CharSpan) seq).appendTo(accum);
+        else accum.append(seq);
+    }
+
+    @Override
+    public String toString() {
+        if (string == null) string = new String(buf, offset, length);
+        return string;
+    }
+}
@@ -1,15 +1,51 @@
 package com.boxparser.parse;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
 import com.boxparser.html.util.Validate;
 
+/**
+ * Reads characters for the tokeniser. Input is either a whole String, or a {@link Reader} that is pulled into a
+ * bounded window as the tokeniser advances, so a streamed parse only holds {@code bufferSize} chars at a time,
+ * unless a mark is held over a longer span, or {@link #containsIgnoreCase} reads far ahead for an end tag.
+ */
 public class CharacterReader {
 
-    public static final char EOF  = (char) -1;
-
-    private final String     input;
-    private final int        length;
-    private int              pos  = 0;
-    private int              mark = 0;
+    public static final char EOF             = (char) -1;
+    static final int         maxBufferLen    = 1024 * 32;  // default window when reading from a Reader
+    static final int         minBufferLen    = 1024;
+    static final int         maxIndexedStops = 3;          // char classes up to this size are found by indexOf
+    static final int         stringCacheSize = 512;        // must be a power of 2
+    static final int         maxCacheLen     = 12;         // longer strings are not worth a cache slot
+
+    private static final CharClass notLetter   = CharClass.allExcept("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"
+                                                                     .toCharArray());
+    private static final CharClass notHexDigit = CharClass.allExcept("0123456789ABCDEFabcdef".toCharArray());
+    private static final CharClass notDigit    = CharClass.allExcept("0123456789".toCharArray());
+    private static final CharClass tagNameStops = CharClass.of('\t', '\n', '\f', ' ', '/', '>', '\u0000');
+
+    private char[]           charBuf;                       // grows only while a mark pins a full window
+    private final String     source;                        // the input, when charBuf holds all of it unchanged
+    private int[]            stopFrom;                      // per ASCII char: where its last indexOf started
+    private int[]            stopAt;                        // and what it found
+    private Reader           reader;                        // source of more input; null once exhausted
+    private final int        minReadAhead;                  // chars guaranteed ahead of pos while input remains
+    private int              bufLength;                     // valid chars in charBuf
+    private int              bufSplitPoint;                 // refill once pos reaches this point
+    private int              bufPos;                        // pos within charBuf
+    private int              readerPos;                     // offset of charBuf[0] within the whole input
+    private int              bufMark = -1;
+    private boolean          skipLF;                        // last read ended in \r; drop a leading \n
+    private int[]            lfDropped = new int[0];        // pos of the char after each \n dropped from a \r\n
+    private int              lfDroppedLen;
+    private int              lfDroppedBefore;               // dropped before the window; no longer listed
+    private final String[]   stringCache = new String[stringCacheSize]; // canonical names and short values
+    private final String     input;                         // the String input as given, for a line index
+    private LineIndex        lines;                         // made on request
+    private int              linesNoted;                    // pos up to which a Reader's line starts are in lines
 
     public CharacterReader(String input){
         this(input, true);
@@ -17,164 +53,434 @@ public class CharacterReader {
 
     public CharacterReader(String input, boolean normalise){
         Validate.notNull(input);
-        if (normalise) {
-            input = input.replaceAll("\r\n?", "\n"); // normalise carriage returns
-                                                     // to newlines
-        }
-
         this.input = input;
-        this.length = input.length();
+        this.charBuf = input.toCharArray();
+        // normalise carriage returns to newlines in place; most input has none, and is left untouched
+        this.bufLength = normalise && input.indexOf('\r') != -1 ? normaliseNewlines(0, charBuf.length) : charBuf.length;
+        this.source = bufLength == charBuf.length && (!normalise || input.indexOf('\r') == -1) ? input : null;
+        this.minReadAhead = 0;
+        this.bufSplitPoint = Integer.MAX_VALUE;
+    }
+
+    public CharacterReader(Reader input){
+        this(input, maxBufferLen);
+    }
+
+    /**
+     * Create a reader that pulls from the given input as it is consumed. The input is not closed.
+     *
+     * @param input source of characters
+     * @param bufferSize size of the window held in memory; a quarter of it is always kept as look-ahead
+     */
+    public CharacterReader(Reader input, int bufferSize){
+        Validate.notNull(input);
+        Validate.isTrue(bufferSize >= minBufferLen, "Buffer size must be at least " + minBufferLen);
+
+        this.reader = input;
+        this.charBuf = new char[bufferSize];
+        this.source = null;
+        this.input = null;
+        this.minReadAhead = bufferSize / 4;
+        fill();
     }
 
     public int pos() {
-        return pos;
+        return readerPos + bufPos;
+    }
+
+    /**
+     * The current position as an offset into the original input, before carriage returns were normalised. Use this
+     * for reporting; {@link #pos()} counts normalised chars.
+     */
+    public int sourcePos() {
+        return sourcePos(pos());
+    }
+
+    /**
+     * As {@link #sourcePos()}, but no further than the end of the input, which {@link #consume()} steps past at EOF.
+     */
+    int boundedSourcePos() {
+        bufferUp();
+        return sourcePos(readerPos + Math.min(bufPos, bufLength));
+    }
+
+    private int sourcePos(int pos) {
+        // count the dropped newlines at or before pos: binary search the sorted list for the first one after it
+        int lo = 0, hi = lfDroppedLen;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (lfDropped[mid] <= pos) lo = mid + 1;
+            else hi = mid;
+        }
+        return pos + lfDroppedBefore + lo;
+    }
+
+    /**
+     * An index of the input's lines, to resolve {@link #sourcePos()} offsets to lines and columns. Over a Reader, line
+     * starts are noted as the input is read, so the index must be asked for before reading.
+     */
+    public LineIndex lineIndex() {
+        if (lines == null) {
+            if (input != null) {
+                lines = new LineIndex(input);
+            } else {
+                Validate.isTrue(readerPos == 0, "Ask for the line index before the window moves");
+                lines = new LineIndex();
+                noteLines();
+            }
+        }
+        return lines;
     }
 
     public boolean isEmpty() {
-        return pos >= length;
+        bufferUp();
+        return bufPos >= bufLength;
     }
 
     public char current() {
-        return isEmpty() ? EOF : input.charAt(pos);
+        bufferUp();
+        return bufPos >= bufLength ? EOF : charBuf[bufPos];
     }
 
     public char consume() {
-        char val = isEmpty() ? EOF : input.charAt(pos);
-        pos++;
+        bufferUp();
+        char val = bufPos >= bufLength ? EOF : charBuf[bufPos];
+        bufPos++;
         return val;
     }
 
     public void unconsume() {
-        pos--;
+        bufPos--;
     }
 
     public void advance() {
-        pos++;
+        bufPos++;
     }
 
     public void mark() {
-        mark = pos;
+        bufMark = bufPos;
+    }
+
+    public void unmark() {
+        bufMark = -1;
     }
 
     public void rewindToMark() {
-        pos = mark;
+        if (bufMark == -1) throw new IllegalStateException("Mark invalid");
+        bufPos = bufMark;
+        unmark();
     }
 
     public String consumeAsString() {
-        return input.substring(pos, pos++);
+        bufferUp();
+        return new String(charBuf, bufPos++, 1);
     }
 
     public String consumeTo(char c) {
-        int offset = input.indexOf(c, pos);
-        if (offset != -1) {
-            String consumed = input.substring(pos, offset);
-            pos += consumed.length();
-            return consumed;
-        } else {
-            return consumeToEnd();
+        bufferUp();
+        int start = bufPos;
+        if (source != null) {
+            int found = source.indexOf(c, bufPos);
+            bufPos = found == -1 ? bufLength : found;
+            return collect(null, start);
+        }
+        StringBuilder spill = null;
+        while (true) {
+            while (bufPos < bufLength && charBuf[bufPos] != c)
+                bufPos++;
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
         }
     }
 
     public String consumeTo(String seq) {
-        int offset = input.indexOf(seq, pos);
-        if (offset != -1) {
-            String consumed = input.substring(pos, offset);
-            pos += consumed.length();
-            return consumed;
-        } else {
-            return consumeToEnd();
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            int offset = nextIndexOf(seq, bufPos);
+            if (offset != -1) {
+                bufPos = offset;
+                return collect(spill, start);
+            }
+            if (reader == null) {
+                bufPos = bufLength;
+                return collect(spill, start);
+            }
+            // the tail of the window may hold the start of a match that continues past it, so keep it
+            int safe = bufLength - seq.length() + 1;
+            if (safe > bufPos) bufPos = safe;
+            spill = spillWindow(spill, start);
+            start = bufPos;
         }
     }
 
     public String consumeToAny(char... seq) {
-        int start = pos;
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            OUTER: while (bufPos < bufLength) {
+                char c = charBuf[bufPos];
+                for (char seek : seq) {
+                    if (seek == c) break OUTER;
+                }
+                bufPos++;
+            }
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
+        }
+    }
+
+    /**
+     * Consumes up to the next char in the class. Small classes over String input use the String.indexOf intrinsic
+     * once per member, remembering each result until it is passed; others cost one table lookup per char.
+     */
+    public String consumeToAny(CharClass stops) {
+        bufferUp();
+        int start = bufPos;
+        if (source != null && stops.indexable()) {
+            bufPos = nextIndexOfAny(stops.chars());
+            return collect(null, start);
+        }
+        StringBuilder spill = null;
+        while (true) {
+            bufPos = stops.indexIn(charBuf, bufPos, bufLength);
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
+        }
+    }
+
+    /**
+     * As {@link #consumeToAny(CharClass)}, but a short result comes from this reader's string cache, so the same
+     * attribute names and common values share one instance per document instead of one each.
+     */
+    public String consumeToAnyCached(CharClass stops) {
+        bufferUp();
+        int start = bufPos;
+        if (source != null && stops.indexable()) bufPos = nextIndexOfAny(stops.chars());
+        else bufPos = stops.indexIn(charBuf, bufPos, bufLength);
+
+        if (bufPos < bufLength || reader == null) {
+            int len = bufPos - start;
+            return len <= maxCacheLen ? cacheString(start, len, false) : collect(null, start);
+        }
+        bufPos = start; // runs past the window: not short anyway
+        return consumeToAny(stops);
+    }
+
+    /**
+     * As {@link #consumeToAny(CharClass)}, for text and attribute values: a short run comes from the string cache,
+     * and a long one, once the whole input is in memory, as a {@link CharSpan} view that is only copied out if
+     * something asks for it as a String.
+     */
+    public CharSequence consumeSpanToAny(CharClass stops) {
+        bufferUp();
+        int start = bufPos;
+        if (source != null && stops.indexable()) bufPos = nextIndexOfAny(stops.chars());
+        else bufPos = stops.indexIn(charBuf, bufPos, bufLength);
+
+        if (bufPos < bufLength || reader == null) return run(start);
+        bufPos = start;
+        return consumeToAny(stops);
+    }
 
-        OUTER: while (!isEmpty()) {
-            char c = input.charAt(pos);
-            for (char seek : seq) {
-                if (seek == c) break OUTER;
+    /**
+     * Consumes the content of a script, style or iframe up to its end tag in one run: the first {@code </name}, in any
+     * case, followed by whitespace, '/' or '>'. The end tag is found with a Horspool search, which steps over the
+     * content {@code </name}'s length at a time wherever the char under its last position can't be part of it.
+     * <p>
+     * Only buffered input is searched. Consumes nothing and returns null if the end tag is not there, or if the content
+     * before it holds a null, or, for a script, {@code <!--}: an escaped script can hold its own end tag, so those are
+     * left to the states.
+     *
+     * @param name lower case tag name
+     */
+    public CharSequence consumeRawText(String name, boolean script) {
+        bufferUp();
+        int end = endTagIndex(name);
+        if (end == -1) return null;
+        for (int i = bufPos; i < end; i++) {
+            char c = charBuf[i];
+            if (c == '\u0000' || (script && c == '<' && i + 3 < end && charBuf[i + 1] == '!' && charBuf[i + 2] == '-'
+                                   && charBuf[i + 3] == '-')) return null;
+        }
+        int start = bufPos;
+        bufPos = end;
+        return run(start);
+    }
+
+    /**
+     * The index in charBuf of the end tag for the lower case name, or -1 if it is not in the buffer.
+     */
+    private int endTagIndex(String name) {
+        int m = name.length() + 2; // "</name"
+        char[] pattern = new char[m];
+        pattern[0] = '<';
+        pattern[1] = '/';
+        name.getChars(0, name.length(), pattern, 2);
+
+        // how far the pattern can move when the char under its last position is c: past it, unless c is in the
+        // pattern, then to line up its last occurrence (before the end)
+        int[] shift = new int[128];
+        Arrays.fill(shift, m);
+        for (int i = 0; i < m - 1; i++)
+            shift[pattern[i]] = m - 1 - i;
+
+        int last = bufLength - m; // the pattern needs a char after it too
+        int i = bufPos;
+        while (i < last) {
+            char c = lowerAscii(charBuf[i + m - 1]);
+            int j = m - 1;
+            if (c == pattern[j]) {
+                while (j > 0 && lowerAscii(charBuf[i + j - 1]) == pattern[j - 1])
+                    j--;
+                if (j == 0) {
+                    char next = charBuf[i + m];
+                    if (next == '\t' || next == '\n' || next == '\f' || next == ' ' || next == '/' || next == '>') {
+                        return i;
+                    }
+                }
             }
-            pos++;
+            i += c < 128 ? shift[c] : m;
         }
+        return -1;
+    }
 
-        return pos > start ? input.substring(start, pos) : "";
+    /**
+     * Consumes a tag name, up to whitespace, '/', '>' or null, and lower cases it. Short ASCII names are lower cased
+     * in the same pass that looks them up in the string cache.
+     */
+    public String consumeTagName() {
+        bufferUp();
+        int start = bufPos;
+        bufPos = tagNameStops.indexIn(charBuf, bufPos, bufLength);
+        int len = bufPos - start;
+        if ((bufPos < bufLength || reader == null) && len <= maxCacheLen) {
+            String name = cacheString(start, len, true);
+            if (name != null) return name;
+        }
+        bufPos = start; // long, non-ASCII, or runs past the window
+        return consumeToAny(tagNameStops).toLowerCase();
+    }
+
+    /**
+     * The run from start to pos: a short one from the string cache; a long one as a {@link CharSpan}, once no input
+     * is left to read, as with no reader the window never slides again and the span stays valid.
+     */
+    private CharSequence run(int start) {
+        int len = bufPos - start;
+        if (len <= maxCacheLen) return cacheString(start, len, false);
+        return reader == null ? new CharSpan(charBuf, start, len) : collect(null, start);
     }
 
     public String consumeToEnd() {
-        String data = input.substring(pos, input.length());
-        pos = input.length();
-        return data;
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            bufPos = bufLength;
+            if (reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
+        }
     }
 
     public String consumeLetterSequence() {
-        int start = pos;
-        while (!isEmpty()) {
-            char c = input.charAt(pos);
-            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) pos++;
-            else break;
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            bufPos = notLetter.indexIn(charBuf, bufPos, bufLength);
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
         }
-
-        return input.substring(start, pos);
     }
 
     public String consumeHexSequence() {
-        int start = pos;
-        while (!isEmpty()) {
-            char c = input.charAt(pos);
-            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f')) pos++;
-            else break;
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            bufPos = notHexDigit.indexIn(charBuf, bufPos, bufLength);
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
         }
-        return input.substring(start, pos);
     }
 
     public String consumeDigitSequence() {
-        int start = pos;
-        while (!isEmpty()) {
-            char c = input.charAt(pos);
-            if (c >= '0' && c <= '9') pos++;
-            else break;
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            bufPos = notDigit.indexIn(charBuf, bufPos, bufLength);
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
         }
-        return input.substring(start, pos);
     }
 
     public boolean matches(char c) {
-        return !isEmpty() && input.charAt(pos) == c;
+        return !isEmpty() && charBuf[bufPos] == c;
 
     }
 
     public boolean matches(String seq) {
-        return input.startsWith(seq, pos);
+        bufferUp();
+        int len = seq.length();
+        if (len > bufLength - bufPos) return false;
+        for (int i = 0; i < len; i++) {
+            if (seq.charAt(i) != charBuf[bufPos + i]) return false;
+        }
+        return true;
     }
 
     public boolean matchesIgnoreCase(String seq) {
-        return input.regionMatches(true, pos, seq, 0, seq.length());
+        bufferUp();
+        int len = seq.length();
+        if (len > bufLength - bufPos) return false;
+        for (int i = 0; i < len; i++) {
+            char upScan = Character.toUpperCase(seq.charAt(i));
+            char upTarget = Character.toUpperCase(charBuf[bufPos + i]);
+            if (upScan != upTarget) return false;
+        }
+        return true;
     }
 
     public boolean matchesAny(char... seq) {
         if (isEmpty()) return false;
 
-        char c = input.charAt(pos);
+        char c = charBuf[bufPos];
         for (char seek : seq) {
             if (seek == c) return true;
         }
         return false;
     }
 
+    public boolean matchesAny(CharClass seq) {
+        return !isEmpty() && seq.contains(charBuf[bufPos]);
+    }
+
     public boolean matchesLetter() {
         if (isEmpty()) return false;
-        char c = input.charAt(pos);
+        char c = charBuf[bufPos];
         return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
 
     public boolean matchesDigit() {
         if (isEmpty()) return false;
-        char c = input.charAt(pos);
+        char c = charBuf[bufPos];
         return (c >= '0' && c <= '9');
     }
 
     public boolean matchConsume(String seq) {
         if (matches(seq)) {
-            pos += seq.length();
+            bufPos += seq.length();
             return true;
         } else {
             return false;
@@ -183,7 +489,7 @@ public class CharacterReader {
 
     public boolean matchConsumeIgnoreCase(String seq) {
         if (matchesIgnoreCase(seq)) {
-            pos += seq.length();
+            bufPos += seq.length();
             return true;
         } else {
             return false;
@@ -195,12 +501,24 @@ public class CharacterReader {
         // case.
         String loScan = seq.toLowerCase();
         String hiScan = seq.toUpperCase();
-        return (input.indexOf(loScan, pos) > -1) || (input.indexOf(hiScan, pos) > -1);
+        bufferUp();
+        if (nextIndexOf(loScan, bufPos) > -1 || nextIndexOf(hiScan, bufPos) > -1) return true;
+
+        // not in the window: read on until it is, or the input ends, so a Reader finds what a String would. Each fill
+        // slides the window up to pos, then grows it, so only an end tag that is far off or missing costs memory
+        int searched = readerPos + bufLength; // input up to here has been searched
+        while (reader != null) {
+            fill();
+            int from = Math.max(bufPos, searched - readerPos - seq.length() + 1);
+            if (nextIndexOf(loScan, from) > -1 || nextIndexOf(hiScan, from) > -1) return true;
+            searched = readerPos + bufLength;
+        }
+        return false;
     }
 
     @Override
     public String toString() {
-        return input.substring(pos);
+        return new String(charBuf, bufPos, bufLength - bufPos);
     }
 
     /**
@@ -208,7 +526,7 @@ public class CharacterReader {
      */
     @Deprecated
     public void setPos(int pos) {
-        this.pos = pos;
+        this.bufPos = pos - readerPos;
     }
 
     /**
@@ -216,20 +534,229 @@ public class CharacterReader {
      */
     public boolean matchesWhitespace() {
         if (isEmpty()) return false;
-        char c = input.charAt(pos);
+        char c = charBuf[bufPos];
         return Character.isWhitespace(c);
     }
-    
+
     /**
      * zhaoyang.add
-     */    
+     */
     public String consumeWhitespaceSequence() {
-        int start = pos;
-        while (!isEmpty()) {
-            char c = input.charAt(pos);
-            if (Character.isWhitespace(c)) pos++;
-            else break;
-        }
-        return input.substring(start, pos);
-    }    
+        bufferUp();
+        int start = bufPos;
+        StringBuilder spill = null;
+        while (true) {
+            while (bufPos < bufLength && Character.isWhitespace(charBuf[bufPos]))
+                bufPos++;
+            if (bufPos < bufLength || reader == null) return collect(spill, start);
+            spill = spillWindow(spill, start);
+            start = bufPos;
+        }
+    }
+
+    private int nextIndexOf(String seq, int from) {
+        int len = seq.length();
+        char first = seq.charAt(0);
+        int last = bufLength - len;
+        for (int offset = from; offset <= last; offset++) {
+            if (charBuf[offset] != first) continue;
+            int i = 1;
+            while (i < len && seq.charAt(i) == charBuf[offset + i])
+                i++;
+            if (i == len) return offset;
+        }
+        return -1;
+    }
+
+    /**
+     * The nearest index of any of the chars at or after pos, or the end of the input. Source input only.
+     */
+    private int nextIndexOfAny(char[] stops) {
+        if (stopAt == null) {
+            stopFrom = new int[128];
+            stopAt = new int[128];
+            Arrays.fill(stopFrom, Integer.MAX_VALUE);
+        }
+        int nearest = bufLength;
+        for (char c : stops) {
+            int found;
+            if (c >= 128) {
+                found = source.indexOf(c, bufPos);
+            } else {
+                // a previous search is still good if it started at or before pos and found nothing before pos
+                found = stopAt[c];
+                if (stopFrom[c] > bufPos || (found != -1 && found < bufPos)) {
+                    found = source.indexOf(c, bufPos);
+                    stopFrom[c] = bufPos;
+                    stopAt[c] = found;
+                }
+            }
+            if (found != -1 && found < nearest) nearest = found;
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the canonical instance of {@code charBuf[start, start + len)}, creating it on a miss. The cache is a
+     * fixed table indexed by hash: a collision just replaces the older entry.
+     *
+     * @param lower if the chars should be ASCII lower cased
+     * @return the string, or null if asked to lower case a non-ASCII char, which needs the full case mapping
+     */
+    private String cacheString(int start, int len, boolean lower) {
+        if (len == 0) return "";
+        char[] val = charBuf;
+        int end = start + len;
+        int hash = 0;
+        boolean upper = false;
+        for (int i = start; i < end; i++) {
+            char c = val[i];
+            if (lower) {
+                if (c >= 128) return null;
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                    upper = true;
+                }
+            }
+            hash = 31 * hash + c;
+        }
+
+        int index = hash & (stringCacheSize - 1);
+        String cached = stringCache[index];
+        if (cached != null && cached.length() == len) {
+            int i = 0;
+            while (i < len && cached.charAt(i) == (upper ? lowerAscii(val[start + i]) : val[start + i]))
+                i++;
+            if (i == len) return cached;
+        }
+
+        String string;
+        if (upper) {
+            char[] lowered = new char[len];
+            for (int i = 0; i < len; i++)
+                lowered[i] = lowerAscii(val[start + i]);
+            string = new String(lowered);
+        } else {
+            string = new String(val, start, len);
+        }
+        stringCache[index] = string;
+        return string;
+    }
+
+    private static char lowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private void bufferUp() {
+        if (bufPos < bufSplitPoint) return;
+        fill();
+    }
+
+    /**
+     * Slides the window so that it starts just behind pos (or at the mark), then tops it up from the reader. If a mark
+     * holds the whole window in place, the window grows, so that the marked span can still be rewound to.
+     */
+    private void fill() {
+        if (reader == null) return;
+
+        // keep one char behind pos for unconsume, and everything from the mark for rewindToMark
+        int keep = bufPos - 1;
+        if (bufMark != -1 && bufMark < keep) keep = bufMark;
+        if (keep > 0) {
+            bufLength -= keep;
+            System.arraycopy(charBuf, keep, charBuf, 0, bufLength);
+            readerPos += keep;
+            bufPos -= keep;
+            if (bufMark != -1) bufMark -= keep;
+            forgetDroppedBefore(readerPos);
+        } else if (bufLength == charBuf.length) {
+            charBuf = Arrays.copyOf(charBuf, charBuf.length * 2);
+        }
+
+        try {
+            while (bufLength < charBuf.length) {
+                int read = reader.read(charBuf, bufLength, charBuf.length - bufLength);
+                if (read == -1) {
+                    reader = null;
+                    break;
+                }
+                bufLength = normaliseNewlines(bufLength, bufLength + read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bufSplitPoint = reader == null ? Integer.MAX_VALUE : Math.max(bufLength - minReadAhead, 0);
+        if (lines != null) noteLines();
+    }
+
+    /**
+     * Notes the line starts in the window not yet noted. A newline that was a \r at the end of what has been read is
+     * left for the next read, as a \n after it would move the line start.
+     */
+    private void noteLines() {
+        int end = bufLength;
+        if (skipLF && reader != null) end--;
+        for (int i = Math.max(linesNoted - readerPos, 0); i < end; i++) {
+            if (charBuf[i] == '\n') lines.add(sourcePos(readerPos + i + 1));
+        }
+        linesNoted = readerPos + Math.max(end, 0);
+    }
+
+    /**
+     * Normalises carriage returns to newlines in the freshly read chars [from, to), in place.
+     * 
+     * @return the new end of valid chars
+     */
+    private int normaliseNewlines(int from, int to) {
+        int out = from;
+        for (int i = from; i < to; i++) {
+            char c = charBuf[i];
+            if (c == '\n' && skipLF) {
+                skipLF = false;
+                droppedLF(readerPos + out);
+                continue;
+            }
+            skipLF = c == '\r';
+            charBuf[out++] = skipLF ? '\n' : c;
+        }
+        return out;
+    }
+
+    private void droppedLF(int pos) {
+        if (lfDroppedLen == lfDropped.length) {
+            int[] grown = new int[Math.max(16, lfDroppedLen * 2)];
+            System.arraycopy(lfDropped, 0, grown, 0, lfDroppedLen);
+            lfDropped = grown;
+        }
+        lfDropped[lfDroppedLen++] = pos;
+    }
+
+    /**
+     * Folds dropped newlines that are now behind the window into a count, so a streamed parse only lists the ones
+     * in the window. Nothing behind the window is ever asked for.
+     */
+    private void forgetDroppedBefore(int pos) {
+        int i = 0;
+        while (i < lfDroppedLen && lfDropped[i] < pos)
+            i++;
+        if (i == 0) return;
+        lfDroppedBefore += i;
+        lfDroppedLen -= i;
+        System.arraycopy(lfDropped, i, lfDropped, 0, lfDroppedLen);
+    }
+
+    /**
+     * A scan ran off the end of the window while more input remains: save what was scanned and refill.
+     */
+    private StringBuilder spillWindow(StringBuilder spill, int start) {
+        if (spill == null) spill = new StringBuilder(bufPos - start + minReadAhead);
+        spill.append(charBuf, start, bufPos - start);
+        fill();
+        return spill;
+    }
+
+    private String collect(StringBuilder spill, int start) {
+        if (spill == null) return bufPos > start ? new String(charBuf, start, bufPos - start) : "";
+        return spill.append(charBuf, start, bufPos - start).toString();
+    }
 }
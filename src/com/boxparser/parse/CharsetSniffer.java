@@ -0,0 +1,229 @@
+package com.boxparser.parse;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.Locale;
+
+/**
+ * Works out a document's charset from its first bytes, before any of it is decoded: a byte order mark, else a
+ * {@code <meta charset>} or {@code <meta http-equiv="Content-Type" content="...; charset=...">} within the first
+ * {@link #prescanLength} bytes. The prescan runs over raw bytes and only understands as much markup as it needs to find
+ * meta tags (comments, and where tags end); it never runs the tokeniser.
+ */
+final class CharsetSniffer {
+
+    static final int     prescanLength = 1024 * 5;
+
+    private final byte[] buf;
+    private final int    len;
+    private int          pos;
+
+    private CharsetSniffer(byte[] buf, int len){
+        this.buf = buf;
+        this.len = len;
+    }
+
+    /**
+     * @return the charset named by a byte order mark at the start of the bytes, or null if there is none
+     */
+    static Charset bomCharset(byte[] buf, int len) {
+        if (len >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+            return Charset.forName("UTF-8");
+        }
+        if (len >= 2 && (buf[0] & 0xFF) == 0xFE && (buf[1] & 0xFF) == 0xFF) return Charset.forName("UTF-16BE");
+        if (len >= 2 && (buf[0] & 0xFF) == 0xFF && (buf[1] & 0xFF) == 0xFE) return Charset.forName("UTF-16LE");
+        return null;
+    }
+
+    /**
+     * @return the number of bytes the byte order mark takes up, 0 if there is none
+     */
+    static int bomLength(Charset bomCharset) {
+        if (bomCharset == null) return 0;
+        return "UTF-8".equals(bomCharset.name()) ? 3 : 2;
+    }
+
+    /**
+     * Prescans the bytes for a meta tag declaring the charset.
+     *
+     * @return the declared charset, or null if none is declared, or the declared one isn't supported
+     */
+    static Charset metaCharset(byte[] buf, int len) {
+        return new CharsetSniffer(buf, len).prescan();
+    }
+
+    private Charset prescan() {
+        while (pos < len) {
+            if (buf[pos] != '<') {
+                pos++;
+            } else if (matches("<!--")) {
+                int end = indexOf("-->", pos + 4);
+                if (end == -1) return null;
+                pos = end + 3;
+            } else if (matchesIgnoreCase("<meta") && pos + 5 < len && isSpaceOrSlash(buf[pos + 5])) {
+                pos += 5;
+                Charset charset = metaTag();
+                if (charset != null) return charset;
+            } else if (pos + 1 < len && (isLetter(buf[pos + 1]) || buf[pos + 1] == '/' || buf[pos + 1] == '!'
+                                         || buf[pos + 1] == '?')) {
+                int end = indexOf(">", pos + 1);
+                if (end == -1) return null;
+                pos = end + 1;
+            } else {
+                pos++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the attributes of a meta tag, leaving pos after its end.
+     */
+    private Charset metaTag() {
+        String charset = null;
+        String content = null;
+        boolean contentType = false;
+        String name;
+        while ((name = attributeName()) != null) {
+            String value = attributeValue();
+            if (name.equals("charset")) {
+                if (charset == null) charset = value;
+            } else if (name.equals("content")) {
+                if (content == null) content = value;
+            } else if (name.equals("http-equiv")) {
+                contentType |= value.equalsIgnoreCase("content-type");
+            }
+        }
+        if (charset == null && contentType && content != null) charset = charsetFromContentType(content);
+        return supportedCharset(charset);
+    }
+
+    private String attributeName() {
+        while (pos < len && (isSpace(buf[pos]) || buf[pos] == '/'))
+            pos++;
+        if (pos >= len) return null;
+        if (buf[pos] == '>') {
+            pos++;
+            return null;
+        }
+        int start = pos;
+        while (pos < len && !isSpaceOrSlash(buf[pos]) && buf[pos] != '=' && buf[pos] != '>')
+            pos++;
+        if (pos == start) pos++; // a lone '=': take it as the name, as the spec does
+        return ascii(start, pos).toLowerCase(Locale.ENGLISH);
+    }
+
+    private String attributeValue() {
+        while (pos < len && isSpace(buf[pos]))
+            pos++;
+        if (pos >= len || buf[pos] != '=') return "";
+        pos++;
+        while (pos < len && isSpace(buf[pos]))
+            pos++;
+        if (pos >= len) return "";
+
+        byte quote = buf[pos];
+        if (quote == '"' || quote == '\'') {
+            int start = ++pos;
+            while (pos < len && buf[pos] != quote)
+                pos++;
+            String value = ascii(start, pos);
+            if (pos < len) pos++;
+            return value;
+        }
+        int start = pos;
+        while (pos < len && !isSpace(buf[pos]) && buf[pos] != '>')
+            pos++;
+        return ascii(start, pos);
+    }
+
+    /**
+     * Pulls the charset out of a Content-Type value such as {@code text/html; charset="utf-8"}.
+     */
+    static String charsetFromContentType(String content) {
+        int i = content.toLowerCase(Locale.ENGLISH).indexOf("charset");
+        while (i != -1) {
+            int j = i + 7;
+            while (j < content.length() && Character.isWhitespace(content.charAt(j)))
+                j++;
+            if (j < content.length() && content.charAt(j) == '=') {
+                j++;
+                while (j < content.length() && Character.isWhitespace(content.charAt(j)))
+                    j++;
+                if (j >= content.length()) return null;
+                char quote = content.charAt(j);
+                if (quote == '"' || quote == '\'') {
+                    int end = content.indexOf(quote, j + 1);
+                    return end == -1 ? null : content.substring(j + 1, end);
+                }
+                int end = j;
+                while (end < content.length() && content.charAt(end) != ';'
+                       && !Character.isWhitespace(content.charAt(end)))
+                    end++;
+                return content.substring(j, end);
+            }
+            i = content.toLowerCase(Locale.ENGLISH).indexOf("charset", i + 7);
+        }
+        return null;
+    }
+
+    private static Charset supportedCharset(String name) {
+        if (name == null) return null;
+        name = name.trim();
+        if (name.length() == 0) return null;
+        try {
+            if (!Charset.isSupported(name)) return null;
+        } catch (IllegalCharsetNameException e) {
+            return null;
+        }
+        Charset charset = Charset.forName(name);
+        // bytes that got this far were ASCII compatible, so a UTF-16 label must be wrong
+        if (charset.name().startsWith("UTF-16")) return Charset.forName("UTF-8");
+        return charset;
+    }
+
+    private boolean matches(String seq) {
+        if (pos + seq.length() > len) return false;
+        for (int i = 0; i < seq.length(); i++) {
+            if (buf[pos + i] != seq.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private boolean matchesIgnoreCase(String seq) {
+        if (pos + seq.length() > len) return false;
+        for (int i = 0; i < seq.length(); i++) {
+            if ((buf[pos + i] | 0x20) != seq.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private int indexOf(String seq, int from) {
+        for (int offset = from; offset + seq.length() <= len; offset++) {
+            int i = 0;
+            while (i < seq.length() && buf[offset + i] == seq.charAt(i))
+                i++;
+            if (i == seq.length()) return offset;
+        }
+        return -1;
+    }
+
+    private String ascii(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++)
+            chars[i - start] = (char) (buf[i] & 0xFF);
+        return new String(chars);
+    }
+
+    private static boolean isLetter(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\f' || b == '\r';
+    }
+
+    private static boolean isSpaceOrSlash(byte b) {
+        return isSpace(b) || b == '/';
+    }
+}
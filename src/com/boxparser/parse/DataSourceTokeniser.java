@@ -1,14 +1,25 @@
 package com.boxparser.parse;
 
-import java.util.List;
-
+import com.boxparser.html.nodes.Entities;
+import com.boxparser.html.nodes.EntityTrie;
 import com.boxparser.html.util.Validate;
 
 class DataSourceTokeniser {
 	static final char replacementChar = '\uFFFD'; // replaces null character
 
 	private CharacterReader reader; // html input
-	private List errors; // errors found while tokenising
+	private ParseErrorList errors; // errors found while tokenising
+	final HtmlParser.ParseSettings settings;
+	private final boolean lazyAttributes; // keep start tag attributes as source
+	// until read
+	final boolean decodeEntities; // decode character references in text and
+	// attribute values
+	private final boolean trackPositions; // give each token its source range
+	private int textStart; // source offset of the next character token
+	private int markupStart; // source offset of the '<' that began the
+	// markup being read
+	private boolean markupOpen; // markup begun, and nothing emitted since
+	private int tokenEnd; // source offset just past the pending token
 
 	private DataSourceTokeniserState state = DataSourceTokeniserState.Data; // current tokenisation
 	// state
@@ -18,18 +29,37 @@ class DataSourceTokeniser {
 	// characters to
 	// output as one
 	// token
+	private CharSequence charPending; // a lone run of characters, not yet
+	// copied into charBuffer
 	StringBuilder dataBuffer; // buffers data looking for </script>
 
 	Token.Tag tagPending; // tag we are building up
 	Token.Doctype doctypePending; // doctype building up
 	Token.Comment commentPending; // comment building up
-	private Token.StartTag lastStartTag; // the last start tag emitted, to test
+	private String lastStartTagName; // the last start tag emitted, to test
 	// appropriate end tag
+
+	// one of each token, reset for each emit; see Token.reset()
+	private final Token.StartTag startPending = new Token.StartTag();
+	private final Token.EndTag endPending = new Token.EndTag();
+	private final Token.Character charToken = new Token.Character();
+	private final Token.Comment comment = new Token.Comment();
+	private final Token.Doctype doctype = new Token.Doctype();
+	private final Token.EOF eof = new Token.EOF();
 	private boolean selfClosingFlagAcknowledged = true;
 
-	DataSourceTokeniser(CharacterReader reader, List errors) {
+	DataSourceTokeniser(CharacterReader reader, ParseErrorList errors) {
+		this(reader, errors, HtmlParser.ParseSettings.defaultParseSettings());
+	}
+
+	DataSourceTokeniser(CharacterReader reader, ParseErrorList errors,
+			HtmlParser.ParseSettings settings) {
 		this.reader = reader;
 		this.errors = errors;
+		this.settings = settings;
+		this.lazyAttributes = settings.lazyAttributes();
+		this.decodeEntities = settings.decodeEntities();
+		this.trackPositions = settings.trackPositions();
 	}
 
 	Token read() {
@@ -43,25 +73,79 @@ class DataSourceTokeniser {
 
 		// if emit is pending, a non-character token was found: return any chars
 		// in buffer, and leave token for next read:
-		if (charBuffer.length() > 0) {
+		Token token;
+		if (charPending != null) {
+			token = charToken.data(charPending);
+			charPending = null;
+			if (trackPositions)
+				range(token, markupStart);
+		} else if (charBuffer.length() > 0) {
 			String str = charBuffer.toString();
 			charBuffer.delete(0, charBuffer.length());
-			return new Token.Character(str);
+			token = charToken.data(str);
+			if (trackPositions)
+				range(token, markupStart);
 		} else {
 			isEmitPending = false;
-			return emitPending;
+			token = emitPending;
+			if (trackPositions) {
+				textStart = markupStart;
+				range(token, tokenEnd);
+			}
+		}
+		return token;
+	}
+
+	/**
+	 * Reads tokens into the batch until it is full or the input ends, for a
+	 * tree builder on another thread. As the builder cannot switch the
+	 * tokeniser to raw text in time, the tokeniser switches itself, on the
+	 * tags the builder would. Only for a parse that does not track errors.
+	 */
+	void readAhead(TokenPipeline.Batch batch) {
+		batch.clear();
+		while (true) {
+			Token token = read();
+			batch.add(token);
+			if (token.type == Token.TokenType.StartTag) {
+				selfClosingFlagAcknowledged = true; // errors are off
+				DataSourceTokeniserState rawText = DataSourceTokeniserState
+						.rawTextStateFor(((Token.StartTag) token).tagName);
+				if (rawText != null)
+					transition(rawText);
+			}
+			if (token.type == Token.TokenType.EOF || batch.isFull())
+				return;
 		}
 	}
 
+	/**
+	 * Characters run from the end of the last token up to the '<' of the
+	 * pending token, which runs from there to where it was emitted.
+	 */
+	private void range(Token token, int end) {
+		token.sourceStart = textStart;
+		token.sourceEnd = end;
+		textStart = end;
+	}
+
 	void emit(Token token) {
 		Validate.isFalse(isEmitPending, "There is an unread token pending!");
 
 		emitPending = token;
 		isEmitPending = true;
+		if (trackPositions) {
+			tokenEnd = reader.boundedSourcePos();
+			// unless the input ended in markup that was dropped, characters
+			// run to the end
+			if (token.type == Token.TokenType.EOF && !markupOpen)
+				markupStart = tokenEnd;
+			markupOpen = false;
+		}
 
 		if (token.type == Token.TokenType.StartTag) {
 			Token.StartTag startTag = (Token.StartTag) token;
-			lastStartTag = startTag;
+			lastStartTagName = startTag.tagName;
 			if (startTag.selfClosing)
 				selfClosingFlagAcknowledged = false;
 		} else if (token.type == Token.TokenType.EndTag) {
@@ -71,46 +155,179 @@ class DataSourceTokeniser {
 		}
 	}
 
-	void emit(String str) {
+	void emit(CharSequence str) {
 		// buffer strings up until last string token found, to emit only one
 		// token for a run of character refs etc.
 		// does not set isEmitPending; read checks that
-		charBuffer.append(str);
+		if (trackPositions)
+			markupOpen = false;
+		if (charPending == null && charBuffer.length() == 0) {
+			charPending = str; // usually the whole run: emit it as is
+			return;
+		}
+		flushCharPending();
+		CharSpan.append(charBuffer, str);
+	}
+
+	void emitCodePoint(int codePoint) {
+		if (Character.isBmpCodePoint(codePoint))
+			emit((char) codePoint);
+		else
+			emit(new String(Character.toChars(codePoint)));
 	}
 
 	void emit(char c) {
+		if (trackPositions)
+			markupOpen = false;
+		flushCharPending();
 		charBuffer.append(c);
 	}
 
+	private void flushCharPending() {
+		if (charPending != null) {
+			CharSpan.append(charBuffer, charPending);
+			charPending = null;
+		}
+	}
+
 	DataSourceTokeniserState getState() {
 		return state;
 	}
 
 	void transition(DataSourceTokeniserState state) {
+		// the '<' has been consumed
+		if (trackPositions && state.opensMarkup())
+			openMarkup(reader.sourcePos() - 1);
 		this.state = state;
 	}
 
 	void advanceTransition(DataSourceTokeniserState state) {
+		if (trackPositions && state.opensMarkup())
+			openMarkup(reader.sourcePos());
 		reader.advance();
 		this.state = state;
 	}
 
+	private void openMarkup(int start) {
+		markupStart = start;
+		markupOpen = true;
+	}
+
 	void acknowledgeSelfClosingFlag() {
 		selfClosingFlagAcknowledged = true;
 	}
 
+	/**
+	 * Reads a character reference after an '&'.
+	 * 
+	 * @return the code point referred to, or -1 if there is no reference here,
+	 *         in which case nothing is consumed
+	 */
+	int consumeCharacterReference(Character additionalAllowedCharacter,
+			boolean inAttribute) {
+		if (reader.isEmpty())
+			return -1;
+		if (additionalAllowedCharacter != null
+				&& additionalAllowedCharacter == reader.current())
+			return -1;
+		if (reader.matchesAny('\t', '\n', '\f', ' ', '<', '&'))
+			return -1;
+
+		reader.mark();
+		if (reader.matchConsume("#")) { // numbered
+			boolean isHexMode = reader.matchConsumeIgnoreCase("X");
+			String numRef = isHexMode ? reader.consumeHexSequence() : reader
+					.consumeDigitSequence();
+			if (numRef.length() == 0) { // didn't match anything
+				characterReferenceError("numeric reference with no numerals");
+				reader.rewindToMark();
+				return -1;
+			}
+			if (!reader.matchConsume(";"))
+				characterReferenceError("missing semicolon"); // missing semi
+			int charval = -1;
+			try {
+				int base = isHexMode ? 16 : 10;
+				charval = Integer.valueOf(numRef, base);
+			} catch (NumberFormatException e) {
+			} // skip
+			if (charval == -1 || (charval >= 0xD800 && charval <= 0xDFFF)
+					|| charval > 0x10FFFF) {
+				characterReferenceError("character outside of valid range");
+				return replacementChar;
+			} else {
+				// todo: implement number replacement table
+				// todo: check for extra illegal unicode points as parse errors
+				return charval;
+			}
+		} else { // named
+			// walk the trie as far as the input goes along it, noting the
+			// longest name passed; then go back and step over just that name
+			EntityTrie trie = Entities.trie();
+			int node = EntityTrie.root;
+			int walked = 0, matched = 0, codePoint = -1;
+			while (!reader.isEmpty()) {
+				node = trie.next(node, reader.current());
+				if (node == -1)
+					break;
+				reader.advance();
+				walked++;
+				if (trie.codePoint(node) != -1) {
+					codePoint = trie.codePoint(node);
+					matched = walked;
+				}
+			}
+			reader.rewindToMark();
+			if (codePoint == -1) {
+				if (errors.isTracking()) {
+					reader.mark();
+					String nameRef = reader.consumeLetterSequence();
+					boolean looksLegit = reader.matches(';'); // named with semicolon
+					reader.rewindToMark();
+					if (looksLegit)
+						invalidNamedReferenceError(nameRef);
+				}
+				return -1;
+			}
+			reader.mark();
+			for (int i = 0; i < matched; i++)
+				reader.advance();
+			if (inAttribute
+					&& (reader.matchesLetter() || reader.matchesDigit() || reader
+							.matchesAny('=', '-', '_'))) {
+				// don't want that to match
+				reader.rewindToMark();
+				return -1;
+			}
+			if (!reader.matchConsume(";"))
+				characterReferenceError("missing semicolon"); // missing semi
+			return codePoint;
+		}
+	}
+
 	Token.Tag createTagPending(boolean start) {
-		tagPending = start ? new Token.StartTag() : new Token.EndTag();
+		tagPending = start ? startPending.reset() : endPending.reset();
 		return tagPending;
 	}
 
+	/**
+	 * After a tag name and whitespace: read the attributes, or for a start tag
+	 * in lazy mode, just find where they end.
+	 */
+	void transitionToAttributes() {
+		if (lazyAttributes && tagPending.type == Token.TokenType.StartTag)
+			state = DataSourceTokeniserState.AttributesUnparsed;
+		else
+			state = DataSourceTokeniserState.BeforeAttributeName;
+	}
+
 	void emitTagPending() {
 		tagPending.finaliseTag();
 		emit(tagPending);
 	}
 
 	void createCommentPending() {
-		commentPending = new Token.Comment();
+		commentPending = comment.reset();
 	}
 
 	void emitCommentPending() {
@@ -118,44 +335,65 @@ class DataSourceTokeniser {
 	}
 
 	void createDoctypePending() {
-		doctypePending = new Token.Doctype();
+		doctypePending = doctype.reset();
 	}
 
 	void emitDoctypePending() {
 		emit(doctypePending);
 	}
 
+	void emitEOF() {
+		emit(eof);
+	}
+
 	void createTempBuffer() {
-		dataBuffer = new StringBuilder();
+		if (dataBuffer == null)
+			dataBuffer = new StringBuilder();
+		else
+			dataBuffer.setLength(0);
 	}
 
 	boolean isAppropriateEndTagToken() {
-		return tagPending.tagName.equals(lastStartTag.tagName);
+		return tagPending.tagName.equals(lastStartTagName);
 	}
 
 	String appropriateEndTagName() {
-		return lastStartTag.tagName;
+		return lastStartTagName;
 	}
 
+	// errors are recorded as a format and its arguments, and only formatted
+	// if read; nothing is worked out at all when they are not tracked
+
 	void error(DataSourceTokeniserState state) {
-		errors.add(new ParseError(reader.pos(),
-				"Unexpected character '%s' in input state [%s]", reader
-						.current(), state));
+		if (errors.isTracking())
+			errors.add(reader.sourcePos(),
+					"Unexpected character '%s' in input state [%s]",
+					reader.current(), state);
 	}
 
 	void eofError(DataSourceTokeniserState state) {
-		errors.add(new ParseError(reader.pos(),
-				"Unexpectedly reached end of file (EOF) in input state [%s]",
-				state));
+		if (errors.isTracking())
+			errors.add(reader.sourcePos(),
+					"Unexpectedly reached end of file (EOF) in input state [%s]",
+					state);
 	}
 
 	private void characterReferenceError(String message) {
-		errors.add(new ParseError(reader.pos(),
-				"Invalid character reference: %s", message));
+		if (errors.isTracking())
+			errors.add(reader.sourcePos(), "Invalid character reference: %s",
+					message);
+	}
+
+	private void invalidNamedReferenceError(String name) {
+		if (errors.isTracking())
+			errors.add(reader.sourcePos(),
+					"Invalid character reference: invalid named referenece '%s'",
+					name);
 	}
 
 	private void error(String errorMsg) {
-		errors.add(new ParseError(reader.pos(), errorMsg));
+		if (errors.isTracking())
+			errors.add(reader.sourcePos(), errorMsg);
 	}
 
 	boolean currentNodeInHtmlNS() {
@@ -6,9 +6,14 @@ enum DataSourceTokeniserState {
         // in data state, gather characters until a character reference or tag is found
         void read(DataSourceTokeniser t, CharacterReader r) {
             switch (r.current()) {
-                // case '&':
-                // t.advanceTransition(CharacterReferenceInData);
-                // break;
+                case '&':
+                    if (t.decodeEntities) t.advanceTransition(CharacterReferenceInData);
+                    else t.emit(r.consumeSpanToAny(dataStops)); // kept as written: just text
+                    break;
+                default:
+                    CharSequence data = r.consumeSpanToAny(t.decodeEntities ? dataDecodeStops : dataStops);
+                    t.emit(data);
+                    break;
                 case '<':
                     t.advanceTransition(TagOpen);
                     break;
@@ -17,34 +22,34 @@ enum DataSourceTokeniserState {
                     t.emit(r.consume());
                     break;
                 case eof:
-                    t.emit(new Token.EOF());
-                    break;
-                default:
-                    String data = r.consumeToAny('<', nullChar); // '&', '<', nullChar
-                    t.emit(data);
+                    t.emitEOF();
                     break;
             }
         }
     },
-    // CharacterReferenceInData {
-    // // from & in data
-    // void read(DataSourceTokeniser t, CharacterReader r) {
-    // Character c = t.consumeCharacterReference(null, false);
-    // if (c == null)
-    // t.emit('&');
-    // else
-    // t.emit(c);
-    // t.transition(Data);
-    // }
-    // },
+    CharacterReferenceInData {
+
+        // from & in data, when decoding entities
+        void read(DataSourceTokeniser t, CharacterReader r) {
+            int c = t.consumeCharacterReference(null, false);
+            if (c == -1) t.emit('&');
+            else t.emitCodePoint(c);
+            t.transition(Data);
+        }
+    },
     Rcdata {
 
         // / handles data in title, textarea etc
         void read(DataSourceTokeniser t, CharacterReader r) {
             switch (r.current()) {
-                // case '&':
-                // t.advanceTransition(CharacterReferenceInRcdata);
-                // break;
+                case '&':
+                    if (t.decodeEntities) t.advanceTransition(CharacterReferenceInRcdata);
+                    else t.emit(r.consumeSpanToAny(dataStops)); // kept as written: just text
+                    break;
+                default:
+                    CharSequence data = r.consumeSpanToAny(t.decodeEntities ? dataDecodeStops : dataStops);
+                    t.emit(data);
+                    break;
                 case '<':
                     t.advanceTransition(RcdataLessthanSign);
                     break;
@@ -54,25 +59,27 @@ enum DataSourceTokeniserState {
                     t.emit(replacementChar);
                     break;
                 case eof:
-                    t.emit(new Token.EOF());
-                    break;
-                default:
-                    String data = r.consumeToAny('<', nullChar); // '&', '<', nullChar
-                    t.emit(data);
+                    t.emitEOF();
                     break;
             }
         }
     },
-    // CharacterReferenceInRcdata {
-    // void read(DataSourceTokeniser t, CharacterReader r) {
-    // Character c = t.consumeCharacterReference(null, false);
-    // if (c == null)
-    // t.emit('&');
-    // else
-    // t.emit(c);
-    // t.transition(Rcdata);
-    // }
-    // },
+    CharacterReferenceInRcdata {
+
+        void read(DataSourceTokeniser t, CharacterReader r) {
+            int c = t.consumeCharacterReference(null, false);
+            if (c == -1) t.emit('&');
+            else t.emitCodePoint(c);
+            t.transition(Rcdata);
+        }
+    },
+    RawtextBody {
+
+        // on entering style or iframe content: read all of it at once if the end tag can be found ahead
+        void read(DataSourceTokeniser t, CharacterReader r) {
+            rawTextBody(t, r, false, Rawtext, RawtextLessthanSign);
+        }
+    },
     Rawtext {
 
         void read(DataSourceTokeniser t, CharacterReader r) {
@@ -86,15 +93,22 @@ enum DataSourceTokeniserState {
                     t.emit(replacementChar);
                     break;
                 case eof:
-                    t.emit(new Token.EOF());
+                    t.emitEOF();
                     break;
                 default:
-                    String data = r.consumeToAny('<', nullChar);
+                    CharSequence data = r.consumeSpanToAny(dataStops);
                     t.emit(data);
                     break;
             }
         }
     },
+    ScriptDataBody {
+
+        // on entering script content: as RawtextBody, unless the script holds <!--
+        void read(DataSourceTokeniser t, CharacterReader r) {
+            rawTextBody(t, r, true, ScriptData, ScriptDataLessthanSign);
+        }
+    },
     ScriptData {
 
         void read(DataSourceTokeniser t, CharacterReader r) {
@@ -108,10 +122,10 @@ enum DataSourceTokeniserState {
                     t.emit(replacementChar);
                     break;
                 case eof:
-                    t.emit(new Token.EOF());
+                    t.emitEOF();
                     break;
                 default:
-                    String data = r.consumeToAny('<', nullChar);
+                    CharSequence data = r.consumeSpanToAny(dataStops);
                     t.emit(data);
                     break;
             }
@@ -127,7 +141,7 @@ enum DataSourceTokeniserState {
                     t.emit(replacementChar);
                     break;
                 case eof:
-                    t.emit(new Token.EOF());
+                    t.emitEOF();
                     break;
                 default:
                     String data = r.consumeTo(nullChar);
@@ -138,6 +152,10 @@ enum DataSourceTokeniserState {
     },
     TagOpen {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         // from < in data
         void read(DataSourceTokeniser t, CharacterReader r) {
             switch (r.current()) {
@@ -187,7 +205,7 @@ enum DataSourceTokeniserState {
         // from < or </ in data, will have start or end tag pending
         void read(DataSourceTokeniser t, CharacterReader r) {
             // previous TagOpen state did NOT consume, will have a letter char in current
-            String tagName = r.consumeToAny('\t', '\n', '\f', ' ', '/', '>', nullChar).toLowerCase();
+            String tagName = r.consumeTagName();
             t.tagPending.appendTagName(tagName);
 
             switch (r.consume()) {
@@ -195,7 +213,7 @@ enum DataSourceTokeniserState {
                 case '\n':
                 case '\f':
                 case ' ':
-                    t.transition(BeforeAttributeName);
+                    t.transitionToAttributes();
                     break;
                 case '/':
                     t.transition(SelfClosingStartTag);
@@ -216,6 +234,10 @@ enum DataSourceTokeniserState {
     },
     RcdataLessthanSign {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         // from < in rcdata
         void read(DataSourceTokeniser t, CharacterReader r) {
             if (r.matches('/')) {
@@ -224,7 +246,7 @@ enum DataSourceTokeniserState {
             } else if (r.matchesLetter() && !r.containsIgnoreCase("</" + t.appropriateEndTagName())) {
                 // diverge from spec: got a start tag, but there's no appropriate end tag (</title>), so rather than
                 // consuming to EOF; break out here
-                t.tagPending = new Token.EndTag(t.appropriateEndTagName());
+                t.createTagPending(false).name(t.appropriateEndTagName());
                 t.emitTagPending();
                 r.unconsume(); // undo "<"
                 t.transition(Data);
@@ -296,6 +318,10 @@ enum DataSourceTokeniserState {
     },
     RawtextLessthanSign {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         void read(DataSourceTokeniser t, CharacterReader r) {
             if (r.matches('/')) {
                 t.createTempBuffer();
@@ -358,6 +384,10 @@ enum DataSourceTokeniserState {
     },
     ScriptDataLessthanSign {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         void read(DataSourceTokeniser t, CharacterReader r) {
             switch (r.consume()) {
                 case '/':
@@ -473,7 +503,7 @@ enum DataSourceTokeniserState {
                     t.emit(replacementChar);
                     break;
                 default:
-                    String data = r.consumeToAny('-', '<', nullChar);
+                    String data = r.consumeToAny(scriptEscapedStops);
                     t.emit(data);
             }
         }
@@ -541,6 +571,10 @@ enum DataSourceTokeniserState {
     },
     ScriptDataEscapedLessthanSign {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         void read(DataSourceTokeniser t, CharacterReader r) {
             if (r.matchesLetter()) {
                 t.createTempBuffer();
@@ -663,7 +697,7 @@ enum DataSourceTokeniserState {
                     t.transition(Data);
                     break;
                 default:
-                    String data = r.consumeToAny('-', '<', nullChar);
+                    String data = r.consumeToAny(scriptEscapedStops);
                     t.emit(data);
             }
         }
@@ -729,6 +763,10 @@ enum DataSourceTokeniserState {
     },
     ScriptDataDoubleEscapedLessthanSign {
 
+        boolean opensMarkup() {
+            return true;
+        }
+
         void read(DataSourceTokeniser t, CharacterReader r) {
             if (r.matches('/')) {
                 t.emit('/');
@@ -767,6 +805,25 @@ enum DataSourceTokeniserState {
             }
         }
     },
+    AttributesUnparsed {
+
+        // from tagname <xxx, for a start tag when attributes are parsed on first use: the first '>' ends the tag in
+        // every attribute state, so that is all that needs finding now
+        void read(DataSourceTokeniser t, CharacterReader r) {
+            CharSequence source = r.consumeSpanToAny(tagEnd);
+            if (r.isEmpty()) {
+                t.eofError(this);
+                t.transition(Data);
+                return;
+            }
+            r.advance();
+            boolean selfClosing = LazyAttributes.isSelfClosing(source);
+            t.tagPending.selfClosing = selfClosing;
+            t.tagPending.attributes = new LazyAttributes(source, selfClosing, t.settings);
+            t.emitTagPending();
+            t.transition(Data);
+        }
+    },
     BeforeAttributeName {
 
         // from tagname <xxx
@@ -815,7 +872,7 @@ enum DataSourceTokeniserState {
 
         // from before attribute name
         void read(DataSourceTokeniser t, CharacterReader r) {
-            String name = r.consumeToAny('\t', '\n', '\f', ' ', '/', '=', '>', nullChar, '"', '\'', '<');
+            String name = r.consumeToAnyCached(attributeNameStops);
             t.tagPending.appendAttributeName(name);
 
             char c = r.consume();
@@ -951,7 +1008,8 @@ enum DataSourceTokeniserState {
     AttributeValue_doubleQuoted {
 
         void read(DataSourceTokeniser t, CharacterReader r) {
-            String value = r.consumeToAny('"', nullChar, '>');// '"', '&', nullChar
+            CharSequence value = r.consumeSpanToAny(t.decodeEntities ? attributeDoubleValueDecodeStops
+                                                                    : attributeDoubleValueStops);
             if (value.length() > 0) t.tagPending.appendAttributeValue(value);
 
             char c = r.consume();
@@ -959,13 +1017,11 @@ enum DataSourceTokeniserState {
                 case '"':
                     t.transition(AfterAttributeValue_quoted);
                     break;
-                // case '&':
-                // Character ref = t.consumeCharacterReference('"', true);
-                // if (ref != null)
-                // t.tagPending.appendAttributeValue(ref);
-                // else
-                // t.tagPending.appendAttributeValue('&');
-                // break;
+                case '&': // only a stop when decoding entities
+                    int ref = t.consumeCharacterReference('"', true);
+                    if (ref != -1) t.tagPending.appendAttributeCodePoint(ref);
+                    else t.tagPending.appendAttributeValue('&');
+                    break;
                 case nullChar:
                     t.error(this);
                     t.tagPending.appendAttributeValue(replacementChar);
@@ -986,7 +1042,8 @@ enum DataSourceTokeniserState {
     AttributeValue_singleQuoted {
 
         void read(DataSourceTokeniser t, CharacterReader r) {
-            String value = r.consumeToAny('\'', nullChar, '>');// '\'', '&', nullChar
+            CharSequence value = r.consumeSpanToAny(t.decodeEntities ? attributeSingleValueDecodeStops
+                                                                    : attributeSingleValueStops);
             if (value.length() > 0) t.tagPending.appendAttributeValue(value);
 
             char c = r.consume();
@@ -994,13 +1051,11 @@ enum DataSourceTokeniserState {
                 case '\'':
                     t.transition(AfterAttributeValue_quoted);
                     break;
-                // case '&':
-                // Character ref = t.consumeCharacterReference('\'', true);
-                // if (ref != null)
-                // t.tagPending.appendAttributeValue(ref);
-                // else
-                // t.tagPending.appendAttributeValue('&');
-                // break;
+                case '&': // only a stop when decoding entities
+                    int ref = t.consumeCharacterReference('\'', true);
+                    if (ref != -1) t.tagPending.appendAttributeCodePoint(ref);
+                    else t.tagPending.appendAttributeValue('&');
+                    break;
                 case nullChar:
                     t.error(this);
                     t.tagPending.appendAttributeValue(replacementChar);
@@ -1021,13 +1076,9 @@ enum DataSourceTokeniserState {
     AttributeValue_unquoted {
 
         void read(DataSourceTokeniser t, CharacterReader r) {
-            String value = r.consumeToAny('\t', '\n', '\f', ' ', '>', nullChar, '"', '\'', '<', '=', '`');// '\t', '\n',
-                                                                                                          // '\f', ' ',
-                                                                                                          // '&', '>',
-                                                                                                          // nullChar,
-                                                                                                          // '"', '\'',
-                                                                                                          // '<', '=',
-                                                                                                          // '`'
+            // spec stops: '\t', '\n', '\f', ' ', '&', '>', nullChar, '"', '\'', '<', '=', '`'
+            CharSequence value = r.consumeSpanToAny(t.decodeEntities ? attributeValueUnquotedDecodeStops
+                                                                : attributeValueUnquotedStops);
             if (value.length() > 0) t.tagPending.appendAttributeValue(value);
 
             char c = r.consume();
@@ -1038,13 +1089,11 @@ enum DataSourceTokeniserState {
                 case ' ':
                     t.transition(BeforeAttributeName);
                     break;
-                // case '&':
-                // Character ref = t.consumeCharacterReference('>', true);
-                // if (ref != null)
-                // t.tagPending.appendAttributeValue(ref);
-                // else
-                // t.tagPending.appendAttributeValue('&');
-                // break;
+                case '&': // only a stop when decoding entities
+                    int ref = t.consumeCharacterReference('>', true);
+                    if (ref != -1) t.tagPending.appendAttributeCodePoint(ref);
+                    else t.tagPending.appendAttributeValue('&');
+                    break;
                 case '>':
                     t.emitTagPending();
                     t.transition(Data);
@@ -1127,10 +1176,10 @@ enum DataSourceTokeniserState {
             // todo: handle bogus comment starting from eof. when does that trigger?
             // rewind to capture character that lead us here
             r.unconsume();
-            Token.Comment comment = new Token.Comment();
-            comment.data.append(r.consumeTo('>'));
+            t.createCommentPending();
+            t.commentPending.data.append(r.consumeTo('>'));
             // todo: replace nullChar with replaceChar
-            t.emit(comment);
+            t.emitCommentPending();
             t.advanceTransition(Data);
         }
     },
@@ -1230,7 +1279,7 @@ enum DataSourceTokeniserState {
                     t.transition(Data);
                     break;
                 default:
-                    t.commentPending.data.append(r.consumeToAny('-', nullChar));
+                    t.commentPending.data.append(r.consumeToAny(commentStops));
             }
         }
     },
@@ -1424,7 +1473,7 @@ enum DataSourceTokeniserState {
                 t.transition(Data);
                 return;
             }
-            if (r.matchesAny('\t', '\n', '\f', ' ')) r.advance(); // ignore whitespace
+            if (r.matchesAny(whitespace)) r.advance(); // ignore whitespace
             else if (r.matches('>')) {
                 t.emitDoctypePending();
                 t.advanceTransition(Data);
@@ -1843,8 +1892,65 @@ enum DataSourceTokeniserState {
 
     abstract void read(DataSourceTokeniser t, CharacterReader r);
 
+    /**
+     * If the state is entered on a '<' that may start a token: where the tokeniser notes a token's source start.
+     */
+    boolean opensMarkup() {
+        return false;
+    }
+
+    /**
+     * The state the tokeniser moves to after the start tag of an element whose content is not markup, as the tree
+     * builder switches it: script data for script, raw text for style and iframe, RCDATA for textarea.
+     *
+     * @return the state, or null for elements with ordinary content
+     */
+    static DataSourceTokeniserState rawTextStateFor(String tagName) {
+        if (tagName.equals("script")) return ScriptDataBody;
+        if (tagName.equals("style") || tagName.equals("iframe")) return RawtextBody;
+        if (tagName.equals("textarea")) return Rcdata;
+        return null;
+    }
+
+    /**
+     * Reads the whole content of a raw text element as one run, and leaves the reader on its end tag, past the '<'.
+     * Tried once per element, as the search looks at the rest of the input: if the end tag is not found, or the
+     * content needs the states' handling, reads char by char from the content state instead.
+     */
+    private static void rawTextBody(DataSourceTokeniser t, CharacterReader r, boolean script,
+                                    DataSourceTokeniserState content, DataSourceTokeniserState lessthanSign) {
+        CharSequence body = r.consumeRawText(t.appropriateEndTagName(), script);
+        if (body == null) {
+            t.transition(content);
+            return;
+        }
+        if (body.length() > 0) t.emit(body);
+        t.advanceTransition(lessthanSign);
+    }
+
     private static final char   nullChar        = '\u0000';
     private static final char   replacementChar = DataSourceTokeniser.replacementChar;
     private static final String replacementStr  = String.valueOf(DataSourceTokeniser.replacementChar);
     private static final char   eof             = CharacterReader.EOF;
+
+    // the chars that end a run in each state, as tables rather than varargs scanned per char
+    private static final CharClass dataStops                   = CharClass.of('<', nullChar);
+    private static final CharClass scriptEscapedStops          = CharClass.of('-', '<', nullChar);
+    private static final CharClass commentStops                = CharClass.of('-', nullChar);
+    private static final CharClass attributeNameStops          = CharClass.of('\t', '\n', '\f', ' ', '/', '=', '>',
+                                                                              nullChar, '"', '\'', '<');
+    private static final CharClass attributeDoubleValueStops   = CharClass.of('"', nullChar, '>');
+    private static final CharClass attributeSingleValueStops   = CharClass.of('\'', nullChar, '>');
+    private static final CharClass attributeValueUnquotedStops = CharClass.of('\t', '\n', '\f', ' ', '>', nullChar,
+                                                                              '"', '\'', '<', '=', '`');
+    private static final CharClass tagEnd                      = CharClass.of('>');
+
+    // and when decoding entities, where '&' starts a character reference
+    private static final CharClass dataDecodeStops                   = CharClass.of('&', '<', nullChar);
+    private static final CharClass attributeDoubleValueDecodeStops   = CharClass.of('"', '&', nullChar, '>');
+    private static final CharClass attributeSingleValueDecodeStops   = CharClass.of('\'', '&', nullChar, '>');
+    private static final CharClass attributeValueUnquotedDecodeStops = CharClass.of('\t', '\n', '\f', ' ', '&', '>',
+                                                                                    nullChar, '"', '\'', '<', '=',
+                                                                                    '`');
+    private static final CharClass whitespace                  = CharClass.of('\t', '\n', '\f', ' ');
 }
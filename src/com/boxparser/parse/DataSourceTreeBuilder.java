@@ -1,19 +1,17 @@
 package com.boxparser.parse;
 
-import java.util.Iterator;
-import java.util.List;
-
 import com.boxparser.html.nodes.Document;
 import com.boxparser.html.nodes.Element;
 import com.boxparser.html.nodes.Node;
 import com.boxparser.html.nodes.TextNode;
-import com.boxparser.html.util.StringUtil;
 
 public class DataSourceTreeBuilder extends TreeBuilder {
 
     private DataSourceTreeBuilderState state;               // the current state
     private DataSourceTreeBuilderState originalState;       // original / marked state
     private Document                   doc = new Document(Tag.valueOf("#root"));
+    private final Token.EndTag         impliedEndTag = new Token.EndTag(); // reused for end tags the builder implies
+    private boolean                    trackPositions;
 
     @Override
     protected boolean process(Token token) {
@@ -21,12 +19,33 @@ public class DataSourceTreeBuilder extends TreeBuilder {
         return this.state.process(token, this);
     }
 
-    Document parse(String input, List<ParseError> errors) {
+    /**
+     * Processes an end tag that the input didn't have, but that the tree needs, such as the {@code </p>} before a
+     * heading. The token that implied it is current again after, for the nodes it goes on to insert.
+     */
+    boolean processEndTag(String name) {
+        Token implying = currentToken;
+        impliedEndTag.reset().name(name);
+        // takes no input: closes where the token that implied it starts
+        impliedEndTag.sourceStart = impliedEndTag.sourceEnd = implying.sourceStart;
+        boolean processed = process(impliedEndTag);
+        currentToken = implying;
+        return processed;
+    }
+
+    Document parse(CharacterReader input, ParseErrorList errors) {
         state = DataSourceTreeBuilderState.all;
         initialiseParse(input, errors);
-        stack.push(doc);
+        trackPositions = settings.trackPositions();
+        if (trackPositions || errors.isTracking()) {
+            LineIndex lines = input.lineIndex();
+            doc.sourceLines(lines);
+            errors.lines(lines);
+        }
+        push(doc);
 
         runParser();
+        if (trackPositions) closeOpenRanges(currentToken.sourceEnd);
         return doc;
     }
 
@@ -51,18 +70,20 @@ public class DataSourceTreeBuilder extends TreeBuilder {
     }
 
     void error(DataSourceTreeBuilderState state) {
-        errors.add(new ParseError(reader.pos(), "Unexpected token [%s] when in state [%s]", currentToken.tokenType(),
-                                  state));
+        // a token type's name is its class's simple name: the same message, without the reflection
+        if (errors.isTracking()) {
+            errors.add(reader.sourcePos(), "Unexpected token [%s] when in state [%s]", currentToken.type, state);
+        }
     }
 
     void insert(Token.Doctype doctype) {
         Node node = new TextNode(doctype.toString(), false);
-        currentElement().addChildren(node);
+        insertNode(node);
     }
 
     void insert(Token.Character characterToken) {
         Node node = new TextNode(characterToken.getData());
-        currentElement().addChildren(node);
+        insertNode(node);
     }
 
     void insert(Token.Comment commentToken) {
@@ -70,10 +91,36 @@ public class DataSourceTreeBuilder extends TreeBuilder {
         insertNode(node);
     }
 
+    /**
+     * Adds a node made from the current token; an element's range is extended to its end when it is popped.
+     */
     private void insertNode(Node node) {
+        if (trackPositions) node.sourceRange(currentToken.sourceStart, currentToken.sourceEnd);
         currentElement().addChildren(node);
     }
 
+    @Override
+    Node pop() {
+        Node node = super.pop();
+        if (trackPositions && node != null && node != doc) {
+            Token t = currentToken;
+            boolean closedByTag = t.type == Token.TokenType.EndTag && t.asEndTag().name().equals(node.nodeName());
+            node.sourceRange(node.sourceStart(), closedByTag ? t.sourceEnd : t.sourceStart);
+        }
+        return node;
+    }
+
+    /**
+     * At the end of input, the elements left open end there, as does the document.
+     */
+    private void closeOpenRanges(int end) {
+        for (int i = 0; i < stackSize(); i++) {
+            Element el = stack[i];
+            if (el != doc) el.sourceRange(el.sourceStart(), end);
+        }
+        doc.sourceRange(0, end);
+    }
+
     Element insert(Token.StartTag startTag) {
         // handle empty unknown tags
         // when the spec expects an empty tag, will directly hit insertEmpty, so
@@ -96,7 +143,7 @@ public class DataSourceTreeBuilder extends TreeBuilder {
         Element el = new Element(tag, startTag.attributes);
         insertNode(el);
         if (startTag.isSelfClosing()) {
-            tokeniser.acknowledgeSelfClosingFlag();
+            acknowledgeSelfClosingFlag();
             if (!tag.isKnownTag()) // unknown tag, remember this is self closing
             // for output
             tag.setSelfClosing();
@@ -106,15 +153,15 @@ public class DataSourceTreeBuilder extends TreeBuilder {
 
     void insert(Element el) {
         insertNode(el);
-        stack.add(el);
+        push(el);
     }
 
     public boolean inButtonScope(String targetName) {
-        return inScope(targetName, new String[] { "button" });
+        return inScope(targetName, TagSet.buttonScope);
     }
 
     boolean inScope(String targetName) {
-        return inScope(targetName, null);
+        return inScope(targetName, TagSet.defaultScope);
     }
 
     void generateImpliedEndTags() {
@@ -122,22 +169,9 @@ public class DataSourceTreeBuilder extends TreeBuilder {
     }
 
     void generateImpliedEndTags(String excludeTag) {
-        while ((excludeTag != null && !currentElement().nodeName().equals(excludeTag))
-               && StringUtil.in(currentElement().nodeName(), "dd", "dt", "li", "option", "optgroup", "p", "rp", "rt"))
+        while ((excludeTag != null && !currentElementName().equals(excludeTag))
+               && TagSet.impliedEndTags.contains(currentElementId()))
             pop();
     }
 
-    void popStackToClose(String elName) {
-        Iterator<Element> it = stack.descendingIterator();
-        while (it.hasNext()) {
-            Element next = it.next();
-            if (next.nodeName().equals(elName)) {
-                it.remove();
-                break;
-            } else {
-                it.remove();
-            }
-        }
-    }
-
 }
@@ -1,8 +1,5 @@
 package com.boxparser.parse;
 
-import java.util.LinkedList;
-
-import com.boxparser.html.nodes.Element;
 import com.boxparser.html.util.StringUtil;
 
 public enum DataSourceTreeBuilderState {
@@ -20,25 +17,25 @@ public enum DataSourceTreeBuilderState {
                     } else if (name.equals("script")) {
                         // skips some script rules as won't execute them
                         tb.insert(startTag);
-                        tb.tokeniser.transition(DataSourceTokeniserState.ScriptData);
+                        tb.transitionTokeniser(DataSourceTokeniserState.ScriptDataBody);
                         tb.markInsertionMode();
                         tb.transition(Text);
                     } else if (name.equals("li")) {
-                        handNoEmbeddedTag(tb, startTag, name);
+                        handNoEmbeddedTag(tb, startTag, TagSet.listItem);
                     } else if (StringUtil.in(name, "area", "br", "embed", "img", "keygen", "wbr", "input", "param",
                                              "source", "track", "hr")) {
                         tb.insertEmpty(startTag);
                     } else if (StringUtil.in(name, "meta", "base", "basefont", "bgsound", "command", "link")) {
                         tb.insertEmpty(startTag);
                     } else if (StringUtil.in(name, "dd", "dt")) {
-                        handNoEmbeddedTag(tb, startTag, "dd", "dt");
+                        handNoEmbeddedTag(tb, startTag, TagSet.definitions);
                     } else if (StringUtil.in(name, "tr")) {
-                        backwordTagInScope(tb, startTag, "tbody","table");
+                        backwordTagInScope(tb, startTag, TagSet.rowScope);
                     } else if (StringUtil.in(name, "h1", "h2", "h3", "h4", "h5", "h6")) {
                         if (tb.inButtonScope("p")) {
-                            tb.process(new Token.EndTag("p"));
+                            tb.processEndTag("p");
                         }
-                        if (StringUtil.in(tb.currentElement().nodeName(), "h1", "h2", "h3", "h4", "h5", "h6")) {
+                        if (TagSet.headings.contains(tb.currentElementId())) {
                             tb.error(this);
                             tb.pop();
                         }
@@ -48,7 +45,7 @@ public enum DataSourceTreeBuilderState {
                         // todo: If the next token is a U+000A LINE FEED (LF) character token, then ignore that token
                         // and move on to the next one. (Newlines at the start of textarea elements are ignored as an
                         // authoring convenience.)
-                        tb.tokeniser.transition(DataSourceTokeniserState.Rcdata);
+                        tb.transitionTokeniser(DataSourceTokeniserState.Rcdata);
                         tb.markInsertionMode();
                         tb.transition(Text);
                     } else if (name.equals("iframe")) {
@@ -72,7 +69,7 @@ public enum DataSourceTreeBuilderState {
                         return false;
                     } else {
                         tb.generateImpliedEndTags();
-                        if (!tb.currentElement().nodeName().equals(name)) tb.error(this);
+                        if (!tb.currentElementName().equals(name)) tb.error(this);
                         tb.popStackToClose(name);
                     }
                     break;
@@ -126,7 +123,7 @@ public enum DataSourceTreeBuilderState {
 
     private static void handleRawtext(Token.StartTag startTag, DataSourceTreeBuilder tb) {
         tb.insert(startTag);
-        tb.tokeniser.transition(DataSourceTokeniserState.Rawtext);
+        tb.transitionTokeniser(DataSourceTokeniserState.RawtextBody);
         tb.markInsertionMode();
         tb.transition(Text);
     }
@@ -135,34 +132,32 @@ public enum DataSourceTreeBuilderState {
      * @param tb
      * @param startTag
      */
-    private static void handNoEmbeddedTag(DataSourceTreeBuilder tb, Token.StartTag startTag, String... inTagNames) {
+    private static void handNoEmbeddedTag(DataSourceTreeBuilder tb, Token.StartTag startTag, TagSet inTags) {
         // tb.framesetOk(false);
-        LinkedList<Element> stack = tb.getStack();
-        for (int i = stack.size() - 1; i > 0; i--) {
-            Element el = stack.get(i);
-            if (StringUtil.in(el.nodeName(), inTagNames)) {
-                tb.process(new Token.EndTag(el.tagName()));
+        for (int i = tb.stackSize() - 1; i > 0; i--) {
+            int id = tb.stackId(i);
+            if (inTags.contains(id)) {
+                tb.processEndTag(tb.stackName(i));
                 break;
             }
-            if (tb.isSpecial(el) && !StringUtil.in(el.nodeName(), "address", "div", "p")) break;
+            if (TagSet.listItemBoundaries.contains(id)) break;
         }
         if (tb.inButtonScope("p")) {
-            tb.process(new Token.EndTag("p"));
+            tb.processEndTag("p");
         }
         tb.insert(startTag);
     }
 
-    private static void backwordTagInScope(DataSourceTreeBuilder tb, Token.StartTag startTag, String... excludeTags) {
-        LinkedList<Element> stack = tb.getStack();
+    private static void backwordTagInScope(DataSourceTreeBuilder tb, Token.StartTag startTag, TagSet excludeTags) {
         String nodeName = startTag.name();
-        for (int i = stack.size() - 1; i > 0; i--) {
-            Element el = stack.get(i);
-            if (el.nodeName().equals(nodeName)) {
-                tb.process(new Token.EndTag(el.tagName()));
+        for (int i = tb.stackSize() - 1; i > 0; i--) {
+            String elName = tb.stackName(i);
+            if (elName.equals(nodeName)) {
+                tb.processEndTag(elName);
                 break;
             }
             // ųǩ
-            if (StringUtil.in(el.nodeName(), excludeTags)) {
+            if (excludeTags.contains(tb.stackId(i))) {
                 break;
             }
         }
@@ -0,0 +1,212 @@
+package com.boxparser.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.boxparser.html.util.Validate;
+
+/**
+ * Decodes bytes to chars a chunk at a time, for the {@link CharacterReader} window to pull from. Each byte is decoded
+ * exactly once, and neither the bytes nor the chars of the whole document are ever held together.
+ * <p>
+ * For ASCII compatible charsets (GBK, UTF-8 and the like) every byte below 0x80 is the ASCII char itself, and all of
+ * the markup the tokeniser cares about is ASCII. Those bytes are widened straight into chars; only runs of non-ASCII
+ * bytes go through the {@link CharsetDecoder}.
+ */
+final class DecodingReader extends Reader {
+
+    static final int                                 byteBufferSize = 1024 * 8;
+
+    // charsets where a byte below 0x80 always stands for that ASCII char, and the decoder keeps no state between
+    // calls. multi-byte chars may still use ASCII range trail bytes (GBK, Shift_JIS): those are handled by growing
+    // the run handed to the decoder until it makes progress.
+    private static final Set<String>                 asciiCompatible = new HashSet<String>(
+                                                                         Arrays.asList("US-ASCII", "UTF-8",
+                                                                                       "ISO-8859-1", "windows-1252",
+                                                                                       "GBK", "GB2312", "GB18030",
+                                                                                       "Big5", "EUC-JP", "EUC-KR",
+                                                                                       "Shift_JIS"));
+
+    // decoders are stateful but resettable: a finished document hands its decoder to the next one on the thread
+    private static final ThreadLocal<CharsetDecoder> decoders       = new ThreadLocal<CharsetDecoder>();
+
+    private final CharsetDecoder                     decoder;
+    private final boolean                            widenAscii;
+    private final ReadableByteChannel                channel;                      // null when all bytes are given
+    private final ByteBuffer                         bytes;
+    private boolean                                  endOfInput;
+    private boolean                                  decoderEnded;                 // decoder has seen endOfInput
+    private boolean                                  flushed;
+    private final char[]                             overflow       = new char[2]; // a surrogate pair for a 1 char read
+    private int                                      overflowLen;
+
+    /**
+     * Decode from a channel. The channel must be blocking; it is not closed.
+     */
+    DecodingReader(ReadableByteChannel channel, Charset charset){
+        Validate.notNull(channel);
+        this.decoder = decoderFor(charset);
+        this.widenAscii = asciiCompatible.contains(charset.name());
+        this.channel = channel;
+        this.bytes = ByteBuffer.allocate(byteBufferSize);
+        bytes.flip(); // nothing read yet
+    }
+
+    /**
+     * Decode the remaining bytes of a buffer that already holds the whole input.
+     */
+    DecodingReader(ByteBuffer bytes, Charset charset){
+        Validate.notNull(bytes);
+        this.decoder = decoderFor(charset);
+        this.widenAscii = asciiCompatible.contains(charset.name());
+        this.channel = null;
+        this.bytes = bytes;
+        this.endOfInput = true;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (overflowLen > 0) {
+            cbuf[off] = overflow[--overflowLen];
+            return 1;
+        }
+
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.hasRemaining()) {
+            boolean runs = widenAscii && !decoderEnded;
+            if (runs) widenAscii(out);
+            if (!out.hasRemaining()) break;
+
+            if (!bytes.hasRemaining()) {
+                if (endOfInput) {
+                    flush(out);
+                    break;
+                }
+                if (out.position() > off) break; // hand back what we have before blocking on the channel
+                readChannel();
+                continue;
+            }
+
+            int start = bytes.position();
+            CoderResult result = runs ? decodeRun(out) : decoder.decode(bytes, out, endOfInput);
+            if (result.isOverflow()) {
+                if (out.position() == off) return readSplitPair(cbuf, off);
+                break;
+            } else if (result.isError()) {
+                result.throwException(); // not reached: malformed and unmappable input is replaced
+            } else if (bytes.position() == start && !endOfInput) {
+                // an incomplete char at the end of the bytes read so far
+                if (out.position() > off) break;
+                readChannel();
+            }
+        }
+        return out.position() > off ? out.position() - off : -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the caller owns the channel
+    }
+
+    /**
+     * Copies ASCII bytes straight to chars, up to the next byte that needs the decoder.
+     */
+    private void widenAscii(CharBuffer out) {
+        char[] chars = out.array();
+        int o = out.arrayOffset() + out.position();
+        int end = out.arrayOffset() + out.limit();
+        int pos = bytes.position();
+        int limit = bytes.limit();
+        if (bytes.hasArray()) {
+            byte[] src = bytes.array();
+            int base = bytes.arrayOffset();
+            while (pos < limit && o < end) {
+                byte b = src[base + pos];
+                if (b < 0) break;
+                chars[o++] = (char) b;
+                pos++;
+            }
+        } else {
+            while (pos < limit && o < end) {
+                byte b = bytes.get(pos);
+                if (b < 0) break;
+                chars[o++] = (char) b;
+                pos++;
+            }
+        }
+        bytes.position(pos);
+        out.position(o - out.arrayOffset());
+    }
+
+    /**
+     * Decodes the run of non-ASCII bytes at the current position. If the run ends part way through a char whose
+     * trail bytes fall in the ASCII range, the run is grown a byte at a time until the decoder can finish it.
+     */
+    private CoderResult decodeRun(CharBuffer out) {
+        int start = bytes.position();
+        int limit = bytes.limit();
+        int runEnd = start;
+        while (runEnd < limit && bytes.get(runEnd) < 0)
+            runEnd++;
+
+        while (true) {
+            // once the decoder is told the input has ended it must be given everything left, so stop splitting runs
+            decoderEnded = endOfInput && runEnd == limit;
+            bytes.limit(runEnd);
+            CoderResult result = decoder.decode(bytes, out, decoderEnded);
+            bytes.limit(limit);
+            if (!result.isUnderflow() || bytes.position() > start || runEnd == limit) return result;
+            runEnd++;
+        }
+    }
+
+    private void flush(CharBuffer out) {
+        if (flushed) return;
+        decoder.decode(bytes, out, true);
+        decoder.flush(out);
+        flushed = true;
+        decoders.set(decoder);
+    }
+
+    private void readChannel() throws IOException {
+        bytes.compact();
+        int read = channel.read(bytes);
+        bytes.flip();
+        if (read == -1) endOfInput = true;
+    }
+
+    /**
+     * Only one char of room, and the next char is a surrogate pair: hand back the high half now, the low half next.
+     */
+    private int readSplitPair(char[] cbuf, int off) {
+        CharBuffer pair = CharBuffer.wrap(overflow);
+        if (widenAscii && !decoderEnded) decodeRun(pair);
+        else decoder.decode(bytes, pair, endOfInput);
+        cbuf[off] = overflow[0];
+        overflow[0] = overflow[1];
+        overflowLen = pair.position() - 1;
+        return 1;
+    }
+
+    private static CharsetDecoder decoderFor(Charset charset) {
+        Validate.notNull(charset);
+        CharsetDecoder decoder = decoders.get();
+        if (decoder == null || !decoder.charset().equals(charset)) {
+            return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        decoders.set(null); // in use until this document is flushed
+        return decoder.reset();
+    }
+}
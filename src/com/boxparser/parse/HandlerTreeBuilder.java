@@ -0,0 +1,79 @@
+package com.boxparser.parse;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Element;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.html.util.Validate;
+
+/**
+ * Runs the tree builder's states, but where they would insert or pop an element, calls a {@link HtmlHandler}
+ * instead. Only the names of the open elements are kept, so memory does not grow with the document.
+ */
+class HandlerTreeBuilder extends DataSourceTreeBuilder {
+
+    private static final String root = "#root";
+
+    private final HtmlHandler   handler;
+
+    HandlerTreeBuilder(HtmlHandler handler){
+        Validate.notNull(handler);
+        this.handler = handler;
+    }
+
+    /**
+     * @return null: no document is built
+     */
+    @Override
+    Document parse(CharacterReader input, ParseErrorList errors) {
+        transition(DataSourceTreeBuilderState.all);
+        initialiseParse(input, errors);
+        push(root);
+
+        runParser();
+        while (stackSize() > 1)
+            pop(); // end every element left open
+        return null;
+    }
+
+    @Override
+    Element insert(Token.StartTag startTag) {
+        if (startTag.isSelfClosing()) return insertEmpty(startTag);
+
+        handler.startElement(startTag.name(), startTag.getAttributes());
+        push(startTag.name());
+        return null;
+    }
+
+    @Override
+    Element insertEmpty(Token.StartTag startTag) {
+        handler.startElement(startTag.name(), startTag.getAttributes());
+        handler.endElement(startTag.name());
+        if (startTag.isSelfClosing()) acknowledgeSelfClosingFlag();
+        return null;
+    }
+
+    @Override
+    void insert(Token.Character characterToken) {
+        handler.characters(characterToken.getData());
+    }
+
+    @Override
+    void insert(Token.Comment commentToken) {
+        handler.comment(commentToken.getData());
+    }
+
+    @Override
+    void insert(Token.Doctype doctype) {
+        handler.doctype(doctype.toString());
+    }
+
+    @Override
+    Node pop() {
+        if (stackSize() > 1) {
+            String name = currentElementName();
+            super.pop();
+            handler.endElement(name);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.boxparser.parse;
+
+import com.boxparser.html.nodes.Attributes;
+
+/**
+ * Receives a document as a stream of events, from {@link HtmlParser#parse(String, HtmlHandler)}. The events nest as
+ * the elements of the parsed tree would: the tree builder's rules for implied end tags (li, dd, dt, tr, h1 - h6 and so
+ * on) apply, and every element is ended, if need be at the end of the input. No nodes are built.
+ */
+public interface HtmlHandler {
+
+    /**
+     * @param name the lower case tag name
+     * @param attributes the element's attributes; the handler may keep them
+     */
+    void startElement(String name, Attributes attributes);
+
+    void endElement(String name);
+
+    /**
+     * @param text a run of text. May be a view of the input: call {@code toString()} on it to keep it.
+     */
+    void characters(CharSequence text);
+
+    /**
+     * @param data the content of the comment, without the {@code <!--} and {@code -->}
+     */
+    void comment(String data);
+
+    /**
+     * @param declaration the whole doctype declaration, as {@code <!DOCTYPE html>}
+     */
+    void doctype(String declaration);
+}
@@ -1,10 +1,19 @@
 package com.boxparser.parse;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 import com.boxparser.html.nodes.Document;
@@ -14,6 +23,9 @@ import com.boxparser.html.util.Validate;
 
 public class HtmlParser {
 
+    /** Charset assumed for a byte stream with neither a byte order mark nor a meta charset */
+    public static final Charset defaultCharset = Charset.forName("GBK");
+
     public static List<Node> parseNodes(String input) {
         Document doc = parse(input);
         return doc.childNodes();
@@ -21,20 +33,270 @@ public class HtmlParser {
 
     public static Document parse(String input) {
         TreeBuilder builder = new DataSourceTreeBuilder();
-        List<ParseError> errors = new ArrayList<ParseError>();
-        Document doc = builder.parse(input, errors);
+        Document doc = builder.parse(input, ParseErrorList.off());
+        return doc;
+    }
+
+    /**
+     * Parse with the given settings, such as lazily parsed attributes.
+     */
+    public static Document parse(String input, ParseSettings settings) {
+        return parse(input, settings, ParseErrorList.off());
+    }
+
+    /**
+     * Parse with the given settings, and collect the parse errors found into the given list, as its mode asks.
+     */
+    public static Document parse(String input, ParseSettings settings, ParseErrorList errors) {
+        Validate.notNull(errors);
+        TreeBuilder builder = new DataSourceTreeBuilder();
+        builder.settings(settings);
+        return builder.parse(input, errors);
+    }
+
+    /**
+     * Parse from a Reader with the given settings. The reader is not closed.
+     */
+    public static Document parse(Reader input, ParseSettings settings) {
+        return parse(input, settings, ParseErrorList.off());
+    }
+
+    /**
+     * Parse from a Reader with the given settings, collecting parse errors as the list's mode asks. The reader is
+     * not closed.
+     */
+    public static Document parse(Reader input, ParseSettings settings, ParseErrorList errors) {
+        Validate.notNull(errors);
+        TreeBuilder builder = new DataSourceTreeBuilder();
+        builder.settings(settings);
+        return builder.parse(new CharacterReader(input), errors);
+    }
+
+    /**
+     * Parse from a Reader without materialising the whole input: the tokeniser pulls through a bounded window. The
+     * reader is not closed.
+     */
+    public static Document parse(Reader input) {
+        TreeBuilder builder = new DataSourceTreeBuilder();
+        Document doc = builder.parse(new CharacterReader(input), ParseErrorList.off());
         return doc;
     }
 
+    /**
+     * Parse a byte stream in the charset it declares. The first few KB are prescanned for a byte order mark or a
+     * {@code <meta>} charset, then the stream is decoded once, in chunks as the tokeniser reads. Without either,
+     * {@link #defaultCharset} is used. The stream is not closed.
+     */
+    public static Document parse(InputStream input) {
+        Validate.notNull(input);
+        byte[] head = new byte[CharsetSniffer.prescanLength];
+        int len = 0;
+        try {
+            int read;
+            while (len < head.length && (read = input.read(head, len, head.length - len)) != -1)
+                len += read;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Charset charset = CharsetSniffer.bomCharset(head, len);
+        int skip = CharsetSniffer.bomLength(charset);
+        if (charset == null) charset = CharsetSniffer.metaCharset(head, len);
+        if (charset == null) charset = defaultCharset;
+
+        // replay the prescanned bytes, minus the byte order mark, ahead of the rest of the stream
+        InputStream replay = new ByteArrayInputStream(head, skip, len - skip);
+        return parse(len < head.length ? replay : new SequenceInputStream(replay, input), charset);
+    }
+
+    /**
+     * Parse a byte stream, decoding it in chunks as the tokeniser reads. The stream is not closed.
+     */
+    public static Document parse(InputStream input, Charset charset) {
+        Validate.notNull(input);
+        return parse(Channels.newChannel(input), charset);
+    }
+
+    /**
+     * Parse from a blocking channel, decoding it in chunks as the tokeniser reads. The channel is not closed.
+     */
+    public static Document parse(ReadableByteChannel input, Charset charset) {
+        Document doc = parse(new DecodingReader(input, charset));
+        doc.outputSettings().charset(charset);
+        return doc;
+    }
+
+    /**
+     * Parse a local file by memory mapping it: the tokeniser decodes straight from the page cache, so the file's
+     * bytes are never copied onto the heap. Files too large to map in one piece are streamed instead.
+     */
+    public static Document parse(Path file, Charset charset) throws IOException {
+        Validate.notNull(file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) return parse(channel, charset);
+
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            Document doc = parse(new DecodingReader(bytes, charset));
+            doc.outputSettings().charset(charset);
+            return doc;
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Parse to a stream of events instead of a tree. No nodes are built.
+     */
+    public static void parse(String input, HtmlHandler handler) {
+        Validate.notNull(input);
+        parse(new CharacterReader(input), handler);
+    }
+
+    /**
+     * Parse to a stream of events, pulling the input through a bounded window: memory use does not depend on the
+     * size of the document. The reader is not closed.
+     */
+    public static void parse(Reader input, HtmlHandler handler) {
+        parse(new CharacterReader(input), handler);
+    }
+
+    /**
+     * Parse a byte stream to a stream of events, decoding it in chunks as the tokeniser reads. The stream is not
+     * closed.
+     */
+    public static void parse(InputStream input, Charset charset, HtmlHandler handler) {
+        Validate.notNull(input);
+        parse(new DecodingReader(Channels.newChannel(input), charset), handler);
+    }
+
+    private static void parse(CharacterReader input, HtmlHandler handler) {
+        new HandlerTreeBuilder(handler).parse(input, ParseErrorList.off());
+    }
+
     public static String parseHTML(String input) {
         Document doc = parse(input);
         return doc.toString();
     }
 
+    /**
+     * Settings that change how a document is parsed. The defaults parse everything up front.
+     */
+    public static class ParseSettings {
+
+        private boolean              lazyAttributes = false;
+        private boolean              decodeEntities = false;
+        private boolean              trackPositions = false;
+        private boolean              pipelined      = false;
+
+        private static ParseSettings defaultSetting = new ParseSettings();
+
+        public static ParseSettings defaultParseSettings() {
+            return defaultSetting;
+        }
+
+        public ParseSettings(){
+        }
+
+        /**
+         * Get if start tag attributes are parsed lazily. Default is false.
+         * 
+         * @return if attributes are parsed lazily
+         */
+        public boolean lazyAttributes() {
+            return lazyAttributes;
+        }
+
+        /**
+         * Parse start tag attributes lazily: the tokeniser only finds the end of each start tag, and keeps the source
+         * of its attributes. They are parsed the first time an element's attributes are read or changed, and an
+         * element whose attributes are never touched writes them out as they were in the input. Parse errors inside
+         * lazily parsed attributes are not reported.
+         * 
+         * @param lazy new lazy attributes setting
+         * @return this, for chaining
+         */
+        public ParseSettings lazyAttributes(boolean lazy) {
+            lazyAttributes = lazy;
+            return this;
+        }
+
+        /**
+         * Get if character references in text and attribute values are decoded. Default is false.
+         * 
+         * @return if character references are decoded
+         */
+        public boolean decodeEntities() {
+            return decodeEntities;
+        }
+
+        /**
+         * Decode character references such as {@code &amp;amp;} and {@code &amp;#39;} in text and attribute values as
+         * the spec does, instead of keeping them as written: for reading text out of a document. Kept as written (the
+         * default), text and attribute values hold the input verbatim and serialise back to it; decoded, they are
+         * serialised as decoded.
+         * 
+         * @param decode new decode entities setting
+         * @return this, for chaining
+         */
+        public ParseSettings decodeEntities(boolean decode) {
+            decodeEntities = decode;
+            return this;
+        }
+
+        /**
+         * Get if nodes are given their source positions. Default is false.
+         * 
+         * @return if source positions are tracked
+         */
+        public boolean trackPositions() {
+            return trackPositions;
+        }
+
+        /**
+         * Give each element, text node and the document the range of the input it was parsed from, as
+         * {@link com.boxparser.html.nodes.Node#sourceStart()} and {@link com.boxparser.html.nodes.Node#sourceEnd()},
+         * and the document an index of the input's lines to resolve them to lines and columns. An element's range runs
+         * from its start tag to the end of its end tag, or to where it was implicitly closed.
+         * 
+         * @param track new track positions setting
+         * @return this, for chaining
+         */
+        public ParseSettings trackPositions(boolean track) {
+            trackPositions = track;
+            return this;
+        }
+
+        /**
+         * Get if the input is tokenised on a thread of its own. Default is false.
+         * 
+         * @return if the parse is pipelined
+         */
+        public boolean pipelined() {
+            return pipelined;
+        }
+
+        /**
+         * Tokenise the input on a second thread, a few hundred tokens ahead of the tree builder on the parsing
+         * thread, for a shorter parse of a very large document on a machine with an idle core. A small document is
+         * quicker parsed on one thread, as starting the second costs more than it saves; a parse that tracks errors
+         * always runs on one thread.
+         * 
+         * @param pipelined new pipelined setting
+         * @return this, for chaining
+         */
+        public ParseSettings pipelined(boolean pipelined) {
+            this.pipelined = pipelined;
+            return this;
+        }
+    }
+
     public static class OutputSettings implements Cloneable {
 
         private Entities.EscapeMode   escapeMode     = Entities.EscapeMode.base;
-        private Charset               charset        = Charset.forName("GBK");
+        private Charset               charset        = defaultCharset;
         private CharsetEncoder        charsetEncoder = charset.newEncoder();
         private boolean               prettyPrint    = true;
         private int                   indentAmount   = 1;                        ;
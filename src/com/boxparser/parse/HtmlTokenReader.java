@@ -0,0 +1,182 @@
+package com.boxparser.parse;
+
+import java.io.Reader;
+import java.util.List;
+
+import com.boxparser.html.nodes.Attribute;
+import com.boxparser.html.util.Validate;
+
+/**
+ * Pulls tokens from HTML one at a time, without building a tree: for jobs that only scan tags and attributes. It
+ * runs the same tokeniser as {@link HtmlParser}, and switches it into raw text for script, style, iframe and textarea
+ * content the same way the tree builder does, so the tokens are the ones the tree would be built from.
+ * <p>
+ * Tokens are not kept: the values of the current token are valid until the next call to {@link #next()}.
+ *
+ * <pre>
+ * HtmlTokenReader tokens = new HtmlTokenReader(html);
+ * while (tokens.next() != HtmlTokenReader.Event.EOF) {
+ *     if (tokens.event() == HtmlTokenReader.Event.StartTag &amp;&amp; tokens.tagName().equals(&quot;a&quot;)) ...
+ * }
+ * </pre>
+ */
+public class HtmlTokenReader {
+
+    public enum Event {
+        StartTag, EndTag, Text, Comment, Doctype, EOF
+    }
+
+    private final DataSourceTokeniser tokeniser;
+    private final ParseErrorList      errors;
+    private Event                     event;
+    private Token                     token;
+    private List<Attribute>           attributes; // the current tag's attributes, listed on first indexed access
+
+    public HtmlTokenReader(String html){
+        this(new CharacterReader(html));
+    }
+
+    /**
+     * Read from a Reader through a bounded window; the reader is not closed.
+     */
+    public HtmlTokenReader(Reader html){
+        this(new CharacterReader(html));
+    }
+
+    public HtmlTokenReader(CharacterReader input){
+        this(input, HtmlParser.ParseSettings.defaultParseSettings());
+    }
+
+    /**
+     * Read with the given settings, such as decoded character references. Parse errors are not collected.
+     */
+    public HtmlTokenReader(CharacterReader input, HtmlParser.ParseSettings settings){
+        this(input, settings, ParseErrorList.off());
+    }
+
+    /**
+     * Read with the given settings, collecting parse errors as the list's mode asks.
+     */
+    public HtmlTokenReader(CharacterReader input, HtmlParser.ParseSettings settings, ParseErrorList errors){
+        Validate.notNull(input);
+        Validate.notNull(settings);
+        Validate.notNull(errors);
+        this.errors = errors;
+        if (errors.isTracking()) errors.lines(input.lineIndex());
+        this.tokeniser = new DataSourceTokeniser(input, errors, settings);
+    }
+
+    /**
+     * Reads the next token. Once the input is used up, returns {@link Event#EOF} on every call.
+     *
+     * @return the type of token read
+     */
+    public Event next() {
+        if (event == Event.EOF) return event;
+
+        // no tree to tell the tokeniser an element is empty; nor is there anything to report
+        tokeniser.acknowledgeSelfClosingFlag();
+        token = tokeniser.read();
+        attributes = null;
+        switch (token.type) {
+            case StartTag:
+                event = Event.StartTag;
+                DataSourceTokeniserState rawText = DataSourceTokeniserState.rawTextStateFor(token.asStartTag().name());
+                if (rawText != null) tokeniser.transition(rawText);
+                break;
+            case EndTag:
+                event = Event.EndTag;
+                break;
+            case Character:
+                event = Event.Text;
+                break;
+            case Comment:
+                event = Event.Comment;
+                break;
+            case Doctype:
+                event = Event.Doctype;
+                break;
+            default:
+                event = Event.EOF;
+        }
+        return event;
+    }
+
+    /**
+     * @return the type of the current token, or null before the first call to {@link #next()}
+     */
+    public Event event() {
+        return event;
+    }
+
+    /**
+     * @return the lower case name of the current start or end tag
+     */
+    public String tagName() {
+        return tag().name();
+    }
+
+    /**
+     * @return if the current start tag closed itself, as {@code <br/>}
+     */
+    public boolean isSelfClosing() {
+        return tag().isSelfClosing();
+    }
+
+    public int attributeCount() {
+        return tag().getAttributes().size();
+    }
+
+    public String attributeName(int index) {
+        return attribute(index).getKey();
+    }
+
+    public String attributeValue(int index) {
+        return attribute(index).getValue();
+    }
+
+    /**
+     * Get an attribute's value by name.
+     *
+     * @return the value, or an empty string if the tag has no such attribute
+     */
+    public String attributeValue(String name) {
+        return tag().getAttributes().get(name);
+    }
+
+    /**
+     * The text of the current token: the characters of a text token, the content of a comment, or the whole of a
+     * doctype declaration.
+     */
+    public String text() {
+        switch (event) {
+            case Text:
+                return token.asCharacter().getData().toString();
+            case Comment:
+                return token.asComment().getData();
+            case Doctype:
+                return token.asDoctype().toString();
+            default:
+                throw new IllegalStateException("No text for a " + event + " token");
+        }
+    }
+
+    /**
+     * @return the parse errors found so far, as the list given asks; none, if no list was given
+     */
+    public ParseErrorList errors() {
+        return errors;
+    }
+
+    private Token.Tag tag() {
+        if (event != Event.StartTag && event != Event.EndTag) {
+            throw new IllegalStateException("Not a tag: " + event);
+        }
+        return (Token.Tag) token;
+    }
+
+    private Attribute attribute(int index) {
+        if (attributes == null) attributes = tag().getAttributes().asList();
+        return attributes.get(index);
+    }
+}
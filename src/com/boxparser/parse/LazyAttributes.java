@@ -0,0 +1,126 @@
+package com.boxparser.parse;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import com.boxparser.html.nodes.Attributes;
+
+/**
+ * A start tag's attributes, held as the source text between the tag name and the closing {@code >} until something
+ * reads or changes them. Then the source is run through the tokeniser's own attribute states, so the attributes come
+ * out exactly as they would have from an eager parse. Attributes that are never touched are written out as they were
+ * read, unless character references are decoded: then they are serialised as decoded, so are parsed to be written.
+ * <p>
+ * The first read parses them once, under a lock, and publishes them whole, so threads reading one built document see
+ * the same attributes as an eager parse would give them.
+ */
+final class LazyAttributes extends Attributes {
+
+    private static final long serialVersionUID = 1L;
+
+    private volatile CharSequence source;          // null once materialised, after the attributes are in place
+    private final boolean     selfClosing;          // source ends with the '/' of a self closing tag
+    private final boolean     verbatim;             // can be written as read: values are not decoded
+    private transient HtmlParser.ParseSettings settings; // as the tag was read with; only needed until materialised
+
+    LazyAttributes(CharSequence source, boolean selfClosing, HtmlParser.ParseSettings settings){
+        this.source = source;
+        this.selfClosing = selfClosing;
+        this.verbatim = !settings.decodeEntities();
+        this.settings = settings;
+    }
+
+    @Override
+    protected void materialise() {
+        if (source == null) return;
+        synchronized (this) {
+            if (source == null) return; // another thread got here first
+            String html = source.toString() + '>';
+            Attributes parsed = new Attributes();
+            DataSourceTokeniser t = new DataSourceTokeniser(new CharacterReader(html, false), ParseErrorList.off(),
+                                                            settings);
+            t.createTagPending(true).name("lazy").attributes = parsed;
+            t.transition(DataSourceTokeniserState.BeforeAttributeName);
+            t.read();
+            adopt(parsed);
+            settings = null;
+            source = null; // publishes the attributes to threads that see it null
+        }
+    }
+
+    @Override
+    protected boolean verbatimHtml(StringBuilder accum) {
+        CharSequence source = this.source;
+        if (source == null || !verbatim) return false;
+        int start = 0;
+        int end = source.length() - (selfClosing ? 1 : 0);
+        while (start < end && isWhitespace(source.charAt(start)))
+            start++;
+        while (end > start && isWhitespace(source.charAt(end - 1)))
+            end--;
+        if (start < end) accum.append(' ').append(source, start, end);
+        return true;
+    }
+
+    /**
+     * Scans the source of an attribute section, as the attribute states would, to find if the tag closes itself: if
+     * its last char is a '/' that is not part of a value.
+     */
+    static boolean isSelfClosing(CharSequence source) {
+        int state = beforeName;
+        for (int i = 0, len = source.length(); i < len; i++) {
+            char c = source.charAt(i);
+            boolean space = isWhitespace(c);
+            switch (state) {
+                case beforeName:
+                    if (c == '/') state = slash;
+                    else if (!space) state = name;
+                    break;
+                case name:
+                    if (space) state = afterName;
+                    else if (c == '/') state = slash;
+                    else if (c == '=') state = beforeValue;
+                    break;
+                case afterName:
+                    if (c == '/') state = slash;
+                    else if (c == '=') state = beforeValue;
+                    else if (!space) state = name;
+                    break;
+                case beforeValue:
+                    if (c == '"') state = doubleQuoted;
+                    else if (c == '\'') state = singleQuoted;
+                    else if (!space) state = unquoted;
+                    break;
+                case doubleQuoted:
+                    if (c == '"') state = afterQuoted;
+                    break;
+                case singleQuoted:
+                    if (c == '\'') state = afterQuoted;
+                    break;
+                case unquoted:
+                    if (space) state = beforeName;
+                    break;
+                case afterQuoted:
+                    if (c == '/') state = slash;
+                    else if (space) state = beforeName;
+                    else state = name;
+                    break;
+                default: // slash, followed by something other than '>': the char is dropped
+                    state = beforeName;
+            }
+        }
+        return state == slash;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == '\t' || c == '\n' || c == '\f' || c == ' ';
+    }
+
+    private static final int beforeName = 0, name = 1, afterName = 2, beforeValue = 3, doubleQuoted = 4,
+            singleQuoted = 5, unquoted = 6, afterQuoted = 7, slash = 8;
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        materialise(); // never serialise a view of the input
+        out.defaultWriteObject();
+    }
+}
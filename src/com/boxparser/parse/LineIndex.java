@@ -0,0 +1,96 @@
+package com.boxparser.parse;
+
+import java.util.Arrays;
+
+/**
+ * Resolves source offsets, such as a parse error's position or a node's source start, to lines and columns. Holds the
+ * offset each line starts at, and finds a line by binary search. A line ends at {@code \n}, {@code \r\n} or a lone
+ * {@code \r}.
+ * <p>
+ * Over String input the line starts are found the first time a line is asked for, once, under a lock, so that threads
+ * reading a built document's positions share one table; over a Reader they are noted as each window is read, as the
+ * input is not kept.
+ */
+public final class LineIndex {
+
+    private volatile String input;         // scanned for line starts on first lookup; null once scanned
+    private int[]  starts = new int[16];   // starts[0] is always 0
+    private int    count  = 1;
+
+    /**
+     * An index over the given input, built on first use.
+     */
+    public LineIndex(String input){
+        this.input = input;
+    }
+
+    /**
+     * An index that is told each line start as input is read.
+     */
+    LineIndex(){
+    }
+
+    /**
+     * @param pos source offset
+     * @return the line the offset is on, from 1
+     */
+    public int line(int pos) {
+        return lineIndex(pos) + 1;
+    }
+
+    /**
+     * @param pos source offset
+     * @return the offset's column within its line, from 1
+     */
+    public int column(int pos) {
+        return pos - starts[lineIndex(pos)] + 1;
+    }
+
+    /**
+     * @return the number of lines seen
+     */
+    public int lineCount() {
+        scan();
+        return count;
+    }
+
+    private int lineIndex(int pos) {
+        scan();
+        // the last line start at or before pos
+        int lo = 0, hi = count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (starts[mid] <= pos) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    private void scan() {
+        if (input == null) return;
+        synchronized (this) {
+            String in = input;
+            if (in == null) return; // another thread got here first
+            int[] table = new int[16];
+            int lines = 1;
+            for (int i = 0, len = in.length(); i < len; i++) {
+                char c = in.charAt(i);
+                if (c == '\n' || (c == '\r' && (i + 1 == len || in.charAt(i + 1) != '\n'))) {
+                    if (lines == table.length) table = Arrays.copyOf(table, lines * 2);
+                    table[lines++] = i + 1;
+                }
+            }
+            starts = table;
+            count = lines;
+            input = null; // publishes the table to threads that see it null
+        }
+    }
+
+    /**
+     * Notes a line starting at the source offset, which must be after every one noted so far.
+     */
+    void add(int lineStart) {
+        if (count == starts.length) starts = Arrays.copyOf(starts, count * 2);
+        starts[count++] = lineStart;
+    }
+}
@@ -6,6 +6,9 @@ package com.boxparser.parse;
 public class ParseError {
     private int pos;
     private String errorMsg;
+    private String errorFormat; // until the message is asked for
+    private Object[] args;
+    private LineIndex lines;    // to resolve pos, if known
 
     ParseError(int pos, String errorMsg) {
         this.pos = pos;
@@ -13,7 +16,8 @@ public class ParseError {
     }
 
     ParseError(int pos, String errorFormat, Object... args) {
-        this.errorMsg = String.format(errorFormat, args);
+        this.errorFormat = errorFormat;
+        this.args = args;
         this.pos = pos;
     }
 
@@ -22,6 +26,11 @@ public class ParseError {
      * @return the error message.
      */
     public String getErrorMessage() {
+        if (errorMsg == null) {
+            errorMsg = String.format(errorFormat, args);
+            errorFormat = null;
+            args = null;
+        }
         return errorMsg;
     }
 
@@ -33,8 +42,29 @@ public class ParseError {
         return pos;
     }
 
+    /**
+     * Retrieves the line of the error.
+     * @return line within input, from 1; or -1 if the input's lines are not known
+     */
+    public int getLine() {
+        return lines != null ? lines.line(pos) : -1;
+    }
+
+    /**
+     * Retrieves the column of the error.
+     * @return column within its line, from 1; or -1 if the input's lines are not known
+     */
+    public int getColumn() {
+        return lines != null ? lines.column(pos) : -1;
+    }
+
+    ParseError lines(LineIndex lines) {
+        this.lines = lines;
+        return this;
+    }
+
     @Override
     public String toString() {
-        return pos + ": " + errorMsg;
+        return pos + ": " + getErrorMessage();
     }
 }
@@ -0,0 +1,140 @@
+package com.boxparser.parse;
+
+import java.util.AbstractList;
+
+import com.boxparser.html.util.Validate;
+
+/**
+ * The parse errors found in a document, kept as the {@link ErrorMode} asks. Each error is held as its position, its
+ * message format and up to two arguments, and only formatted when it is read, so a messy page with thousands of errors
+ * costs little more than an array entry each.
+ * <p>
+ * As a list, holds the errors kept; {@link #count()} is the number found, which is more once a capped list is full,
+ * or in count mode.
+ */
+public class ParseErrorList extends AbstractList<ParseError> {
+
+    public enum ErrorMode {
+        /** Errors are not tracked at all. */
+        Off,
+        /** Errors are only counted. */
+        Count,
+        /** The first few errors are kept, and all are counted. */
+        Capped,
+        /** Every error is kept. */
+        Full
+    }
+
+    private static final int initialCapacity = 16;
+
+    private final ErrorMode  mode;
+    private final int        maxSize;
+    private int              count;
+    private int              size;
+    private int[]            positions   = new int[0];
+    private String[]         formats     = new String[0];
+    private Object[]         args        = new Object[0]; // two per error
+    private LineIndex        lines;                       // the input's, once parsing starts
+
+    private ParseErrorList(ErrorMode mode, int maxSize){
+        this.mode = mode;
+        this.maxSize = maxSize;
+    }
+
+    public static ParseErrorList off() {
+        return new ParseErrorList(ErrorMode.Off, 0);
+    }
+
+    public static ParseErrorList counting() {
+        return new ParseErrorList(ErrorMode.Count, 0);
+    }
+
+    /**
+     * @param maxSize the most errors to keep
+     */
+    public static ParseErrorList capped(int maxSize) {
+        Validate.isTrue(maxSize > 0, "A capped list must keep at least one error");
+        return new ParseErrorList(ErrorMode.Capped, maxSize);
+    }
+
+    public static ParseErrorList full() {
+        return new ParseErrorList(ErrorMode.Full, Integer.MAX_VALUE);
+    }
+
+    public ErrorMode mode() {
+        return mode;
+    }
+
+    /**
+     * @return the number of errors found, kept or not
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * If errors are tracked at all: callers check this before working out an error's position and arguments.
+     */
+    boolean isTracking() {
+        return mode != ErrorMode.Off;
+    }
+
+    /**
+     * Sets the lines of the input the errors are found in, so that errors can tell their line and column.
+     */
+    void lines(LineIndex lines) {
+        this.lines = lines;
+    }
+
+    void add(int pos, String format) {
+        add(pos, format, null, null);
+    }
+
+    void add(int pos, String format, Object arg) {
+        add(pos, format, arg, null);
+    }
+
+    void add(int pos, String format, Object arg1, Object arg2) {
+        if (mode == ErrorMode.Off) return;
+        count++;
+        if (size >= maxSize) return; // also the case in count mode, where maxSize is 0
+
+        if (size == positions.length) grow();
+        positions[size] = pos;
+        formats[size] = format;
+        args[size * 2] = arg1;
+        args[size * 2 + 1] = arg2;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = Math.max(initialCapacity, size * 2);
+        if (capacity > maxSize) capacity = maxSize;
+        int[] newPositions = new int[capacity];
+        String[] newFormats = new String[capacity];
+        Object[] newArgs = new Object[capacity * 2];
+        System.arraycopy(positions, 0, newPositions, 0, size);
+        System.arraycopy(formats, 0, newFormats, 0, size);
+        System.arraycopy(args, 0, newArgs, 0, size * 2);
+        positions = newPositions;
+        formats = newFormats;
+        args = newArgs;
+    }
+
+    @Override
+    public ParseError get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        Object arg1 = args[index * 2];
+        Object arg2 = args[index * 2 + 1];
+        ParseError error;
+        if (arg1 == null) error = new ParseError(positions[index], formats[index]);
+        else if (arg2 == null) error = new ParseError(positions[index], formats[index], arg1);
+        else error = new ParseError(positions[index], formats[index], arg1, arg2);
+        return error.lines(lines);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,95 @@
+package com.boxparser.parse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A set of the tag names the tree builder tests open elements against, as a bitset over small ids. The tree builder
+ * keeps each open element's id beside it, so asking whether an element is special, or bounds a scope, is a bit test
+ * rather than a string search through the names.
+ * <p>
+ * Ids are given out to the names of the sets here, as the class is initialised, and are fixed after: any other name
+ * has id 0, which no set holds.
+ */
+final class TagSet {
+
+    private static final Map<String, Integer> ids = new HashMap<String, Integer>();
+
+    static final TagSet special = of("address", "applet", "area", "article", "aside", "base", "basefont", "bgsound",
+                                     "blockquote", "body", "br", "button", "caption", "center", "col", "colgroup",
+                                     "command", "dd", "details", "dir", "div", "dl", "dt", "embed", "fieldset",
+                                     "figcaption", "figure", "footer", "form", "frame", "frameset", "h1", "h2", "h3",
+                                     "h4", "h5", "h6", "head", "header", "hgroup", "hr", "html", "iframe", "img",
+                                     "input", "isindex", "li", "link", "listing", "marquee", "menu", "meta", "nav",
+                                     "noembed", "noframes", "noscript", "object", "ol", "p", "param", "plaintext",
+                                     "pre", "script", "section", "select", "style", "summary", "table", "tbody", "td",
+                                     "textarea", "tfoot", "th", "thead", "title", "tr", "ul", "wbr", "xmp");
+
+    // where the search for an open li, dd or dt gives up
+    static final TagSet listItemBoundaries = special.minus("address", "div", "p");
+
+    static final TagSet defaultScope = of("applet", "caption", "html", "table", "td", "th", "marquee", "object");
+    static final TagSet buttonScope  = defaultScope.plus("button");
+    static final TagSet tableScope   = of("html", "table");
+    static final TagSet rowScope     = of("tbody", "table");
+
+    static final TagSet listItem       = of("li");
+    static final TagSet definitions    = of("dd", "dt");
+    static final TagSet headings       = of("h1", "h2", "h3", "h4", "h5", "h6");
+    static final TagSet impliedEndTags = of("dd", "dt", "li", "option", "optgroup", "p", "rp", "rt");
+
+    private final long[] bits;
+
+    private TagSet(long[] bits){
+        this.bits = bits;
+    }
+
+    /**
+     * @return the name's id, or 0 if no set holds it
+     */
+    static int id(String name) {
+        Integer id = ids.get(name);
+        return id == null ? 0 : id;
+    }
+
+    boolean contains(int id) {
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    boolean contains(String name) {
+        return contains(id(name));
+    }
+
+    private static TagSet of(String... names) {
+        long[] bits = new long[0];
+        for (String name : names) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = ids.size() + 1;
+                ids.put(name, id);
+            }
+            int word = id >>> 6;
+            if (word >= bits.length) bits = Arrays.copyOf(bits, word + 1);
+            bits[word] |= 1L << id;
+        }
+        return new TagSet(bits);
+    }
+
+    private TagSet plus(String... names) {
+        long[] more = of(names).bits;
+        long[] sum = Arrays.copyOf(bits, Math.max(bits.length, more.length));
+        for (int i = 0; i < more.length; i++)
+            sum[i] |= more[i];
+        return new TagSet(sum);
+    }
+
+    private TagSet minus(String... names) {
+        long[] less = of(names).bits;
+        long[] difference = bits.clone();
+        for (int i = 0; i < Math.min(less.length, difference.length); i++)
+            difference[i] &= ~less[i];
+        return new TagSet(difference);
+    }
+}
@@ -7,6 +7,7 @@ import com.boxparser.html.util.Validate;
 abstract class Token {
 
     TokenType type;
+    int       sourceStart, sourceEnd; // the token's source range, when the parse tracks positions
 
     private Token(){
     }
@@ -15,6 +16,12 @@ abstract class Token {
         return this.getClass().getSimpleName();
     }
 
+    /**
+     * Clears the token for reuse. The tokeniser keeps one instance of each token type and resets it for each token
+     * it emits, so a token is only valid until the next read: the tree builder copies out what it keeps.
+     */
+    abstract Token reset();
+
     static class Doctype extends Token {
 
         final StringBuilder name             = new StringBuilder();
@@ -26,6 +33,15 @@ abstract class Token {
             type = TokenType.Doctype;
         }
 
+        @Override
+        Doctype reset() {
+            name.setLength(0);
+            publicIdentifier.setLength(0);
+            systemIdentifier.setLength(0);
+            forceQuirks = false;
+            return this;
+        }
+
         String getName() {
             return name.toString();
         }
@@ -57,18 +73,30 @@ abstract class Token {
 
         protected String tagName;
         private String   pendingAttributeName;
-        private String   pendingAttributeValue;
+        private CharSequence pendingAttributeValue;
         private int  pendingAttributeChar = 0;
 
         boolean          selfClosing = false;
-        Attributes       attributes  = new Attributes(); // todo: allow nodes to not
+        Attributes       attributes;  // a start tag's made on its first attribute, or as it is finalised, if not set
 
-        // have attributes
+        @Override
+        Tag reset() {
+            tagName = null;
+            pendingAttributeName = null;
+            pendingAttributeValue = null;
+            pendingAttributeChar = 0;
+            selfClosing = false;
+            // a start tag's attributes go to its element, so each start tag gets its own, unless it is given lazy ones
+            if (type == TokenType.StartTag) attributes = null;
+            else if (attributes.size() > 0) attributes = new Attributes();
+            return this;
+        }
 
         void newAttribute() {
             if (pendingAttributeName != null) {
                 if (pendingAttributeValue == null) pendingAttributeValue = "";
                 Attribute attribute = new Attribute(pendingAttributeName, pendingAttributeValue, (char)pendingAttributeChar);
+                if (attributes == null) attributes = new Attributes();
                 attributes.put(attribute);
             }
             pendingAttributeName = null;
@@ -82,6 +110,7 @@ abstract class Token {
                 // todo: check if attribute name exists; if so, drop and error
                 newAttribute();
             }
+            if (attributes == null) attributes = new Attributes();
         }
 
         String name() {
@@ -121,8 +150,15 @@ abstract class Token {
             appendAttributeName(String.valueOf(append));
         }
 
-        void appendAttributeValue(String append) {
-            pendingAttributeValue = pendingAttributeValue == null ? append : pendingAttributeValue.concat(append);
+        void appendAttributeValue(CharSequence append) {
+            if (pendingAttributeValue == null) {
+                pendingAttributeValue = append;
+            } else {
+                StringBuilder value = new StringBuilder(pendingAttributeValue.length() + append.length());
+                CharSpan.append(value, pendingAttributeValue);
+                CharSpan.append(value, append);
+                pendingAttributeValue = value.toString();
+            }
         }
        
         void setBeforeAttributeChar(char pendingAttributeChar){
@@ -132,6 +168,10 @@ abstract class Token {
         void appendAttributeValue(char append) {
             appendAttributeValue(String.valueOf(append));
         }
+
+        void appendAttributeCodePoint(int codePoint) {
+            appendAttributeValue(new String(java.lang.Character.toChars(codePoint)));
+        }
     }
 
     static class StartTag extends Tag {
@@ -142,8 +182,7 @@ abstract class Token {
         }
 
         StartTag(String name){
-            this();
-            this.tagName = name;
+            this(name, new Attributes());
         }
 
         StartTag(String name, Attributes attributes){
@@ -163,6 +202,7 @@ abstract class Token {
         EndTag(){
             super();
             type = TokenType.EndTag;
+            attributes = new Attributes();
         }
 
         EndTag(String name){
@@ -184,6 +224,12 @@ abstract class Token {
             type = TokenType.Comment;
         }
 
+        @Override
+        Comment reset() {
+            data.setLength(0);
+            return this;
+        }
+
         String getData() {
             return data.toString();
         }
@@ -196,20 +242,33 @@ abstract class Token {
 
     static class Character extends Token {
 
-        private final String data;
+        private CharSequence data;
 
-        Character(String data){
+        Character(){
             type = TokenType.Character;
+        }
+
+        @Override
+        Character reset() {
+            data = null;
+            return this;
+        }
+
+        Character data(CharSequence data) {
             this.data = data;
+            return this;
         }
 
-        String getData() {
+        /**
+         * The characters, which may be a {@link CharSpan} view of the input: only call toString if a copy is needed.
+         */
+        CharSequence getData() {
             return data;
         }
 
         @Override
         public String toString() {
-            return getData();
+            return data.toString();
         }
     }
 
@@ -218,6 +277,11 @@ abstract class Token {
         EOF(){
             type = Token.TokenType.EOF;
         }
+
+        @Override
+        EOF reset() {
+            return this;
+        }
     }
 
     boolean isDoctype() {
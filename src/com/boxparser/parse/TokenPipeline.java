@@ -0,0 +1,244 @@
+package com.boxparser.parse;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.boxparser.html.nodes.Attributes;
+
+/**
+ * Runs a tokeniser on a thread of its own, filling batches of tokens ahead of the tree builder, which drains them on
+ * the parsing thread. The two meet at a ring of batches with one writer and one reader: the tokeniser publishes a
+ * batch by a volatile count of those filled, and the builder hands it back by a count of those drained, so neither
+ * takes a lock. A side that finds the ring full, or empty, parks until the other moves on.
+ * <p>
+ * The tree builder switches the tokeniser to raw text after a script, style, iframe or textarea start tag; here it
+ * cannot, as the tokeniser has read on. So the tokeniser makes the switch itself, on the same tags, and the builder
+ * only checks that it did (see {@link TreeBuilder#transitionTokeniser}).
+ */
+final class TokenPipeline implements Runnable {
+
+    private static final int  slots = 8; // a power of two
+    private static final long park  = 50000; // nanoseconds to park before looking again
+
+    private final DataSourceTokeniser tokeniser;
+    private final Batch[]        ring = new Batch[slots];
+    private final Thread              builder;
+    private Thread                    worker;
+
+    private volatile long      filled;   // batches filled by the tokeniser
+    private volatile long      drained;  // batches handed back by the builder
+    private volatile Throwable failure;  // thrown on the tokeniser's thread
+    private volatile boolean   cancelled; // the builder has stopped
+
+    TokenPipeline(DataSourceTokeniser tokeniser){
+        this.tokeniser = tokeniser;
+        for (int i = 0; i < slots; i++)
+            ring[i] = new Batch();
+        builder = Thread.currentThread();
+    }
+
+    void start() {
+        worker = new Thread(this, "boxparser-tokeniser");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Fills batches until the end of input, or until the builder stops.
+     */
+    public void run() {
+        try {
+            long n = 0;
+            Batch batch;
+            do {
+                while (n - drained == slots && !cancelled)
+                    LockSupport.parkNanos(this, park);
+                if (cancelled) return;
+                batch = ring[(int) n & (slots - 1)];
+                tokeniser.readAhead(batch);
+                filled = ++n;
+                LockSupport.unpark(builder);
+            } while (!batch.endsInput());
+        } catch (Throwable e) {
+            failure = e;
+            LockSupport.unpark(builder);
+        }
+    }
+
+    /**
+     * @return the next filled batch, waiting for the tokeniser if need be; hand it back with {@link #release()}
+     */
+    Batch next() {
+        long n = drained;
+        while (filled == n) {
+            Throwable e = failure;
+            if (e != null) {
+                if (e instanceof Error) throw (Error) e;
+                throw (RuntimeException) e; // the tokeniser throws nothing checked
+            }
+            LockSupport.parkNanos(this, park);
+        }
+        return ring[(int) n & (slots - 1)];
+    }
+
+    /**
+     * Hands the batch from {@link #next()} back to the tokeniser to fill again.
+     */
+    void release() {
+        drained = drained + 1; // only the builder writes it
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Stops the tokeniser, if it is still reading, when the builder has stopped early.
+     */
+    void cancel() {
+        cancelled = true;
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * A run of tokens read ahead by the tokeniser on the pipeline's thread, for the tree builder to drain on its own.
+     * Each token is an event of three ints, its type code and source range, with what it carries beside it: a tag's
+     * name and attributes, a run of text, a comment's data. The tokeniser's tokens are reused from one read to the
+     * next, so what a token carries is copied out as the batch is filled, and put back into the batch's own tokens as
+     * it is drained.
+     */
+    static final class Batch {
+
+        static final int capacity = 256;
+
+        // event type codes
+        static final int startTag    = 0;
+        static final int endTag      = 1;
+        static final int character   = 2;
+        static final int comment     = 3;
+        static final int doctype     = 4;
+        static final int eof         = 5;
+        static final int selfClosing = 8; // or'd into a start tag's code
+
+        private static final int stride = 3; // code, source start, source end
+
+        private final int[]        events;
+        private final Object[]     values;     // a tag's name, text, a comment's data, or a copy of a doctype
+        private final Attributes[] attributes; // a start tag's attributes
+        private int                size;
+
+        // one of each token, filled from an event as the batch is drained
+        private final Token.StartTag start = new Token.StartTag();
+        private final Token.EndTag   end   = new Token.EndTag();
+        private final Token.Character text = new Token.Character();
+        private final Token.Comment  note  = new Token.Comment();
+        private final Token.EOF      last  = new Token.EOF();
+
+        Batch(){
+            events = new int[capacity * stride];
+            values = new Object[capacity];
+            attributes = new Attributes[capacity];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isFull() {
+            return size == capacity;
+        }
+
+        /**
+         * @return true if the batch's last token ends the input
+         */
+        boolean endsInput() {
+            return size > 0 && events[(size - 1) * stride] == eof;
+        }
+
+        /**
+         * Copies out the token, which is only valid until the tokeniser's next read.
+         */
+        void add(Token token) {
+            int code;
+            switch (token.type) {
+                case StartTag:
+                    Token.StartTag tag = token.asStartTag();
+                    code = tag.selfClosing ? startTag | selfClosing : startTag;
+                    values[size] = tag.tagName;
+                    attributes[size] = tag.attributes;
+                    break;
+                case EndTag:
+                    code = endTag;
+                    values[size] = token.asEndTag().tagName;
+                    break;
+                case Character:
+                    code = character;
+                    values[size] = token.asCharacter().getData();
+                    break;
+                case Comment:
+                    code = comment;
+                    values[size] = token.asComment().getData();
+                    break;
+                case Doctype:
+                    code = doctype;
+                    values[size] = copy(token.asDoctype());
+                    break;
+                default:
+                    code = eof;
+            }
+            int event = size * stride;
+            events[event] = code;
+            events[event + 1] = token.sourceStart;
+            events[event + 2] = token.sourceEnd;
+            size++;
+        }
+
+        /**
+         * @return the token at the index, valid until the next call
+         */
+        Token token(int index) {
+            int event = index * stride;
+            int code = events[event];
+            Token token;
+            switch (code & ~selfClosing) {
+                case startTag:
+                    start.tagName = (String) values[index];
+                    start.attributes = attributes[index];
+                    start.selfClosing = (code & selfClosing) != 0;
+                    token = start;
+                    break;
+                case endTag:
+                    end.tagName = (String) values[index];
+                    token = end;
+                    break;
+                case character:
+                    token = text.data((CharSequence) values[index]);
+                    break;
+                case comment:
+                    note.reset().data.append((String) values[index]);
+                    token = note;
+                    break;
+                case doctype:
+                    token = (Token.Doctype) values[index];
+                    break;
+                default:
+                    token = last;
+            }
+            token.sourceStart = events[event + 1];
+            token.sourceEnd = events[event + 2];
+            return token;
+        }
+
+        /**
+         * A doctype is rare enough to copy whole, where the tokeniser's is reused.
+         */
+        private static Token.Doctype copy(Token.Doctype doctype) {
+            Token.Doctype copy = new Token.Doctype();
+            copy.name.append(doctype.name);
+            copy.publicIdentifier.append(doctype.publicIdentifier);
+            copy.systemIdentifier.append(doctype.systemIdentifier);
+            copy.forceQuirks = doctype.forceQuirks;
+            return copy;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.boxparser.parse;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.LinkedList;
-import java.util.List;
 
 import com.boxparser.html.nodes.Document;
 import com.boxparser.html.nodes.Element;
@@ -14,23 +13,46 @@ public abstract class TreeBuilder {
 
     CharacterReader               reader;
     DataSourceTokeniser           tokeniser;
-    protected LinkedList<Element> stack;
+    protected Element[]           stack;        // the open elements, the current one last; null in a builder
+                                                // that keeps names alone
+    protected String[]            stackNames;   // names of the open elements, in step with the stack
+    private int[]                 stackIds;     // the names' TagSet ids, for scope tests
+    private int                   stackSize;
     protected Token               currentToken;
-    protected List<ParseError>    errors;
+    protected ParseErrorList      errors;
+    protected HtmlParser.ParseSettings settings = HtmlParser.ParseSettings.defaultParseSettings();
+    private TokenPipeline         pipeline;     // the tokeniser's thread, when pipelined
 
-    protected void initialiseParse(String input, List<ParseError> errors) {
-        Validate.notNull(input, "String input must not be null");
+    protected void initialiseParse(CharacterReader input, ParseErrorList errors) {
+        Validate.notNull(input, "Input must not be null");
 
-        reader = new CharacterReader(input);
-        tokeniser = new DataSourceTokeniser(reader, errors);
-        stack = new LinkedList<Element>();
+        reader = input;
+        tokeniser = new DataSourceTokeniser(reader, errors, settings);
+        stack = new Element[32];
+        stackNames = new String[32];
+        stackIds = new int[32];
+        stackSize = 0;
 
         this.errors = errors;
     }
 
-    abstract Document parse(String input, List<ParseError> errors);
+    void settings(HtmlParser.ParseSettings settings) {
+        Validate.notNull(settings);
+        this.settings = settings;
+    }
+
+    Document parse(String input, ParseErrorList errors) {
+        Validate.notNull(input, "String input must not be null");
+        return parse(new CharacterReader(input), errors);
+    }
+
+    abstract Document parse(CharacterReader input, ParseErrorList errors);
 
     protected void runParser() {
+        if (settings.pipelined() && !errors.isTracking()) {
+            runPipelined();
+            return;
+        }
         while (true) {
             Token token = tokeniser.read();
             process(token);
@@ -39,60 +61,162 @@ public abstract class TreeBuilder {
         }
     }
 
+    /**
+     * Drains batches filled by the tokeniser on its own thread.
+     */
+    private void runPipelined() {
+        pipeline = new TokenPipeline(tokeniser);
+        pipeline.start();
+        try {
+            boolean end;
+            do {
+                TokenPipeline.Batch batch = pipeline.next();
+                for (int i = 0, size = batch.size(); i < size; i++)
+                    process(batch.token(i));
+                end = batch.endsInput();
+                pipeline.release();
+            } while (!end);
+        } finally {
+            pipeline.cancel();
+            pipeline = null;
+        }
+    }
+
+    /**
+     * Switches the tokeniser into a raw text state. When pipelined, the tokeniser has made the switch already, as
+     * the builder only does so on the tags it speculates on.
+     */
+    void transitionTokeniser(DataSourceTokeniserState state) {
+        if (pipeline == null) tokeniser.transition(state);
+        else Validate.isTrue(state == DataSourceTokeniserState.rawTextStateFor(currentToken.asStartTag().name()),
+                             "Tokeniser did not switch to " + state);
+    }
+
+    /**
+     * When pipelined, errors are off and the tokeniser does not wait to be told.
+     */
+    void acknowledgeSelfClosingFlag() {
+        if (pipeline == null) tokeniser.acknowledgeSelfClosingFlag();
+    }
+
     protected abstract boolean process(Token token);
 
     protected Node currentElement() {
-        return stack.getLast();
+        return stack[stackSize - 1];
     }
 
     Node pop() {
-        return stack.pollLast();
+        if (stackSize == 0) return null;
+        stackSize--;
+        Element el = stack[stackSize];
+        stack[stackSize] = null;
+        stackNames[stackSize] = null;
+        return el;
     }
 
     void push(Element element) {
-        stack.add(element);
+        push(element, element.nodeName());
+    }
+
+    /**
+     * Opens an element by name alone, for a builder that does not build the tree.
+     */
+    void push(String name) {
+        push(null, name);
+    }
+
+    private void push(Element element, String name) {
+        if (stackSize == stackNames.length) {
+            int capacity = stackSize * 2;
+            stack = Arrays.copyOf(stack, capacity);
+            stackNames = Arrays.copyOf(stackNames, capacity);
+            stackIds = Arrays.copyOf(stackIds, capacity);
+        }
+        stack[stackSize] = element;
+        stackNames[stackSize] = name;
+        stackIds[stackSize] = TagSet.id(name);
+        stackSize++;
+    }
+
+    /**
+     * The states only look at open elements by name, or by the name's id, so that a builder can keep names alone.
+     */
+    String currentElementName() {
+        return stackNames[stackSize - 1];
+    }
+
+    int currentElementId() {
+        return stackIds[stackSize - 1];
+    }
+
+    int stackSize() {
+        return stackSize;
+    }
+
+    /**
+     * @param index from 0, the root, to {@code stackSize() - 1}, the current element
+     */
+    String stackName(int index) {
+        return stackNames[index];
     }
 
+    /**
+     * @param index as for {@link #stackName(int)}
+     * @return the name's {@link TagSet} id
+     */
+    int stackId(int index) {
+        return stackIds[index];
+    }
+
+    /**
+     * Pops elements up to and including the nearest open one with the given name.
+     */
+    void popStackToClose(String elName) {
+        for (int i = stackSize - 1; i >= 0; i--) {
+            String name = stackNames[i];
+            pop();
+            if (name.equals(elName)) break;
+        }
+    }
+
+    /**
+     * @return a copy of the open elements, the current one last
+     */
     public LinkedList<Element> getStack() {
-        return stack;
+        return new LinkedList<Element>(Arrays.asList(stack).subList(0, stackSize));
     }
 
     public boolean isSpecial(Element el) {
-        String name = el.nodeName();
-        return StringUtil.in(name, "address", "applet", "area", "article", "aside", "base", "basefont", "bgsound",
-                             "blockquote", "body", "br", "button", "caption", "center", "col", "colgroup", "command",
-                             "dd", "details", "dir", "div", "dl", "dt", "embed", "fieldset", "figcaption", "figure",
-                             "footer", "form", "frame", "frameset", "h1", "h2", "h3", "h4", "h5", "h6", "head",
-                             "header", "hgroup", "hr", "html", "iframe", "img", "input", "isindex", "li", "link",
-                             "listing", "marquee", "menu", "meta", "nav", "noembed", "noframes", "noscript", "object",
-                             "ol", "p", "param", "plaintext", "pre", "script", "section", "select", "style", "summary",
-                             "table", "tbody", "td", "textarea", "tfoot", "th", "thead", "title", "tr", "ul", "wbr",
-                             "xmp");
+        return isSpecial(el.nodeName());
     }
 
-    public boolean inScope(String targetName, String[] extras) {
-        return inSpecificScope(targetName, new String[] { "applet", "caption", "html", "table", "td", "th", "marquee",
-                "object" }, extras);
+    boolean isSpecial(String name) {
+        return TagSet.special.contains(name);
     }
 
-    private boolean inSpecificScope(String targetName, String[] baseTypes, String[] extraTypes) {
-        return inSpecificScope(new String[] { targetName }, baseTypes, extraTypes);
+    public boolean inScope(String targetName, String[] extras) {
+        for (int i = stackSize - 1; i >= 0; i--) {
+            String elName = stackNames[i];
+            if (elName.equals(targetName)) return true;
+            if (TagSet.defaultScope.contains(stackIds[i])) return false;
+            if (extras != null && StringUtil.in(elName, extras)) return false;
+        }
+        return false;
     }
 
-    private boolean inSpecificScope(String[] targetNames, String[] baseTypes, String[] extraTypes) {
-        Iterator<Element> it = stack.descendingIterator();
-        while (it.hasNext()) {
-            Element el = it.next();
-            String elName = el.nodeName();
-            if (StringUtil.in(elName, targetNames)) return true;
-            if (StringUtil.in(elName, baseTypes)) return false;
-            if (extraTypes != null && StringUtil.in(elName, extraTypes)) return false;
+    /**
+     * @return if an element with the target name is open, and no element of the scope is open above it
+     */
+    boolean inScope(String targetName, TagSet scope) {
+        int targetId = TagSet.id(targetName);
+        for (int i = stackSize - 1; i >= 0; i--) {
+            if (targetId != 0 ? stackIds[i] == targetId : stackNames[i].equals(targetName)) return true;
+            if (scope.contains(stackIds[i])) return false;
         }
-//        Validate.fail("Should not be reachable");
         return false;
     }
 
     boolean inTableScope(String targetName) {
-        return inSpecificScope(targetName, new String[] { "html", "table" }, null);
+        return inScope(targetName, TagSet.tableScope);
     }
 }
@@ -0,0 +1,80 @@
+package com.boxparser.html.nodes;
+
+import java.nio.charset.Charset;
+
+import com.boxparser.parse.HtmlParser;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Character references past U+FFFF, and out of range: {@link Entities#unescape} decodes a reference to the code point
+ * it names, as a surrogate pair where it takes two chars, and leaves one past U+10FFFF as written; escaping takes a
+ * surrogate pair as the one char it encodes. Also checks the same references read by the tokeniser, which decodes an
+ * out of range one to U+FFFD as the spec does.
+ * <p>
+ * Run with {@code java com.boxparser.html.nodes.EntitiesTest}.
+ */
+public class EntitiesTest {
+
+    private static final String grinning = "\uD83D\uDE00"; // U+1F600
+    private static final String frakturA = "\uD835\uDD04"; // U+1D504, &Afr;
+
+    public static void main(String[] args) {
+        unescapeAstral();
+        unescapeOutOfRange();
+        unescapeUnchanged();
+        escapeAstral();
+        parse();
+        System.out.println("EntitiesTest: ok");
+    }
+
+    private static void unescapeAstral() {
+        Check.equal(grinning, Entities.unescape("&#x1F600;"), "hex");
+        Check.equal(grinning, Entities.unescape("&#X1f600;"), "hex, upper case x");
+        Check.equal(grinning, Entities.unescape("&#128512;"), "decimal");
+        Check.equal("a" + grinning + " b", Entities.unescape("a&#x1F600 b"), "no ';'");
+        Check.equal("a&#x1F600 b", Entities.unescape("a&#x1F600 b", true), "no ';', strict");
+        Check.equal("\uDBFF\uDFFF", Entities.unescape("&#x10FFFF;"), "the last code point");
+        Check.equal(frakturA, Entities.unescape("&Afr;"), "a name past U+FFFF");
+        Check.equal("x" + frakturA + grinning + "y", Entities.unescape("x&Afr;&#x1F600;y"), "one after another");
+    }
+
+    private static void unescapeOutOfRange() {
+        for (String ref : new String[] { "&#x110000;", "&#1114112;", "&#x99999999999;", "&#99999999999999999999;" })
+            Check.equal("a" + ref + "b", Entities.unescape("a" + ref + "b"), ref + ": as written");
+        Check.equal("&#x110000;" + grinning, Entities.unescape("&#x110000;&#x1F600;"), "the next one still decodes");
+    }
+
+    private static void unescapeUnchanged() {
+        for (String input : new String[] { "no references", "&bogus; &#; &#x; &", "&#x110000;", "& amp;" }) {
+            Check.isTrue(input == Entities.unescape(input), input + ": the input itself");
+        }
+    }
+
+    private static void escapeAstral() {
+        Charset utf8 = Charset.forName("UTF-8");
+        String text = "a" + grinning + "<b" + frakturA;
+        for (Entities.EscapeMode mode : Entities.EscapeMode.values()) {
+            Check.equal("a" + grinning + "&lt;b" + frakturA, Entities.escape(text, utf8, mode), mode + ": UTF-8");
+            String plain = "a" + grinning + frakturA;
+            Check.isTrue(plain == Entities.escape(plain, utf8, mode), mode + ": nothing to escape, the input itself");
+            for (String name : new String[] { "US-ASCII", "GBK" }) {
+                String escaped = Entities.escape(text, Charset.forName(name), mode);
+                Check.equal("a&#128512;&lt;b&#120068;", escaped, mode + ": " + name);
+                Check.equal(text, Entities.unescape(escaped), mode + ": " + name + " and back");
+            }
+            // U+D504 shares its low 16 bits with &Afr;, U+1D504, and is not it
+            Check.equal("\uD504", Entities.escape("\uD504", utf8, mode), mode + ": U+D504");
+        }
+    }
+
+    private static void parse() {
+        HtmlParser.ParseSettings decode = new HtmlParser.ParseSettings().decodeEntities(true);
+        String html = "<p title='&#x1F600;&#x110000;'>&#128512;&Afr;&#x110000;&#xD800;</p>";
+        Element p = HtmlParser.parse(html, decode).getElementsByTagName("p", null, null).get(0);
+        Check.equal(grinning + frakturA + "\uFFFD\uFFFD", p.text(), "text, decoded");
+        Check.equal(grinning + "\uFFFD", p.attr("title"), "attribute, decoded");
+
+        Element kept = HtmlParser.parse(html).getElementsByTagName("p", null, null).get(0);
+        Check.equal("&#128512;&Afr;&#x110000;&#xD800;", kept.text(), "text, kept as written");
+    }
+}
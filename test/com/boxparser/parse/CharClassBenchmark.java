@@ -0,0 +1,63 @@
+package com.boxparser.parse;
+
+/**
+ * Times the char by char and the 8-wide block scans of {@link CharClass} over runs of increasing length, to find the
+ * run length where blocks start to pay off ({@link CharClass#blockScanAfter}).
+ * <p>
+ * Run with {@code java com.boxparser.parse.CharClassBenchmark [totalChars]}.
+ */
+public class CharClassBenchmark {
+
+    private static final CharClass stops  = CharClass.of('\t', '\n', '\f', ' ', '>', '\u0000', '"', '\'', '<', '=',
+                                                          '`');
+    private static final int[]     runs   = { 1, 2, 4, 8, 12, 16, 24, 32, 64, 128, 512, 4096 };
+    private static int             sink;
+
+    public static void main(String[] args) {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 1024 * 1024 * 4;
+
+        System.out.println("run\tscalar ns/char\tblock ns/char\tadaptive ns/char");
+        int crossover = -1;
+        for (int run : runs) {
+            char[] buf = input(total, run);
+            for (int warm = 0; warm < 5; warm++) {
+                time(buf, 0);
+                time(buf, 1);
+                time(buf, 2);
+            }
+            double scalar = time(buf, 0);
+            double block = time(buf, 1);
+            double adaptive = time(buf, 2);
+            if (crossover == -1 && block < scalar) crossover = run;
+            System.out.printf("%d\t%.3f\t%.3f\t%.3f%n", run, scalar, block, adaptive);
+        }
+        System.out.println("block scan faster from run length " + crossover + "; blockScanAfter = "
+                           + CharClass.blockScanAfter);
+        if (sink == 42) System.out.println();
+    }
+
+    /**
+     * Runs of letters, each ended by a space.
+     */
+    private static char[] input(int total, int run) {
+        char[] buf = new char[total];
+        for (int i = 0; i < total; i++)
+            buf[i] = i % (run + 1) == run ? ' ' : (char) ('a' + i % 26);
+        return buf;
+    }
+
+    private static double time(char[] buf, int mode) {
+        long start = System.nanoTime();
+        for (int rep = 0; rep < 20; rep++) {
+            int pos = 0;
+            while (pos < buf.length) {
+                if (mode == 0) pos = stops.scalarIndexIn(buf, pos, buf.length);
+                else if (mode == 1) pos = stops.blockIndexIn(buf, pos, buf.length);
+                else pos = stops.indexIn(buf, pos, buf.length);
+                pos++;
+            }
+            sink += pos;
+        }
+        return (System.nanoTime() - start) / (20.0 * buf.length);
+    }
+}
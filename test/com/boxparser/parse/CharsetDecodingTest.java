@@ -0,0 +1,247 @@
+package com.boxparser.parse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Byte input: the charset is taken from a byte order mark or a meta tag in the first bytes ({@link CharsetSniffer}),
+ * and the bytes are decoded a chunk at a time as the tokeniser reads ({@link DecodingReader}), with ASCII bytes widened
+ * straight to chars. Checks the sniffing, then that the decoded chars are those a whole-input decode gives: with
+ * multibyte chars across the chunk edge, surrogate pairs handed out a char at a time, and a channel that trickles;
+ * and that each byte entry point parses as the String does.
+ * <p>
+ * Run with {@code java com.boxparser.parse.CharsetDecodingTest}.
+ */
+public class CharsetDecodingTest {
+
+    private static final String[] charsets = { "UTF-8", "GBK", "GB18030", "ISO-8859-1", "windows-1252", "Shift_JIS",
+            "Big5", "EUC-KR", "UTF-16LE" };
+
+    // ASCII, Latin-1, CJK (some with ASCII range trail bytes in GBK or Shift_JIS), and past U+FFFF
+    private static final String   sample   = "a<b>&amp; caf\u00E9 \u00A9 \u4E2D\u6587 \u4E02\u8868\u30BD \uAC00 "
+                                             + "\u20AC \uD83D\uDE00 \uD840\uDC0B\n";
+
+    public static void main(String[] args) throws IOException {
+        byteOrderMarks();
+        metaCharsets();
+        decodeAcrossChunks();
+        decodeTrickling();
+        parseBytes();
+        System.out.println("CharsetDecodingTest: ok");
+    }
+
+    private static void byteOrderMarks() {
+        Check.equal("UTF-8", name(CharsetSniffer.bomCharset(bytes(0xEF, 0xBB, 0xBF, '<'), 4)), "UTF-8 mark");
+        Check.equal("UTF-16BE", name(CharsetSniffer.bomCharset(bytes(0xFE, 0xFF, 0, '<'), 4)), "UTF-16BE mark");
+        Check.equal("UTF-16LE", name(CharsetSniffer.bomCharset(bytes(0xFF, 0xFE, '<', 0), 4)), "UTF-16LE mark");
+        Check.equal(null, CharsetSniffer.bomCharset(bytes(0xEF, 0xBB, 0xBF), 2), "a mark cut short");
+        Check.equal(null, CharsetSniffer.bomCharset(bytes('<', 'p', '>'), 3), "no mark");
+        Check.equal(3, CharsetSniffer.bomLength(Charset.forName("UTF-8")), "UTF-8 mark length");
+        Check.equal(2, CharsetSniffer.bomLength(Charset.forName("UTF-16LE")), "UTF-16 mark length");
+        Check.equal(0, CharsetSniffer.bomLength(null), "no mark length");
+    }
+
+    private static void metaCharsets() {
+        meta("<meta charset=\"GB18030\">", "GB18030");
+        meta("<html><head><META CHARSET='Shift_JIS'/></head>", "Shift_JIS");
+        meta("<meta charset=utf-8><meta charset=gbk>", "UTF-8");
+        meta("<meta http-equiv=\"Content-Type\" content=\"text/html; charset=windows-1252\">", "windows-1252");
+        meta("<meta content='text/html;charset=\"big5\"' http-equiv=content-type>", "Big5");
+        meta("<meta name=x content=\"text/html; charset=big5\">", null); // content without http-equiv
+        meta("<meta charset=\"UTF-16\">", "UTF-8"); // the bytes so far were ASCII: not UTF-16
+        meta("<meta charset=\"utf-16le\">", "UTF-8");
+        meta("<meta charset=\"no-such-charset\">", null);
+        meta("<!-- <meta charset=big5> --><meta charset=euc-kr>", "EUC-KR");
+        meta("<metadata charset=big5><meta charset=euc-kr>", "EUC-KR");
+        meta("<p title='<meta charset=big5>'>text", null); // inside another tag
+        meta("<p>no declaration</p>", null);
+
+        StringBuilder late = new StringBuilder();
+        while (late.length() < CharsetSniffer.prescanLength)
+            late.append("<p>filler</p>");
+        meta(late + "<meta charset=big5>", null); // past the prescan
+    }
+
+    private static void meta(String html, String expected) {
+        byte[] head = html.getBytes(Charset.forName("US-ASCII"));
+        int len = Math.min(head.length, CharsetSniffer.prescanLength);
+        Check.equal(expected, name(CharsetSniffer.metaCharset(head, len)), html);
+    }
+
+    /**
+     * Places each char of the sample on and around the edge of the first 8K chunk of bytes.
+     */
+    private static void decodeAcrossChunks() throws IOException {
+        for (String name : charsets) {
+            Charset charset = Charset.forName(name);
+            String text = encodable(sample, charset);
+            int unit = "x".getBytes(charset).length;
+            int span = text.getBytes(charset).length / unit + 1;
+            for (int shift = 0; shift <= span; shift++) { // bytes of x, then the text across the edge
+                StringBuilder accum = new StringBuilder();
+                int pad = DecodingReader.byteBufferSize / unit - span + shift;
+                for (int i = 0; i < pad; i++)
+                    accum.append('x');
+                for (int i = 0; i < 3; i++)
+                    accum.append(text);
+                String expected = accum.toString();
+                byte[] bytes = expected.getBytes(charset);
+                String what = name + ", shift " + shift;
+                Check.equal(expected, read(new DecodingReader(channel(bytes, Integer.MAX_VALUE), charset), 4096),
+                            what);
+                Check.equal(expected, read(new DecodingReader(channel(bytes, Integer.MAX_VALUE), charset), 1),
+                            what + ", one char per read");
+                Check.equal(expected, read(new DecodingReader(ByteBuffer.wrap(bytes), charset), 4096),
+                            what + ", from a buffer");
+                Check.equal(expected, read(new DecodingReader(ByteBuffer.wrap(bytes), charset), 1),
+                            what + ", from a buffer, one char per read");
+            }
+        }
+    }
+
+    /**
+     * A channel that returns a few bytes at a time ends its reads part way through chars; malformed bytes are replaced
+     * as a whole-input decode replaces them.
+     */
+    private static void decodeTrickling() throws IOException {
+        for (String name : charsets) {
+            Charset charset = Charset.forName(name);
+            byte[] bytes = encodable(sample + sample, charset).getBytes(charset);
+            String expected = new String(bytes, charset);
+            for (int chunk = 1; chunk <= 5; chunk++) {
+                for (int reads : new int[] { 1, 2, 4096 }) {
+                    Check.equal(expected, read(new DecodingReader(channel(bytes, chunk), charset), reads),
+                                name + ", " + chunk + " bytes at a time, " + reads + " chars per read");
+                }
+            }
+        }
+        byte[] malformed = bytes('a', 0xFF, 'b', 0xE4, 0xB8, '<', 0xF0, 0x9F, 0x98);
+        for (String name : new String[] { "UTF-8", "GBK", "Shift_JIS" }) {
+            Charset charset = Charset.forName(name);
+            Check.equal(new String(malformed, charset), read(new DecodingReader(channel(malformed, 2), charset), 4096),
+                        name + ", malformed");
+        }
+    }
+
+    /**
+     * Each byte entry point gives the document the String parse gives, and writes it out in the charset it read.
+     */
+    private static void parseBytes() throws IOException {
+        for (String name : charsets) {
+            Charset charset = Charset.forName(name);
+            StringBuilder accum = new StringBuilder("<html><head><title>t</title></head><body>");
+            for (int i = 0; i < 600; i++)
+                accum.append("<p class=c").append(i).append('>').append(encodable(sample, charset)).append("</p>");
+            String html = accum.append("</body></html>").toString();
+            byte[] bytes = html.getBytes(charset);
+            String expected = HtmlParser.parse(html).outerHtml();
+
+            check(expected, charset, HtmlParser.parse(new ByteArrayInputStream(bytes), charset), name + ", stream");
+            check(expected, charset, HtmlParser.parse(channel(bytes, 1000), charset), name + ", channel");
+            Path file = Files.createTempFile("charset-decoding", ".html");
+            try {
+                Files.write(file, bytes);
+                check(expected, charset, HtmlParser.parse(file, charset), name + ", file");
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        // the charset found from the bytes: a mark, a meta tag, or the default
+        String body = "<p>\u4E2D\u6587 \u00E9</p>";
+        Charset utf8 = Charset.forName("UTF-8");
+        sniffed(concat(bytes(0xEF, 0xBB, 0xBF), body.getBytes(utf8)), body, "UTF-8");
+        Charset utf16 = Charset.forName("UTF-16LE");
+        sniffed(concat(bytes(0xFF, 0xFE), body.getBytes(utf16)), body, "UTF-16LE");
+        String declared = "<meta charset=GB18030>" + body;
+        sniffed(declared.getBytes(Charset.forName("GB18030")), declared, "GB18030");
+        sniffed(body.getBytes(HtmlParser.defaultCharset), body, HtmlParser.defaultCharset.name());
+    }
+
+    private static void check(String expected, Charset charset, Document doc, String what) {
+        Check.equal(expected, doc.outerHtml(), what);
+        Check.equal(charset, doc.outputSettings().charset(), what + ": output charset");
+    }
+
+    private static void sniffed(byte[] bytes, String html, String charset) {
+        Document doc = HtmlParser.parse(new ByteArrayInputStream(bytes));
+        Check.equal(HtmlParser.parse(html).outerHtml(), doc.outerHtml(), charset + " sniffed");
+        Check.equal(charset, doc.outputSettings().charset().name(), charset + " sniffed: output charset");
+    }
+
+    private static String read(DecodingReader reader, int charsPerRead) throws IOException {
+        StringBuilder accum = new StringBuilder();
+        char[] buf = new char[charsPerRead];
+        int read;
+        while ((read = reader.read(buf, 0, buf.length)) != -1)
+            accum.append(buf, 0, read);
+        return accum.toString();
+    }
+
+    /**
+     * A channel over the bytes that returns at most the given number from each read.
+     */
+    private static ReadableByteChannel channel(byte[] bytes, final int chunk) {
+        final ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(bytes));
+        return new ReadableByteChannel() {
+
+            public int read(ByteBuffer dst) throws IOException {
+                if (dst.remaining() <= chunk) return in.read(dst);
+                ByteBuffer part = dst.duplicate();
+                part.limit(part.position() + chunk);
+                int read = in.read(part);
+                if (read > 0) dst.position(dst.position() + read);
+                return read;
+            }
+
+            public boolean isOpen() {
+                return in.isOpen();
+            }
+
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+
+    /**
+     * The text without the chars the charset can't encode.
+     */
+    private static String encodable(String text, Charset charset) {
+        CharsetEncoder encoder = charset.newEncoder();
+        StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < text.length(); i += Character.charCount(text.codePointAt(i))) {
+            String c = text.substring(i, i + Character.charCount(text.codePointAt(i)));
+            if (encoder.canEncode(c)) accum.append(c);
+        }
+        return accum.toString();
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++)
+            bytes[i] = (byte) values[i];
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] both = new byte[a.length + b.length];
+        System.arraycopy(a, 0, both, 0, a.length);
+        System.arraycopy(b, 0, both, a.length, b.length);
+        return both;
+    }
+
+    private static String name(Charset charset) {
+        return charset == null ? null : charset.name();
+    }
+}
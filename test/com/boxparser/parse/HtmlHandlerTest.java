@@ -0,0 +1,127 @@
+package com.boxparser.parse;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.boxparser.html.nodes.Attributes;
+import com.boxparser.html.nodes.Element;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.html.nodes.TextNode;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Parsing to events: the handler is told of the elements, text, comments and doctype of the tree the same input would
+ * build, nested as in the tree, with implied end tags and every element left open at the end of input ended. Checks
+ * the events against a walk of the built tree, from a String, a Reader and a byte stream.
+ * <p>
+ * Run with {@code java com.boxparser.parse.HtmlHandlerTest}.
+ */
+public class HtmlHandlerTest {
+
+    public static void main(String[] args) {
+        check("<!DOCTYPE html><html><head><title>t</title></head><body><p class=a>x &amp; y</p></body></html>");
+        check("<ul><li>one<li>two</ul><dl><dt>a<dd>b</dl>"); // implied end tags
+        check("<p>a<h1>b</h1><p>c<h2/>d");
+        check("<table><tr>a<tr>b</table>");
+        check("<div><p>left open<span>to the end");
+        check("<br/><img src=x><hr><custom/>tail"); // empty elements
+        check("<script>if (a < b) x('<p>');</script><textarea><i>t</textarea><style>s{}</style>");
+        check("<!-- c1 --><p><!-- c2 -->x</b></p>");
+        check("plain text only");
+        check("");
+
+        StringBuilder accum = new StringBuilder("<html><body>");
+        for (int i = 0; i < 3000; i++)
+            accum.append("<div id=d").append(i).append("><p>item ").append(i).append("<li>x</div>");
+        check(accum.append("</body></html>").toString());
+
+        keptAttributes();
+        System.out.println("HtmlHandlerTest: ok");
+    }
+
+    private static void check(String html) {
+        String expected = walk(HtmlParser.parse(html).childNodes());
+
+        Recorder fromString = new Recorder();
+        HtmlParser.parse(html, fromString);
+        Check.equal(expected, fromString.events(), html);
+
+        Recorder fromReader = new Recorder();
+        HtmlParser.parse(new StringReader(html), fromReader);
+        Check.equal(expected, fromReader.events(), html + ", from a Reader");
+
+        Charset utf8 = Charset.forName("UTF-8");
+        Recorder fromBytes = new Recorder();
+        HtmlParser.parse(new ByteArrayInputStream(html.getBytes(utf8)), utf8, fromBytes);
+        Check.equal(expected, fromBytes.events(), html + ", from a byte stream");
+    }
+
+    /**
+     * A handler may keep each element's attributes: every element has its own.
+     */
+    private static void keptAttributes() {
+        Recorder recorder = new Recorder();
+        HtmlParser.parse("<a href=one><b title=two></b><i></i></a>", recorder);
+        Check.equal(3, recorder.attributes.size(), "one per element");
+        Check.equal("one", recorder.attributes.get(0).get("href"), "the first element's");
+        Check.equal("two", recorder.attributes.get(1).get("title"), "the second element's");
+        Check.equal(0, recorder.attributes.get(2).size(), "the third has none");
+    }
+
+    /**
+     * The tree in the form the recorder writes events. Comments and the doctype are kept as text nodes.
+     */
+    private static String walk(List<Node> nodes) {
+        StringBuilder accum = new StringBuilder();
+        for (Node node : nodes) {
+            if (node instanceof Element) {
+                Element el = (Element) node;
+                accum.append('<').append(el.tagName()).append(el.attributes()).append('>');
+                accum.append(walk(el.childNodes()));
+                accum.append("</").append(el.tagName()).append('>');
+            } else {
+                accum.append(((TextNode) node).getWholeText());
+            }
+        }
+        return accum.toString();
+    }
+
+    private static class Recorder implements HtmlHandler {
+
+        private final StringBuilder    accum      = new StringBuilder();
+        private final List<Attributes> attributes = new ArrayList<Attributes>();
+        private int                    depth;
+
+        public void startElement(String name, Attributes attributes) {
+            this.attributes.add(attributes);
+            accum.append('<').append(name).append(attributes).append('>');
+            depth++;
+        }
+
+        public void endElement(String name) {
+            Check.isTrue(depth > 0, "an end for every start");
+            accum.append("</").append(name).append('>');
+            depth--;
+        }
+
+        public void characters(CharSequence text) {
+            accum.append(text);
+        }
+
+        public void comment(String data) {
+            accum.append("<!--").append(data).append("-->");
+        }
+
+        public void doctype(String declaration) {
+            accum.append(declaration);
+        }
+
+        String events() {
+            Check.equal(0, depth, "every element ended");
+            return accum.toString();
+        }
+    }
+}
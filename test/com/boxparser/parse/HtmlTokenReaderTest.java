@@ -0,0 +1,129 @@
+package com.boxparser.parse;
+
+import java.io.StringReader;
+
+import com.boxparser.test.tool.Check;
+
+/**
+ * Pulling tokens one at a time: each event and what it carries, raw text for the elements the tree builder would
+ * read as raw text, the same events from a Reader as from a String, and settings and errors passed through.
+ * <p>
+ * Run with {@code java com.boxparser.parse.HtmlTokenReaderTest}.
+ */
+public class HtmlTokenReaderTest {
+
+    public static void main(String[] args) {
+        events();
+        rawText();
+        fromReader();
+        settingsAndErrors();
+        misuse();
+        System.out.println("HtmlTokenReaderTest: ok");
+    }
+
+    private static void events() {
+        check("<!DOCTYPE html><p class=a id=\"b\">x &amp; y<br/><!-- c --></p>",
+              "[Doctype:<!DOCTYPE html>]|<p class=a id=b>|[Text:x &amp; y]|<br/>|[Comment: c ]|</p>|");
+        check("<a href=x data-q>z</a></a x=1>", "<a href=x data-q=>|[Text:z]|</a>|</a>|");
+        check("<a href=x><b id=y title=z>", "<a href=x>|<b id=y title=z>|"); // each tag's own attributes
+        check("", "");
+
+        HtmlTokenReader tokens = new HtmlTokenReader("<img src='s.png' alt=\"\">");
+        Check.equal(HtmlTokenReader.Event.StartTag, tokens.next(), "a start tag");
+        Check.equal("s.png", tokens.attributeValue("src"), "a value by name");
+        Check.equal("", tokens.attributeValue("title"), "no such attribute");
+        Check.equal(HtmlTokenReader.Event.EOF, tokens.next(), "then the end");
+        Check.equal(HtmlTokenReader.Event.EOF, tokens.next(), "and again");
+    }
+
+    /**
+     * Script, style, iframe and textarea content is read as text, as the tree builder has the tokeniser read it.
+     */
+    private static void rawText() {
+        check("<script>a<b>c</script><textarea><i>t</textarea><style>s{}</style>",
+              "<script>|[Text:a<b>c]|</script>|<textarea>|[Text:<i>t]|</textarea>|<style>|[Text:s{}]|</style>|");
+        check("<iframe><p>x</p></IFRAME><p>y", "<iframe>|[Text:<p>x</p>]|</iframe>|<p>|[Text:y]|");
+        check("<script/>x<p>", "<script/>|[Text:x<p>]|"); // a self closing script still starts raw text
+    }
+
+    private static void fromReader() {
+        StringBuilder accum = new StringBuilder("<!doctype html><html><body>");
+        for (int i = 0; i < 2000; i++) {
+            accum.append("<div class=\"c").append(i).append("\" data-i=").append(i).append(">text ").append(i);
+            accum.append("<script>if (a < b) x('</p>');</script><!-- note ").append(i).append(" --></div>");
+        }
+        String html = accum.append("</body></html>").toString();
+        String expected = events(new HtmlTokenReader(html));
+        Check.equal(expected, events(new HtmlTokenReader(new StringReader(html))), "from a Reader");
+        CharacterReader small = new CharacterReader(new StringReader(html), CharacterReader.minBufferLen);
+        Check.equal(expected, events(new HtmlTokenReader(small)), "through the smallest window");
+    }
+
+    private static void settingsAndErrors() {
+        String html = "<p title='a&amp;b'>c&lt;d</p>";
+        HtmlParser.ParseSettings decode = new HtmlParser.ParseSettings().decodeEntities(true);
+        Check.equal("<p title=a&b>|[Text:c<d]|</p>|",
+                    events(new HtmlTokenReader(new CharacterReader(html), decode)), "decoded");
+        HtmlParser.ParseSettings lazy = new HtmlParser.ParseSettings().lazyAttributes(true);
+        Check.equal("<p title=a&amp;b>|[Text:c&lt;d]|</p>|",
+                    events(new HtmlTokenReader(new CharacterReader(html), lazy)), "lazy attributes");
+
+        HtmlTokenReader quiet = new HtmlTokenReader("<p>\n<a =x></b\n>");
+        events(quiet);
+        Check.isTrue(!quiet.errors().isTracking(), "errors are off by default");
+        Check.equal(0, quiet.errors().size(), "and none are kept");
+
+        ParseErrorList errors = ParseErrorList.full();
+        HtmlTokenReader tracked = new HtmlTokenReader(new CharacterReader("<p>\n<a =x>"),
+                                                      HtmlParser.ParseSettings.defaultParseSettings(), errors);
+        events(tracked);
+        Check.isTrue(tracked.errors() == errors, "the list given");
+        Check.isTrue(errors.size() > 0, "an error for the '=' before the name");
+        Check.equal(2, errors.get(0).getLine(), "on line 2");
+    }
+
+    private static void misuse() {
+        HtmlTokenReader tokens = new HtmlTokenReader("text<p>");
+        Check.equal(null, tokens.event(), "no event before the first read");
+        tokens.next();
+        try {
+            tokens.tagName();
+            throw new AssertionError("a text token has no tag name");
+        } catch (IllegalStateException expected) {
+        }
+        tokens.next();
+        try {
+            tokens.text();
+            throw new AssertionError("a tag has no text");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    private static void check(String html, String expected) {
+        Check.equal(expected, events(new HtmlTokenReader(html)), html);
+    }
+
+    /**
+     * The events to the end of input, each with what it carries.
+     */
+    private static String events(HtmlTokenReader tokens) {
+        StringBuilder accum = new StringBuilder();
+        while (tokens.next() != HtmlTokenReader.Event.EOF) {
+            switch (tokens.event()) {
+                case StartTag:
+                    accum.append('<').append(tokens.tagName());
+                    for (int i = 0; i < tokens.attributeCount(); i++)
+                        accum.append(' ').append(tokens.attributeName(i)).append('=').append(tokens.attributeValue(i));
+                    accum.append(tokens.isSelfClosing() ? "/>" : ">");
+                    break;
+                case EndTag:
+                    accum.append("</").append(tokens.tagName()).append('>');
+                    break;
+                default:
+                    accum.append('[').append(tokens.event()).append(':').append(tokens.text()).append(']');
+            }
+            accum.append('|');
+        }
+        return accum.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.boxparser.parse;
+
+import java.util.List;
+import java.util.Random;
+
+import com.boxparser.html.nodes.Attribute;
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Element;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Lazily parsed attributes read as an eager parse's do. Untouched, they are written as they were read; but with
+ * character references decoded, they serialise as decoded, as an eager parse's do. Checks documents of attributes in
+ * each quoting, with references, stray '/'s and self closing tags, lazy against eager, with and without decoding.
+ * <p>
+ * Run with {@code java com.boxparser.parse.LazyAttributesTest}.
+ */
+public class LazyAttributesTest {
+
+    private static final String[] attributes = { "id=a", "class='x y'", "title=\"a&amp;b\"", "data-x='a&amp;b'",
+            "href=/p?a=1&b=2", "alt=\"&lt;&#39;&#x1F600;\"", "checked", "v = ' spaced '", "a/b=c", "x=\"'\"",
+            "y='\"'", "title=&copy", "  ", "/", "q=\"&notit;\"" };
+
+    public static void main(String[] args) {
+        Random random = new Random(15);
+        for (int i = 0; i < 50; i++) {
+            String html = document(random);
+            for (boolean decode : new boolean[] { false, true }) {
+                HtmlParser.ParseSettings eager = new HtmlParser.ParseSettings().decodeEntities(decode);
+                HtmlParser.ParseSettings lazy = new HtmlParser.ParseSettings().decodeEntities(decode)
+                                                                               .lazyAttributes(true);
+                String what = html + (decode ? ", decoded" : ", as written");
+                String expected = HtmlParser.parse(html, eager).outerHtml();
+                if (decode) Check.equal(expected, HtmlParser.parse(html, lazy).outerHtml(), what + ": untouched");
+
+                Document read = HtmlParser.parse(html, lazy);
+                List<Element> expectedAll = HtmlParser.parse(html, eager).getElementsByTagName("span", null, null);
+                List<Element> all = read.getElementsByTagName("span", null, null);
+                Check.equal(expectedAll.size(), all.size(), what + ": spans");
+                for (int e = 0; e < all.size(); e++) {
+                    Check.equal(values(expectedAll.get(e)), values(all.get(e)), what + ": span " + e + " read");
+                }
+                Check.equal(expected, read.outerHtml(), what + ": after reading");
+            }
+        }
+        System.out.println("LazyAttributesTest: ok");
+    }
+
+    private static String values(Element element) {
+        StringBuilder accum = new StringBuilder();
+        for (Attribute attribute : element.attributes().asList())
+            accum.append(attribute.getKey()).append('=').append(attribute.getValue()).append(';');
+        return accum.toString();
+    }
+
+    private static String document(Random random) {
+        StringBuilder accum = new StringBuilder("<div>");
+        for (int tag = random.nextInt(4) + 1; tag > 0; tag--) {
+            accum.append("<span");
+            for (int attribute = random.nextInt(4); attribute > 0; attribute--)
+                accum.append(' ').append(attributes[random.nextInt(attributes.length)]);
+            accum.append(random.nextInt(4) == 0 ? "/>" : ">t&amp;t</span>");
+        }
+        return accum.append("</div>").toString();
+    }
+}
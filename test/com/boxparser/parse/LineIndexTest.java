@@ -0,0 +1,158 @@
+package com.boxparser.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Source offsets resolve to lines and columns through a {@link LineIndex}: built from a String on first use, or noted
+ * window by window from a Reader. Checks both against a line count worked out here, for every offset of inputs with
+ * each kind of line end, including a {@code \r\n} split between windows, and through parse errors and node ranges.
+ * <p>
+ * Run with {@code java com.boxparser.parse.LineIndexTest}.
+ */
+public class LineIndexTest {
+
+    public static void main(String[] args) throws IOException {
+        lineEnds();
+        readerWindows();
+        errorsAndNodes();
+        System.out.println("LineIndexTest: ok");
+    }
+
+    private static void lineEnds() throws IOException {
+        check("");
+        check("one line");
+        check("a\nb\r\nc\rd");
+        check("\n\r\n\r\r\n\n");
+        check("ends in a return\r");
+        check("ends in a pair\r\n");
+
+        LineIndex lines = new LineIndex("ab\r\ncd\ref");
+        Check.equal(1, lines.line(2), "the \\r of a pair is on the line it ends");
+        Check.equal(1, lines.line(3), "and so is its \\n");
+        Check.equal(2, lines.line(4), "the next line starts after the pair");
+        Check.equal(1, lines.column(4), "at column 1");
+        Check.equal(3, lines.line(7), "a lone \\r ends a line too");
+        Check.equal(3, lines.lineCount(), "line count");
+    }
+
+    /**
+     * Line ends of each kind throughout an input of several 1024 char windows, shifted to meet the edges differently.
+     */
+    private static void readerWindows() throws IOException {
+        StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            if (i % 41 == 0) accum.append("\r\n");
+            else if (i % 59 == 0) accum.append('\r');
+            else if (i % 67 == 0) accum.append('\n');
+            else accum.append('x');
+        }
+        for (int shift = 0; shift < 6; shift++) {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < shift; i++)
+                input.append('y');
+            check(input.append(accum).toString());
+        }
+        for (int at = 1020; at <= 1026; at++) { // a pair on the edge of the first window
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < at; i++)
+                input.append('z');
+            check(input.append("\r\nnext\r\n").toString());
+        }
+    }
+
+    /**
+     * Errors and node ranges report the same lines from a Reader as from a String.
+     */
+    private static void errorsAndNodes() {
+        String html = "<div>\r\n  <p>one</b>\r\n  <p>two\r<span>three</i></span>\n</div>";
+        ParseErrorList fromString = ParseErrorList.full();
+        ParseErrorList fromReader = ParseErrorList.full();
+        HtmlParser.ParseSettings settings = new HtmlParser.ParseSettings().trackPositions(true);
+        Document doc = HtmlParser.parse(html, settings, fromString);
+        Document streamed = HtmlParser.parse(new StringReader(html), settings, fromReader);
+
+        Check.isTrue(fromString.size() >= 2, "errors for the stray end tags");
+        Check.equal(fromString.size(), fromReader.size(), "error count");
+        for (int i = 0; i < fromString.size(); i++) {
+            ParseError expected = fromString.get(i), actual = fromReader.get(i);
+            LineIndex lines = new LineIndex(html);
+            Check.equal(lines.line(expected.getPosition()), expected.getLine(), "error " + i + " line");
+            Check.equal(lines.column(expected.getPosition()), expected.getColumn(), "error " + i + " column");
+            Check.equal(expected.getLine(), actual.getLine(), "error " + i + " line from a Reader");
+            Check.equal(expected.getColumn(), actual.getColumn(), "error " + i + " column from a Reader");
+        }
+        Check.equal(2, fromString.get(0).getLine(), "the </b> is on line 2");
+
+        Node span = doc.getElementsByTagName("span", null, null).get(0);
+        Check.equal(4, doc.sourceLines().line(span.sourceStart()), "the span starts line 4, after a lone \\r");
+        Check.equal(1, doc.sourceLines().column(span.sourceStart()), "at column 1");
+        Node streamedSpan = streamed.getElementsByTagName("span", null, null).get(0);
+        Check.equal(span.sourceStart(), streamedSpan.sourceStart(), "the span's start from a Reader");
+        Check.equal(4, streamed.sourceLines().line(streamedSpan.sourceStart()), "its line from a Reader");
+    }
+
+    /**
+     * Checks the line and column of every offset, from the String's index and from one noted through a Reader that
+     * returns a char a time, against a line count worked out here.
+     */
+    private static void check(String input) throws IOException {
+        int[] line = new int[input.length() + 1], column = new int[input.length() + 1];
+        int current = 1, start = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            line[i] = current;
+            column[i] = i - start + 1;
+            if (i == input.length()) break;
+            char c = input.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == input.length() || input.charAt(i + 1) != '\n'))) {
+                current++;
+                start = i + 1;
+            }
+        }
+
+        LineIndex fromString = new LineIndex(input);
+        CharacterReader reader = new CharacterReader(new OneCharReader(input), CharacterReader.minBufferLen);
+        LineIndex fromReader = reader.lineIndex();
+        while (!reader.isEmpty())
+            reader.consume();
+
+        String what = input.length() > 20 ? input.length() + " chars" : input;
+        Check.equal(current, fromString.lineCount(), what + ": line count");
+        Check.equal(current, fromReader.lineCount(), what + ": line count from a Reader");
+        for (int i = 0; i <= input.length(); i++) {
+            Check.equal(line[i], fromString.line(i), what + ": line of " + i);
+            Check.equal(column[i], fromString.column(i), what + ": column of " + i);
+            Check.equal(line[i], fromReader.line(i), what + ": line of " + i + " from a Reader");
+            Check.equal(column[i], fromReader.column(i), what + ": column of " + i + " from a Reader");
+        }
+    }
+
+    /**
+     * Returns one char from each read, so that every \r\n pair is split between reads.
+     */
+    private static class OneCharReader extends Reader {
+
+        private final String input;
+        private int          pos;
+
+        OneCharReader(String input){
+            this.input = input;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) {
+            if (pos == input.length()) return -1;
+            buf[off] = input.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
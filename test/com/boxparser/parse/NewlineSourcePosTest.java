@@ -0,0 +1,138 @@
+package com.boxparser.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.boxparser.test.tool.Check;
+
+/**
+ * Carriage returns are normalised to {@code \n} as input is read, and {@link CharacterReader#sourcePos()} maps each
+ * normalised position back to its offset in the original input. Checks the mapping where it is easy to break: a
+ * {@code \r\n} pair split between two reads, or between two windows of a Reader, and a lone {@code \r} at either.
+ * <p>
+ * Run with {@code java com.boxparser.parse.NewlineSourcePosTest}.
+ */
+public class NewlineSourcePosTest {
+
+    public static void main(String[] args) throws IOException {
+        splitAtWindowEdge();
+        splitBetweenReads();
+        manyWindows();
+        errorPositions();
+        System.out.println("NewlineSourcePosTest: ok");
+    }
+
+    /**
+     * A \r\n (or a lone \r) placed on and around the last char of the first 1024 char window.
+     */
+    private static void splitAtWindowEdge() throws IOException {
+        for (int at = 1018; at <= 1028; at++) {
+            String pad = repeat('a', at);
+            check(pad + "\r\nb\r\n", 1024, Integer.MAX_VALUE, "\\r\\n at " + at);
+            check(pad + "\rb\r", 1024, Integer.MAX_VALUE, "\\r at " + at);
+            check(pad + "\r\r\nb", 1024, Integer.MAX_VALUE, "\\r\\r\\n at " + at);
+        }
+    }
+
+    /**
+     * Every read returns one char, so every \r\n pair is split between two reads.
+     */
+    private static void splitBetweenReads() throws IOException {
+        check("a\r\nb\rc\r\r\nd\n\re\r", 1024, 1, "one char per read");
+        check("\r\n\r\n\r", 1024, 1, "newlines only, one char per read");
+    }
+
+    /**
+     * Newlines of each kind throughout an input of several windows, shifted to meet the window edges differently.
+     */
+    private static void manyWindows() throws IOException {
+        StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < 6000; i++) {
+            if (i % 37 == 0) accum.append("\r\n");
+            else if (i % 53 == 0) accum.append('\r');
+            else if (i % 71 == 0) accum.append('\n');
+            else accum.append((char) ('a' + i % 26));
+        }
+        for (int shift = 0; shift < 8; shift++) {
+            String input = repeat('x', shift) + accum;
+            check(input, 1024, Integer.MAX_VALUE, "shift " + shift);
+            check(input, 1024, 7, "shift " + shift + ", 7 chars per read");
+        }
+    }
+
+    /**
+     * A parse error after a \r\n split at the window edge is reported at its offset in the original input.
+     */
+    private static void errorPositions() {
+        String input = repeat('a', 1023) + "\r\n</b>";
+        ParseErrorList errors = ParseErrorList.full();
+        HtmlParser.parse(new StringReader(input), HtmlParser.ParseSettings.defaultParseSettings(), errors);
+        ParseErrorList fromString = ParseErrorList.full();
+        HtmlParser.parse(input, HtmlParser.ParseSettings.defaultParseSettings(), fromString);
+        Check.isTrue(errors.size() > 0, "an error for the stray end tag");
+        Check.equal(fromString.size(), errors.size(), "error count, Reader and String");
+        for (int i = 0; i < errors.size(); i++) {
+            Check.equal(fromString.get(i).getPosition(), errors.get(i).getPosition(), "error " + i + " position");
+            Check.equal(2, errors.get(i).getLine(), "error " + i + " line");
+        }
+    }
+
+    /**
+     * Reads the input char by char from a Reader, and from the String, checking each char and its source position
+     * against the normalisation worked out here.
+     */
+    private static void check(String input, int bufferSize, int charsPerRead, String what) throws IOException {
+        StringBuilder normalised = new StringBuilder();
+        int[] sourceOf = new int[input.length() + 1];
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            sourceOf[normalised.length()] = i;
+            normalised.append(c == '\r' ? '\n' : c);
+            if (c == '\r' && i + 1 < input.length() && input.charAt(i + 1) == '\n') i++;
+        }
+        sourceOf[normalised.length()] = input.length();
+
+        CharacterReader streamed = new CharacterReader(new ChunkedReader(input, charsPerRead), bufferSize);
+        CharacterReader whole = new CharacterReader(input);
+        for (int pos = 0; pos <= normalised.length(); pos++) {
+            Check.equal(sourceOf[pos], streamed.sourcePos(), what + ": Reader source pos of " + pos);
+            Check.equal(sourceOf[pos], whole.sourcePos(), what + ": String source pos of " + pos);
+            if (pos == normalised.length()) break;
+            Check.equal(normalised.charAt(pos), streamed.consume(), what + ": Reader char " + pos);
+            Check.equal(normalised.charAt(pos), whole.consume(), what + ": String char " + pos);
+        }
+        Check.isTrue(streamed.isEmpty() && whole.isEmpty(), what + ": all input read");
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder accum = new StringBuilder(count);
+        for (int i = 0; i < count; i++)
+            accum.append(c);
+        return accum.toString();
+    }
+
+    /**
+     * Returns at most the given number of chars from each read.
+     */
+    private static class ChunkedReader extends Reader {
+
+        private final Reader in;
+        private final int    chunk;
+
+        ChunkedReader(String input, int chunk){
+            this.in = new StringReader(input);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            return in.read(buf, off, Math.min(len, chunk));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
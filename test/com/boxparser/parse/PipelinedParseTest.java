@@ -0,0 +1,170 @@
+package com.boxparser.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.test.tool.Check;
+
+/**
+ * A pipelined parse tokenises on a thread of its own, a batch of tokens ahead of the tree builder
+ * ({@link TokenPipeline}), and must build the document a parse on one thread builds. Checks that it does, for inputs
+ * of one token up to many batches, with raw text elements the tokeniser switches for itself, and with each of the
+ * other settings; that a parse tracking errors runs on one thread; and that what the tokeniser throws is thrown on
+ * the parsing thread.
+ * <p>
+ * Run with {@code java com.boxparser.parse.PipelinedParseTest}.
+ */
+public class PipelinedParseTest {
+
+    private static final String[] fragments = { "<p class=a>", "</p>", "text ", "<br/>", "<!-- note -->",
+            "<div id=\"d\" title='t'>", "</div>", "<script>if (a < b) document.write('</p>')</script>",
+            "<style>p > a { color: red }</style>", "<textarea><b>not a tag</b></textarea>",
+            "<iframe><p>raw</iframe>", "<br src=x />", "<title>a <b> title</title>", "&amp; &lt;&#x4E2D; ",
+            "<table><tr><td>cell</td></tr></table>", "<li>item", "<ul>", "</ul>", "<a href='?a=1&b=2'>link</a>",
+            "</span>", "<img src=y alt=\"&quot;\">", "\r\n", "<xmp><a></xmp>" };
+
+    public static void main(String[] args) {
+        small();
+        rawTextOnBatchEdges();
+        random();
+        withSettings();
+        errorsRunOnOneThread();
+        failures();
+        System.out.println("PipelinedParseTest: ok");
+    }
+
+    private static void small() {
+        check("");
+        check("text");
+        check("<p>");
+        check("<!doctype html><html><head><title>t</title></head><body><p>one</p></body></html>");
+        check("<!DOCTYPE html PUBLIC \"-//W3C//DTD HTML 4.01//EN\" \"http://www.w3.org/TR/html4/strict.dtd\"><p>");
+        check("<!-- only a comment -->");
+        check("<script>unclosed");
+        check("<textarea>unclosed <p>");
+        check("<p>a</p");
+    }
+
+    /**
+     * Puts each raw text start tag at and around the end of a batch, so the tag is the last token of one batch and
+     * its text the first of the next.
+     */
+    private static void rawTextOnBatchEdges() {
+        String[] rawText = { "<script>var t = '<p>x</p>';</script>", "<style><p>{}</style>",
+                "<textarea><p>x</p></textarea>", "<iframe><p>x</p></iframe>", "<script/><p>after</p>" };
+        for (String raw : rawText) {
+            for (int before = TokenPipeline.Batch.capacity - 4; before <= TokenPipeline.Batch.capacity + 2; before++) {
+                StringBuilder accum = new StringBuilder();
+                for (int i = 0; i < before; i++) // a start tag and its text each a token, and the first two in one
+                    accum.append(i % 2 == 0 ? "<b>" : "b");
+                check(accum.append(raw).append("<p>end</p>").toString());
+            }
+        }
+    }
+
+    private static void random() {
+        Random random = new Random(24);
+        for (int doc = 0; doc < 60; doc++) {
+            int length = doc < 30 ? random.nextInt(50) : 500 + random.nextInt(8000);
+            StringBuilder accum = new StringBuilder();
+            for (int i = 0; i < length; i++)
+                accum.append(fragments[random.nextInt(fragments.length)]);
+            check(accum.toString());
+        }
+    }
+
+    /**
+     * Pipelined with lazy attributes, decoded entities and positions, alone and together.
+     */
+    private static void withSettings() {
+        Random random = new Random(42);
+        StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < 3000; i++)
+            accum.append(fragments[random.nextInt(fragments.length)]);
+        String html = accum.toString();
+        for (int mask = 0; mask < 8; mask++) {
+            HtmlParser.ParseSettings settings = new HtmlParser.ParseSettings().lazyAttributes((mask & 1) != 0)
+                    .decodeEntities((mask & 2) != 0).trackPositions((mask & 4) != 0);
+            Document expected = HtmlParser.parse(html, settings);
+            Document doc = HtmlParser.parse(html, settings.pipelined(true));
+            String what = "settings " + mask;
+            Check.equal(expected.outerHtml(), doc.outerHtml(), what);
+            Check.equal(ranges(expected), ranges(doc), what + ": source ranges");
+            Check.equal(expected.outerHtml(), HtmlParser.parse(new StringReader(html), settings).outerHtml(),
+                        what + ", from a Reader");
+        }
+    }
+
+    private static void errorsRunOnOneThread() {
+        String html = "<p>one</b><script/>two</i><textarea/>three";
+        ParseErrorList expected = ParseErrorList.full();
+        ParseErrorList errors = ParseErrorList.full();
+        HtmlParser.ParseSettings settings = new HtmlParser.ParseSettings();
+        String expectedHtml = HtmlParser.parse(html, settings, expected).outerHtml();
+        Check.equal(expectedHtml, HtmlParser.parse(html, settings.pipelined(true), errors).outerHtml(), html);
+        Check.isTrue(expected.size() > 0, "errors found");
+        Check.equal(expected.size(), errors.size(), "error count");
+        for (int i = 0; i < expected.size(); i++) {
+            Check.equal(expected.get(i).getErrorMessage(), errors.get(i).getErrorMessage(), "error " + i);
+            Check.equal(expected.get(i).getPosition(), errors.get(i).getPosition(), "error " + i + " position");
+        }
+    }
+
+    /**
+     * A Reader that fails after the first windows were read fails on the tokeniser's thread, and the parse throws it.
+     */
+    private static void failures() {
+        final StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+            accum.append("<p>paragraph ").append(i).append("</p>");
+        Reader failing = new Reader() {
+
+            private int pos;
+
+            @Override
+            public int read(char[] buf, int off, int len) throws IOException {
+                if (pos == accum.length()) throw new IOException("failed at " + pos);
+                int read = Math.min(len, accum.length() - pos);
+                accum.getChars(pos, pos + read, buf, off);
+                pos += read;
+                return read;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            HtmlParser.parse(failing, new HtmlParser.ParseSettings().pipelined(true));
+            throw new AssertionError("the Reader's failure was not thrown");
+        } catch (UncheckedIOException e) {
+            Check.equal("failed at " + accum.length(), e.getCause().getMessage(), "the Reader's failure");
+        }
+    }
+
+    private static void check(String html) {
+        String what = html.length() > 60 ? html.length() + " chars" : html;
+        Document expected = HtmlParser.parse(html);
+        HtmlParser.ParseSettings pipelined = new HtmlParser.ParseSettings().pipelined(true);
+        Check.equal(expected.outerHtml(), HtmlParser.parse(html, pipelined).outerHtml(), what);
+        Check.equal(expected.outerHtml(), HtmlParser.parse(new StringReader(html), pipelined).outerHtml(),
+                    what + ", from a Reader");
+    }
+
+    /**
+     * Each node's name and range, in document order.
+     */
+    private static String ranges(Node parent) {
+        StringBuilder accum = new StringBuilder();
+        for (Node node : parent.childNodes()) {
+            accum.append(node.nodeName()).append(' ').append(node.sourceStart()).append('-')
+                    .append(node.sourceEnd()).append(' ').append(ranges(node));
+        }
+        return accum.toString();
+    }
+}
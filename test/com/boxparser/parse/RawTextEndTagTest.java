@@ -0,0 +1,135 @@
+package com.boxparser.parse;
+
+import java.io.StringReader;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.html.nodes.TextNode;
+import com.boxparser.test.tool.Check;
+
+/**
+ * Script, style and iframe content is read in one run up to its end tag, found by a search over the buffered input
+ * ({@link CharacterReader#consumeRawText}), and left to the tokeniser states when the search can't be sure. Checks
+ * that the run ends where the states would end it: on an end tag in any case, followed by whitespace, '/' or '>';
+ * not on a longer name; and the same for an end tag split between two windows of a Reader.
+ * <p>
+ * Run with {@code java com.boxparser.parse.RawTextEndTagTest}.
+ */
+public class RawTextEndTagTest {
+
+    public static void main(String[] args) {
+        search();
+        searchToWindowEdge();
+        endTags();
+        atWindowEdge();
+        System.out.println("RawTextEndTagTest: ok");
+    }
+
+    /**
+     * The search itself: what it takes as an end tag, and where it leaves the reader.
+     */
+    private static void search() {
+        searchFinds("a</SCRIPT >b", "a");
+        searchFinds("a</ScRiPt/>b", "a");
+        searchFinds("a</scriptx>b</script>", "a</scriptx>b");
+        searchFinds("</script>", "");
+        for (char next : new char[] { '\t', '\n', '\f', ' ', '/', '>' })
+            searchFinds("a</script" + next, "a");
+        searchMisses("a</script"); // no char after the name: can't tell if it ends there
+        searchMisses("a</scripts>");
+        searchMisses("a<!--</script>"); // an escaped script is left to the states
+        searchMisses("a\u0000</script>");
+    }
+
+    private static void searchFinds(String input, String text) {
+        CharacterReader r = new CharacterReader(input);
+        CharSequence found = r.consumeRawText("script", true);
+        Check.isTrue(found != null, input + ": end tag found");
+        Check.equal(text, found.toString(), input + ": text before it");
+        Check.isTrue(r.matchesIgnoreCase("</script"), input + ": reader left on the end tag");
+    }
+
+    private static void searchMisses(String input) {
+        CharacterReader r = new CharacterReader(input);
+        Check.equal(null, r.consumeRawText("script", true), input + ": no end tag");
+        Check.equal(0, r.pos(), input + ": nothing consumed");
+    }
+
+    /**
+     * Only the window is searched: an end tag is found while it and the char after it are in the window, and missed
+     * once they reach past its edge.
+     */
+    private static void searchToWindowEdge() {
+        int window = CharacterReader.minBufferLen;
+        for (int length = window - 40; length < window + 10; length++) {
+            String body = body(length);
+            CharacterReader r = new CharacterReader(new StringReader(body + "</Script>after"), window);
+            CharSequence found = r.consumeRawText("script", true);
+            boolean inWindow = length + "</script>".length() <= window;
+            Check.equal(inWindow ? body : null, found == null ? null : found.toString(),
+                        "end tag after " + length + " chars");
+        }
+    }
+
+    private static void endTags() {
+        check("<script>var a = 1;</SCRIPT >after", "<script>var a = 1;</script>after");
+        check("<script>a</ScRiPt\t>b", "<script>a</script>b");
+        check("<script>a</scriptx>b</script>c", "<script>a</scriptx>b</script>c");
+        check("<script>a</script/>c", "<script>a</script>c");
+        check("<script>abc</script", "<script>abc</script</script>");
+        check("<script><!-- a </script> --></script>z", "<script><!-- a </script>z");
+        check("<style>p{}</STYLE>q", "<style>p{}</style>q");
+        check("<iframe><p>x</p></IFrame\n>y", "<iframe><p>x</p></iframe>y");
+    }
+
+    /**
+     * Moves a script's end tag across the edges of a Reader's 1024 char windows, one char at a time.
+     */
+    private static void atWindowEdge() {
+        for (int length = 700; length < 2200; length++) {
+            String body = body(length);
+            for (String end : new String[] { "</script>", "</SCRIPT >", "</script/>" }) {
+                String html = "<script>" + body + end + "<p>after</p>";
+                String what = "body of " + length + " then " + end;
+                Document doc = parse(html);
+                Check.equal(body, text(doc.childNodes().get(0)), what + ": script text");
+                Check.equal(html(html), doc.outerHtml(), what + ": Reader against String");
+            }
+        }
+    }
+
+    /**
+     * Script-like text with near misses for the end tag: "</" and "</scrip" without the rest.
+     */
+    private static String body(int length) {
+        String words = "if (a </ b) { x = '</scrip' + t; } ";
+        StringBuilder accum = new StringBuilder(length);
+        while (accum.length() < length)
+            accum.append(words.charAt(accum.length() % words.length()));
+        return accum.toString();
+    }
+
+    private static void check(String html, String expected) {
+        Check.equal(expected, html(html), html + ": from a String");
+        Check.equal(expected, parse(html).outerHtml(), html + ": from a Reader");
+    }
+
+    private static String html(String html) {
+        return HtmlParser.parse(html).outerHtml();
+    }
+
+    /**
+     * Parses through the smallest window, so that end tags meet its edges often.
+     */
+    private static Document parse(String html) {
+        CharacterReader input = new CharacterReader(new StringReader(html), CharacterReader.minBufferLen);
+        return new DataSourceTreeBuilder().parse(input, ParseErrorList.off());
+    }
+
+    private static String text(Node node) {
+        StringBuilder accum = new StringBuilder();
+        for (Node child : node.childNodes())
+            accum.append(((TextNode) child).getWholeText());
+        return accum.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.boxparser.parse;
+
+import java.io.StringReader;
+
+import com.boxparser.html.nodes.Document;
+import com.boxparser.html.nodes.Node;
+import com.boxparser.test.tool.Check;
+
+/**
+ * With positions tracked, each node is given the range of the input it was parsed from: an element from its start tag
+ * to the end of its end tag, or to where it was implicitly closed. Checks the ranges where the tree builder implies an
+ * end tag on the way to inserting a node, which must not take the node's range from the implied tag.
+ * <p>
+ * Run with {@code java com.boxparser.parse.SourceRangeTest}.
+ */
+public class SourceRangeTest {
+
+    public static void main(String[] args) {
+        check("<p>x<h2>y</h2>z", "p=<p>x #text=x h2=<h2>y</h2> #text=y #text=z");
+        check("<div><p>a</div>b", "div=<div><p>a</div> p=<p>a #text=a #text=b");
+        check("<p>one<p>two", "p=<p>one<p>two #text=one p=<p>two #text=two");
+
+        // a start tag that implies an end tag first
+        check("<ul><li>a<li/>b</ul>", "ul=<ul><li>a<li/>b</ul> li=<li>a #text=a li=<li/> #text=b");
+        check("<p>x<h2/>y", "p=<p>x #text=x h2=<h2/> #text=y");
+        check("<dl><dt>a<dd>b</dl>", "dl=<dl><dt>a<dd>b</dl> dt=<dt>a #text=a dd=<dd>b #text=b");
+        check("<p>a<li>b</li>", "p=<p>a #text=a li=<li>b</li> #text=b");
+        check("<p>a<dd>b", "p=<p>a #text=a dd=<dd>b #text=b");
+        check("<table><tr>a<tr>b</table>", "table=<table><tr>a<tr>b</table> tr=<tr>a #text=a tr=<tr>b #text=b");
+        System.out.println("SourceRangeTest: ok");
+    }
+
+    /**
+     * Checks the nodes' ranges, in document order, as each one's name and the input it covers; from a String and a
+     * Reader.
+     */
+    private static void check(String html, String expected) {
+        HtmlParser.ParseSettings settings = new HtmlParser.ParseSettings().trackPositions(true);
+        Document doc = HtmlParser.parse(html, settings);
+        Check.equal(0, doc.sourceStart(), html + ": the document's start");
+        Check.equal(html.length(), doc.sourceEnd(), html + ": the document's end");
+        Check.equal(expected, ranges(doc, html), html);
+        Check.equal(expected, ranges(HtmlParser.parse(new StringReader(html), settings), html), html + ", from a Reader");
+    }
+
+    private static String ranges(Node parent, String html) {
+        StringBuilder accum = new StringBuilder();
+        for (Node node : parent.childNodes()) {
+            Check.isTrue(0 <= node.sourceStart() && node.sourceStart() <= node.sourceEnd()
+                         && node.sourceEnd() <= html.length(), node.nodeName() + " in the input");
+            accum.append(' ').append(node.nodeName()).append('=');
+            accum.append(html, node.sourceStart(), node.sourceEnd()).append(ranges(node, html));
+        }
+        return parent.parent() == null ? accum.substring(1) : accum.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.boxparser.parse;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.boxparser.html.nodes.Document;
+
+/**
+ * Times the first parse in a fresh JVM, as a short-lived batch worker sees it: class loading and static set up of the
+ * parser and the entity tables, then one small parse and write out. Starts a JVM per run, on this JVM's class path.
+ * <p>
+ * Run with {@code java com.boxparser.parse.StartupBenchmark [runs]}.
+ */
+public class StartupBenchmark {
+
+    private static final String page = "<html><head><title>Preview &amp; more</title></head><body>"
+                                       + "<p class=intro>Hello &copy; 2013, <b>world</b> &lt;3</p></body></html>";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("once")) {
+            once();
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 15;
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+
+        long[] parse = new long[runs], total = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            Process process = new ProcessBuilder(java, "-cp", classPath, StartupBenchmark.class.getName(), "once")
+                                  .redirectErrorStream(true).start();
+            BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            List<String> lines = new ArrayList<String>();
+            for (String line = out.readLine(); line != null; line = out.readLine())
+                lines.add(line);
+            if (process.waitFor() != 0 || lines.size() != 1) throw new IllegalStateException("Run failed: " + lines);
+            String[] times = lines.get(0).split("\t");
+            parse[run] = Long.parseLong(times[0]);
+            total[run] = Long.parseLong(times[1]);
+        }
+        Arrays.sort(parse);
+        Arrays.sort(total);
+        System.out.printf("first parse\tmedian %.2f ms\tmin %.2f ms%n", parse[runs / 2] / 1e6, parse[0] / 1e6);
+        System.out.printf("first parse and html\tmedian %.2f ms\tmin %.2f ms%n", total[runs / 2] / 1e6,
+                          total[0] / 1e6);
+    }
+
+    /**
+     * One first parse, printing the nanoseconds to parse and to parse and write out.
+     */
+    private static void once() {
+        long start = System.nanoTime();
+        Document doc = HtmlParser.parse(page);
+        long parsed = System.nanoTime();
+        String html = doc.outerHtml();
+        long written = System.nanoTime();
+        if (html.isEmpty()) throw new IllegalStateException();
+        System.out.println((parsed - start) + "\t" + (written - start));
+    }
+}
@@ -0,0 +1,60 @@
+package com.boxparser.parse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.boxparser.test.tool.Check;
+
+/**
+ * A title or textarea with no end tag is closed at the first tag in it, rather than running to the end of the input;
+ * whether the end tag is there is looked for through the rest of the input. Checks that a streamed parse, where the end
+ * tag may lie far past the window, decides as a String parse does: from a Reader, a byte stream and a file.
+ * <p>
+ * Run with {@code java com.boxparser.parse.StreamedEndTagTest}.
+ */
+public class StreamedEndTagTest {
+
+    public static void main(String[] args) throws IOException {
+        for (String name : new String[] { "textarea", "title" }) {
+            for (int items : new int[] { 10, 400, 3000 }) {
+                check("<html><body><" + name + ">Shop" + items(items) + "</body></html>", name + ", no end tag");
+                check("<html><body><" + name + ">Shop" + items(items) + "</" + name + "><p>after</p>",
+                      name + ", end tag after " + items + " items");
+                check("<html><body><" + name + ">Shop" + items(items) + "</" + name.toUpperCase() + "><p>after</p>",
+                      name + ", upper case end tag after " + items + " items");
+            }
+        }
+        System.out.println("StreamedEndTagTest: ok");
+    }
+
+    private static String items(int count) {
+        StringBuilder accum = new StringBuilder();
+        for (int i = 0; i < count; i++)
+            accum.append("<p>item ").append(i).append(" &amp; more</p>\n");
+        return accum.toString();
+    }
+
+    private static void check(String html, String what) throws IOException {
+        String expected = HtmlParser.parse(html).outerHtml();
+        Check.equal(expected, HtmlParser.parse(new StringReader(html)).outerHtml(), what + ": from a Reader");
+        CharacterReader small = new CharacterReader(new StringReader(html), CharacterReader.minBufferLen);
+        Check.equal(expected, new DataSourceTreeBuilder().parse(small, ParseErrorList.off()).outerHtml(),
+                    what + ": through the smallest window");
+
+        Charset utf8 = Charset.forName("UTF-8");
+        byte[] bytes = html.getBytes(utf8);
+        Check.equal(expected, HtmlParser.parse(new ByteArrayInputStream(bytes), utf8).outerHtml(),
+                    what + ": from a byte stream");
+        Path file = Files.createTempFile("streamed-end-tag", ".html");
+        try {
+            Files.write(file, bytes);
+            Check.equal(expected, HtmlParser.parse(file, utf8).outerHtml(), what + ": from a file");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
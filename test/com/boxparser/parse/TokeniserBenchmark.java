@@ -0,0 +1,94 @@
+package com.boxparser.parse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+/**
+ * Times the tokeniser on its own, with and without character reference decoding, and a whole parse, on one thread and
+ * pipelined, over a file or a generated page.
+ * <p>
+ * Run with {@code java com.boxparser.parse.TokeniserBenchmark [file.html] [charset]}.
+ */
+public class TokeniserBenchmark {
+
+    private static int sink;
+
+    public static void main(String[] args) throws IOException {
+        String html = page(2000);
+        if (args.length > 0) {
+            Charset charset = args.length > 1 ? Charset.forName(args[1]) : HtmlParser.defaultCharset;
+            html = new String(Files.readAllBytes(new File(args[0]).toPath()), charset);
+        }
+        HtmlParser.ParseSettings verbatim = HtmlParser.ParseSettings.defaultParseSettings();
+        HtmlParser.ParseSettings decoding = new HtmlParser.ParseSettings().decodeEntities(true);
+        HtmlParser.ParseSettings pipelined = new HtmlParser.ParseSettings().pipelined(true);
+
+        for (int warm = 0; warm < 30; warm++) {
+            tokenise(html, verbatim);
+            tokenise(html, decoding);
+            HtmlParser.parse(html);
+            HtmlParser.parse(html, pipelined);
+        }
+        System.out.printf("%d chars%n", html.length());
+        System.out.printf("tokenise, verbatim\t%.2f MB/s%n", rate(html, verbatim, 0));
+        System.out.printf("tokenise, decoding\t%.2f MB/s%n", rate(html, decoding, 0));
+        System.out.printf("parse\t%.2f MB/s%n", rate(html, verbatim, 1));
+        System.out.printf("parse, pipelined\t%.2f MB/s%n", rate(html, pipelined, 1));
+        if (sink == 42) System.out.println();
+    }
+
+    /**
+     * The best of five timed rounds, in MB of chars per second.
+     */
+    private static double rate(String html, HtmlParser.ParseSettings settings, int mode) {
+        int reps = 20;
+        double best = 0;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int rep = 0; rep < reps; rep++) {
+                if (mode == 0) tokenise(html, settings);
+                else sink += HtmlParser.parse(html, settings).childNodes().size();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            best = Math.max(best, html.length() * (double) reps / seconds / (1024 * 1024));
+        }
+        return best;
+    }
+
+    private static void tokenise(String html, HtmlParser.ParseSettings settings) {
+        DataSourceTokeniser tokeniser = new DataSourceTokeniser(new CharacterReader(html),
+                                                                ParseErrorList.off(), settings);
+        DataSourceTokeniserState rawText = null;
+        Token token;
+        do {
+            tokeniser.acknowledgeSelfClosingFlag();
+            token = tokeniser.read();
+            if (token.type == Token.TokenType.StartTag) {
+                rawText = DataSourceTokeniserState.rawTextStateFor(token.asStartTag().name());
+                if (rawText != null) tokeniser.transition(rawText);
+            }
+            sink++;
+        } while (token.type != Token.TokenType.EOF);
+    }
+
+    /**
+     * A page of the usual mix: nested blocks with a few attributes each, links, text with references, a script.
+     */
+    private static String page(int items) {
+        StringBuilder accum = new StringBuilder("<!DOCTYPE html><html><head><title>Items &amp; more</title>");
+        accum.append("<script>var items = []; for (var i = 0; i < 10; i++) { items.push(i); }</script></head><body>\n");
+        for (int i = 0; i < items; i++) {
+            accum.append("<div class=\"item item-").append(i % 7).append("\" id=\"item").append(i).append("\">\n");
+            accum.append("  <a href=\"/item?id=").append(i).append("&amp;page=2\" title='Item ").append(i)
+                 .append("'>Item ").append(i).append("</a>\n");
+            accum.append("  <p>Some text about the item, &copy; 2013 &lt;example&gt;, with <b>bold</b> and <i>")
+                 .append("italic</i> words in it.<br/></p>\n");
+            accum.append("  <!-- item ").append(i).append(" -->\n");
+            accum.append("  <input type=text name=q").append(i).append(" value=\"search\" disabled>\n");
+            accum.append("</div>\n");
+        }
+        return accum.append("</body></html>").toString();
+    }
+}
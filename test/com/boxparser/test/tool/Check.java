@@ -0,0 +1,21 @@
+package com.boxparser.test.tool;
+
+/**
+ * Assertions for the behaviour tests, which run as plain mains: a failed check throws, so the run ends with a stack
+ * trace naming the case, and a non-zero exit.
+ */
+public final class Check {
+
+    private Check(){
+    }
+
+    public static void equal(Object expected, Object actual, String what) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(what + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+
+    public static void isTrue(boolean condition, String what) {
+        if (!condition) throw new AssertionError(what);
+    }
+}